@@ -0,0 +1,75 @@
+#!/usr/bin/env bash
+#
+# Starts the application a number of times and reports, for each start, how long it took to report ready and the
+# resident memory (RSS) of the JVM once it had. The arguments are the command that starts the application:
+#
+#   bin/measure-startup.sh java -jar build/libs/test-backend.jar
+#   bin/measure-startup.sh java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+#     -jar application/test-backend.jar
+#
+# Ready is what a Kubernetes readiness probe sees, so it includes the warm-up; set CASES_WARM_UP_ENABLED=false to
+# time the start alone. The database the application is configured for must be running.
+#
+#   RUNS       starts to measure, after one that is not counted (default 5)
+#   READY_URL  the readiness endpoint to poll (default http://localhost:4000/health/readiness)
+#   TIMEOUT    seconds to wait for each start (default 120)
+
+set -euo pipefail
+
+if [ $# -eq 0 ]; then
+  sed -n '3,16p' "$0"
+  exit 1
+fi
+
+RUNS=${RUNS:-5}
+READY_URL=${READY_URL:-http://localhost:4000/health/readiness}
+TIMEOUT=${TIMEOUT:-120}
+LOG=$(mktemp)
+trap 'rm -f "$LOG"' EXIT
+
+now_millis() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Prints the milliseconds to ready and the RSS in MB, leaving the application stopped
+measure() {
+  local start pid ready rss
+  start=$(now_millis)
+  "$@" > "$LOG" 2>&1 &
+  pid=$!
+  until curl -fs -o /dev/null "$READY_URL"; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "The application exited before it was ready:" >&2
+      tail -20 "$LOG" >&2
+      exit 1
+    fi
+    if [ $(( $(now_millis) - start )) -gt $(( TIMEOUT * 1000 )) ]; then
+      echo "The application was not ready after ${TIMEOUT}s" >&2
+      kill "$pid"
+      exit 1
+    fi
+    sleep 0.05
+  done
+  ready=$(( $(now_millis) - start ))
+  rss=$(( $(ps -o rss= -p "$pid") / 1024 ))
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+  echo "$ready $rss"
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : (values[NR / 2] + values[NR / 2 + 1]) / 2 }'
+}
+
+# The first start pays for the operating system reading the jars from disk, so is left out
+measure "$@" > /dev/null
+
+results=()
+for run in $(seq "$RUNS"); do
+  result=$(measure "$@")
+  results+=("$result")
+  echo "run $run: ready in ${result% *} ms, RSS ${result#* } MB"
+done
+
+printf '%s\n' "${results[@]}" | cut -d' ' -f1 | median | xargs printf 'median: ready in %s ms, '
+printf '%s\n' "${results[@]}" | cut -d' ' -f2 | median | xargs printf 'RSS %s MB\n'
@@ -0,0 +1,104 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares title search latency before and after the trigram index, at production-like volumes.
+ * Run with {@code ./gradlew benchmark}; the row count and number of searches can be changed with the
+ * {@code benchmark.rows} and {@code benchmark.iterations} system properties.
+ */
+@SpringBootTest
+@Testcontainers
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CaseSearchBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CaseSearchBenchmarkTest.class);
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 100);
+    private static final int WARM_UP = 5;
+
+    // The SQL Hibernate generated for the old findCasesByTitleContainingIgnoreCase method
+    private static final String CONTAINING_IGNORE_CASE = "select id, case_number, title, description, created_date "
+        + "from cases where upper(title) like upper(?) escape '\\'";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("benchmark-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Test
+    void indexedTitleSearchShouldBeatContainingIgnoreCaseScan() {
+        jdbcTemplate.update(
+            "insert into cases (id, case_number, title, description, created_date, version, updated_date) "
+                + "select nextval('cases_id_seq'), i % 5000, 'Case ' || substr(md5(i::text), 1, 12), "
+                + "'\\x00'::bytea || convert_to(repeat('x', 200), 'UTF8'), "
+                + "now() - make_interval(mins => i), 0, now() "
+                + "from generate_series(1, ?) i",
+            ROWS
+        );
+        jdbcTemplate.execute("analyze cases");
+        // Five hex characters taken from real titles match a handful of rows each
+        List<String> terms = jdbcTemplate.queryForList(
+            "select substr(title, 8, 5) from cases tablesample bernoulli (1) limit ?", String.class,
+            ITERATIONS + WARM_UP
+        );
+
+        LatencyRecorder scan = new LatencyRecorder("containing-ignore-case scan");
+        terms.stream().limit(WARM_UP).forEach(term -> containingIgnoreCase(term));
+        terms.stream().skip(WARM_UP).forEach(term -> scan.time(() -> containingIgnoreCase(term)));
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/V002_CasesSearchIndexes.sql")).execute(dataSource);
+        jdbcTemplate.execute("analyze cases");
+
+        LatencyRecorder indexed = new LatencyRecorder("ranked trigram search");
+        terms.stream().limit(WARM_UP).forEach(term -> caseRepository.searchByTitle(term, PageRequest.of(0, 100)));
+        terms.stream().skip(WARM_UP)
+            .forEach(term -> indexed.time(() -> caseRepository.searchByTitle(term, PageRequest.of(0, 100))));
+
+        LOG.info("Title search over {} rows\n  {}\n  {}", ROWS, scan, indexed);
+        assertThat(indexed.percentileMillis(99)).isLessThan(scan.percentileMillis(99));
+    }
+
+    private List<?> containingIgnoreCase(String term) {
+        return jdbcTemplate.queryForList(CONTAINING_IGNORE_CASE, "%" + term + "%");
+    }
+}
@@ -0,0 +1,165 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.Application;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares throughput and tail latency of the case API on Tomcat's platform-thread pool, in the
+ * virtual-threads profile and on the reactive stack, with more concurrent clients than Tomcat has platform threads.
+ * Every run uses the same database and the same connection pool size. The platform threads and heap in use at the
+ * end of each run show what the server holds for the open connections.
+ * Run with {@code ./gradlew benchmark}; the load can be changed with the {@code benchmark.clients},
+ * {@code benchmark.seconds} and {@code benchmark.rows} system properties.
+ */
+@Testcontainers
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExecutionModeBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutionModeBenchmarkTest.class);
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1000);
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 20);
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 100_000);
+    private static final int POOL_SIZE = 20;
+    private static final int WARM_UP_SECONDS = 5;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("benchmark-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+
+    @Test
+    void compareExecutionModes() throws Exception {
+        LoadResult platform = run("default");
+        LoadResult virtual = run("virtual-threads");
+        LoadResult reactive = run("reactive");
+
+        LOG.info("{} clients for {}s against {} rows\n  {}\n  {}\n  {}",
+                 CLIENTS, SECONDS, ROWS, platform, virtual, reactive);
+    }
+
+    private LoadResult run(String profile) throws Exception {
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(Application.class)
+            .profiles(profile)
+            // Command-line arguments, as they take precedence over application.yaml
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.r2dbc.url=r2dbc:postgresql://" + postgres.getHost() + ":"
+                    + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + postgres.getDatabaseName(),
+                "--spring.r2dbc.username=" + postgres.getUsername(),
+                "--spring.r2dbc.password=" + postgres.getPassword(),
+                "--spring.r2dbc.pool.max-size=" + POOL_SIZE,
+                "--spring.jpa.hibernate.ddl-auto=update",
+                // Measures how each mode copes with the whole load, rather than how much of it is shed
+                "--cases.admission.enabled=false"
+            )) {
+            seed(app.getBean(JdbcTemplate.class));
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            List<String> titles = app.getBean(JdbcTemplate.class).queryForList(
+                "select substr(title, 8, 4) from cases tablesample bernoulli (1) limit 1000", String.class
+            );
+
+            drive(port, titles, WARM_UP_SECONDS, new LatencyRecorder("warm-up"), new AtomicInteger());
+            LatencyRecorder latencies = new LatencyRecorder(profile);
+            AtomicInteger errors = new AtomicInteger();
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+            drive(port, titles, SECONDS, latencies, errors);
+            // Clients run on virtual threads, which are not counted, so the peak is the server's platform threads
+            long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            return new LoadResult(latencies, errors.get(), latencies.count() / (double) SECONDS,
+                                  threads.getPeakThreadCount(), heapUsed);
+        }
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Integer existing = jdbcTemplate.queryForObject("select count(*) from cases", Integer.class);
+        if (existing != null && existing >= ROWS) {
+            return;
+        }
+        jdbcTemplate.update(
+            "insert into cases (id, case_number, title, description, created_date, version, updated_date) "
+                + "select nextval('cases_id_seq'), i % 5000, 'Case ' || substr(md5(i::text), 1, 12), "
+                + "'\\x00'::bytea || convert_to(repeat('x', 200), 'UTF8'), "
+                + "now() - make_interval(mins => i), 0, now() "
+                + "from generate_series(1, ?) i",
+            ROWS
+        );
+        jdbcTemplate.execute("analyze cases");
+    }
+
+    private void drive(int port, List<String> titles, int seconds, LatencyRecorder latencies, AtomicInteger errors)
+        throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        String title = titles.get(ThreadLocalRandom.current().nextInt(titles.size()));
+                        HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + "/case/searchCases?size=20&title=" + title)
+                        ).timeout(Duration.ofSeconds(30)).build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response =
+                                httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                latencies.record(System.nanoTime() - start);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+        }
+    }
+
+    private record LoadResult(LatencyRecorder latencies, int errors, double throughput, int peakThreads,
+                              long heapUsed) {
+
+        @Override
+        public String toString() {
+            return String.format("%s errors=%d throughput=%.0f req/s peakThreads=%d heapUsed=%d MB",
+                                 latencies, errors, throughput, peakThreads, heapUsed / (1024 * 1024));
+        }
+    }
+}
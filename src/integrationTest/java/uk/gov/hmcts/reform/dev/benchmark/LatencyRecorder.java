@@ -0,0 +1,60 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Records call latencies and reports percentiles. Safe to share between threads.
+ */
+final class LatencyRecorder {
+
+    private final String name;
+    private long[] samples = new long[1024];
+    private int count;
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    <T> T time(Supplier<T> call) {
+        long start = System.nanoTime();
+        T result = call.get();
+        record(System.nanoTime() - start);
+        return result;
+    }
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    /**
+     * Latency at the given percentile, using the nearest-rank method.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in milliseconds
+     */
+    synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s: n=%d p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+            name, count(), percentileMillis(50), percentileMillis(95), percentileMillis(99), percentileMillis(100)
+        );
+    }
+}
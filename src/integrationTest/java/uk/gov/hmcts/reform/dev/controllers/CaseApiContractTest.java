@@ -0,0 +1,542 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * The behaviour of the {@code /case} API, called over HTTP so the same tests run against the servlet stack in
+ * {@link CaseControllerTest} and the reactive stack in {@link ReactiveCaseControllerTest}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@ActiveProfiles("test")
+abstract class CaseApiContractTest {
+
+    public static final String CASE_ID = "/case/{id}";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("integration-tests-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Case exampleCaseOne;
+    private Case exampleCaseTwo;
+
+    @BeforeEach
+    void setUp() {
+        // The collection version counters behind the list ETags; the migration can be run again
+        ResourceDatabasePopulator migration =
+            new ResourceDatabasePopulator(new ClassPathResource("db/V009_CaseCollectionVersions.sql"));
+        migration.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        migration.execute(dataSource);
+        caseRepository.deleteAll();
+        exampleCaseOne = Case.builder()
+            .title("Case 1 Title")
+            .caseNumber(1234)
+            .description("Case 1 Description")
+            .build();
+        exampleCaseTwo = Case.builder()
+            .title("Case 2 Title")
+            .caseNumber(5678)
+            .description("Case 2 Description")
+            .build();
+        exampleCaseOne = caseRepository.save(exampleCaseOne);
+        exampleCaseTwo = caseRepository.save(exampleCaseTwo);
+    }
+
+    @AfterEach
+    void tearDown() {
+        caseRepository.deleteAll();
+    }
+
+    @Test
+    void getAllCasesShouldReturnSortedCases() {
+        Case caseToSave = Case.builder()
+            .title("Case 3 Title")
+            .caseNumber(91011)
+            .description("Case 3 Description")
+            .build();
+        Case savedCase = caseRepository.save(caseToSave);
+        List<Case> expectedCases = Arrays.asList(exampleCaseOne, exampleCaseTwo, savedCase);
+        expectedCases.sort(java.util.Comparator.comparingInt(Case::getId));
+
+        client.get().uri("/case/getAllCases")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(3))
+            .jsonPath("$[0].id").isEqualTo(expectedCases.get(0).getId())
+            .jsonPath("$[0].title").isEqualTo(expectedCases.get(0).getTitle())
+            .jsonPath("$[0].description").doesNotExist()
+            .jsonPath("$[1].id").isEqualTo(expectedCases.get(1).getId())
+            .jsonPath("$[2].id").isEqualTo(expectedCases.get(2).getId());
+    }
+
+    @Test
+    void shouldReturnEmptyListWhenNoCasesExist() {
+        caseRepository.deleteAll();
+        client.get().uri("/case/getAllCases")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(0));
+    }
+
+    @Test
+    void getAllCasesShouldResumeAfterGivenId() {
+        client.get().uri("/case/getAllCases?afterId={afterId}", exampleCaseOne.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(1))
+            .jsonPath("$[0].id").isEqualTo(exampleCaseTwo.getId());
+    }
+
+    @Test
+    void getAllCasesWithLimitShouldReturnPagesLinkedByCursor() {
+        client.get().uri("/case/getAllCases?limit=1")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.cases").value(hasSize(1))
+            .jsonPath("$.cases[0].id").isEqualTo(exampleCaseOne.getId())
+            .jsonPath("$.nextCursor").isEqualTo(exampleCaseOne.getId());
+
+        client.get().uri("/case/getAllCases?afterId={afterId}&limit=1", exampleCaseOne.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.cases").value(hasSize(1))
+            .jsonPath("$.cases[0].id").isEqualTo(exampleCaseTwo.getId())
+            .jsonPath("$.nextCursor").value(nullValue());
+    }
+
+    @Test
+    void getAllCasesWithLimitOutOfRangeShouldReturnBadRequest() {
+        client.get().uri("/case/getAllCases?limit=0")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void addCaseShouldCreateNewCase() throws Exception {
+        Case newCase = Case.builder()
+            .title("New Case Title")
+            .caseNumber(12345)
+            .description("New Case")
+            .build();
+
+        client.post().uri("/case/addCase")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(objectMapper.writeValueAsString(newCase))
+            .exchange()
+            .expectStatus().isOk();
+
+        List<Case> cases = (List<Case>) caseRepository.findAll();
+        assertThat(cases).hasSize(3);
+        assertThat(cases).anyMatch(c -> "New Case".equals(c.getDescription()));
+    }
+
+    @Test
+    void getCasesShouldReturnEachIdInRequestOrder() {
+        client.post().uri("/case/getCases")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(List.of(exampleCaseTwo.getId(), 999, exampleCaseOne.getId(), exampleCaseTwo.getId()))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(4))
+            .jsonPath("$[0].id").isEqualTo(exampleCaseTwo.getId())
+            .jsonPath("$[0].status").isEqualTo("FOUND")
+            .jsonPath("$[0].case.title").isEqualTo(exampleCaseTwo.getTitle())
+            .jsonPath("$[0].case.description").isEqualTo(exampleCaseTwo.getDescription())
+            .jsonPath("$[1].id").isEqualTo(999)
+            .jsonPath("$[1].status").isEqualTo("NOT_FOUND")
+            .jsonPath("$[1].case").doesNotExist()
+            .jsonPath("$[2].case.id").isEqualTo(exampleCaseOne.getId())
+            .jsonPath("$[3].case.id").isEqualTo(exampleCaseTwo.getId());
+    }
+
+    @Test
+    void getCasesShouldRejectNullIds() {
+        client.post().uri("/case/getCases")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("[1, null]")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void getCaseByIdShouldReturnCaseWhenExists() {
+        client.get().uri(CASE_ID, exampleCaseOne.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.id").isEqualTo(exampleCaseOne.getId())
+            .jsonPath("$.description").isEqualTo(exampleCaseOne.getDescription());
+    }
+
+    @Test
+    void getCaseByIdShouldReturnOkWithNullBodyWhenNotExists() {
+        int nonExistentId = 999;
+        client.get().uri(CASE_ID, nonExistentId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody().isEmpty();
+    }
+
+    @Test
+    void getCaseByIdShouldReturnNotModifiedForCurrentETag() {
+        String etag = client.get().uri(CASE_ID, exampleCaseOne.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"")
+            .expectBody().returnResult().getResponseHeaders().getETag();
+
+        client.get().uri(CASE_ID, exampleCaseOne.getId())
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .exchange()
+            .expectStatus().isNotModified();
+    }
+
+    @Test
+    void listsShouldReturnNotModifiedUntilAnyCaseChanges() {
+        String etag = client.get().uri("/case/getAllCases?limit=10")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody().returnResult().getResponseHeaders().getETag();
+        assertThat(etag).startsWith("W/");
+
+        client.get().uri("/case/getAllCases?limit=10")
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .exchange()
+            .expectStatus().isNotModified();
+        client.get().uri("/case/searchCases?title=Case")
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .exchange()
+            .expectStatus().isNotModified();
+
+        client.put().uri(CASE_ID, exampleCaseTwo.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
+            .bodyValue("{\"caseNumber\": 5678, \"title\": \"Case 2 Renamed\"}")
+            .exchange()
+            .expectStatus().isOk();
+
+        client.get().uri("/case/getAllCases?limit=10")
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.cases[1].title").isEqualTo("Case 2 Renamed");
+    }
+
+    @Test
+    void updateCaseShouldRejectStaleVersions() throws Exception {
+        String update = "{\"caseNumber\": 1234, \"title\": \"Case 1 Updated\", \"version\": 0}";
+        client.put().uri(CASE_ID, exampleCaseOne.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(update)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+            .expectBody()
+            .jsonPath("$.version").isEqualTo(1)
+            .jsonPath("$.title").isEqualTo("Case 1 Updated");
+
+        client.put().uri(CASE_ID, exampleCaseOne.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(update)
+            .exchange()
+            .expectStatus().isEqualTo(409);
+        client.put().uri(CASE_ID, exampleCaseOne.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
+            .bodyValue(update)
+            .exchange()
+            .expectStatus().isEqualTo(412);
+        client.put().uri(CASE_ID, 999)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(update)
+            .exchange()
+            .expectStatus().isNotFound();
+
+        exampleCaseOne.setTitle("Written from a stale read");
+        client.post().uri("/case/addCase")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(objectMapper.writeValueAsString(exampleCaseOne))
+            .exchange()
+            .expectStatus().isEqualTo(409);
+        assertThat(caseRepository.findCaseById(exampleCaseOne.getId()).getTitle()).isEqualTo("Case 1 Updated");
+    }
+
+
+    @Test
+    void deleteCaseByIdShouldRemoveCase() {
+        client.delete().uri(CASE_ID, exampleCaseOne.getId())
+            .exchange()
+            .expectStatus().isOk();
+
+        assertThat(caseRepository.findCaseById(exampleCaseOne.getId())).isNull();
+        assertThat(caseRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void createdStatsShouldCountCasesByPeriod() {
+        LocalDate day = LocalDate.of(2026, 1, 14);
+        caseRepository.save(Case.builder().title("Created").caseNumber(1).createdDate(day.atTime(9, 30)).build());
+
+        client.get().uri("/case/stats/created?period=day&from={from}&to={to}", day.minusDays(1), day.plusDays(1))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.total").isEqualTo(1)
+            .jsonPath("$.counts").value(hasSize(1))
+            .jsonPath("$.counts[0].start").isEqualTo(day.toString())
+            .jsonPath("$.counts[0].count").isEqualTo(1);
+        client.get().uri("/case/stats/created?period=week&from={from}&to={to}", day, day.plusDays(1))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.from").isEqualTo("2026-01-12")
+            .jsonPath("$.to").isEqualTo("2026-01-19")
+            .jsonPath("$.counts[0].start").isEqualTo("2026-01-12");
+        client.get().uri("/case/stats/created?period=month")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void searchCasesShouldReturnCasesByCaseNumber() {
+        client.get().uri("/case/searchCases?caseNumber={caseNumber}", exampleCaseOne.getCaseNumber())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(1))
+            .jsonPath("$[0].id").isEqualTo(exampleCaseOne.getId())
+            .jsonPath("$[0].title").isEqualTo(exampleCaseOne.getTitle())
+            .jsonPath("$[0].description").doesNotExist();
+    }
+
+    @Test
+    void searchCasesShouldReturnCasesByTitle() {
+        client.get().uri("/case/searchCases?title={title}", exampleCaseTwo.getTitle())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(1))
+            .jsonPath("$[0].id").isEqualTo(exampleCaseTwo.getId())
+            .jsonPath("$[0].title").isEqualTo(exampleCaseTwo.getTitle())
+            .jsonPath("$[0].description").doesNotExist();
+    }
+
+    @Test
+    void searchCasesShouldReturnAllCasesWhenNoParamsProvided() {
+        client.get().uri("/case/searchCases")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(2))
+            .jsonPath("$[0].id").isEqualTo(exampleCaseOne.getId())
+            .jsonPath("$[1].id").isEqualTo(exampleCaseTwo.getId());
+    }
+
+    @Test
+    void searchCasesShouldReturnEmptyListWhenNoCasesMatch() {
+        client.get().uri("/case/searchCases?caseNumber=99999")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(0));
+    }
+
+    @Test
+    void searchCasesShouldReturnCasesByCaseNumberAndTitle() {
+        client.get().uri("/case/searchCases?caseNumber={caseNumber}&title={title}",
+                         exampleCaseOne.getCaseNumber(), exampleCaseOne.getTitle())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(1))
+            .jsonPath("$[0].id").isEqualTo(exampleCaseOne.getId())
+            .jsonPath("$[0].title").isEqualTo(exampleCaseOne.getTitle())
+            .jsonPath("$[0].description").doesNotExist();
+    }
+
+    @Test
+    void searchCasesShouldReturnOnlyRequestedFields() {
+        client.get().uri("/case/searchCases?caseNumber={caseNumber}&fields=id,title", exampleCaseOne.getCaseNumber())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$[0].id").isEqualTo(exampleCaseOne.getId())
+            .jsonPath("$[0].title").isEqualTo(exampleCaseOne.getTitle())
+            .jsonPath("$[0].caseNumber").doesNotExist()
+            .jsonPath("$[0].createdDate").doesNotExist();
+    }
+
+    @Test
+    void listsShouldRejectUnknownFields() {
+        client.get().uri("/case/searchCases?fields=description")
+            .exchange()
+            .expectStatus().isBadRequest();
+        client.get().uri("/case/getAllCases?limit=10&fields=id,nope")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void pagedListShouldReturnOnlyRequestedFields() {
+        client.get().uri("/case/getAllCases?limit=1&fields=id")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.cases[0].id").isEqualTo(exampleCaseOne.getId())
+            .jsonPath("$.cases[0].title").doesNotExist()
+            .jsonPath("$.nextCursor").isEqualTo(exampleCaseOne.getId());
+    }
+
+    @Test
+    void searchCasesShouldRankExactThenPrefixThenContainingTitleMatches() {
+        Case containing = caseRepository.save(Case.builder().title("Appeal against Hearing").caseNumber(1).build());
+        Case prefix = caseRepository.save(Case.builder().title("Hearing adjourned").caseNumber(2).build());
+        Case exact = caseRepository.save(Case.builder().title("HEARING").caseNumber(3).build());
+
+        client.get().uri("/case/searchCases?title=hearing")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(3))
+            .jsonPath("$[0].id").isEqualTo(exact.getId())
+            .jsonPath("$[1].id").isEqualTo(prefix.getId())
+            .jsonPath("$[2].id").isEqualTo(containing.getId());
+    }
+
+    @Test
+    void searchCasesShouldTreatLikeWildcardsInTitleLiterally() {
+        Case discounted = caseRepository.save(Case.builder().title("Fee reduced by 50%").caseNumber(1).build());
+
+        client.get().uri("/case/searchCases?title={title}", "50%")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(1))
+            .jsonPath("$[0].id").isEqualTo(discounted.getId());
+    }
+
+    @Test
+    void searchCasesShouldReturnRequestedPage() {
+        client.get().uri("/case/searchCases?title=Title&page=1&size=1")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(1))
+            .jsonPath("$[0].id").isEqualTo(exampleCaseTwo.getId());
+    }
+
+    @Test
+    void addCasesShouldCreateValidCasesFromJsonArray() {
+        client.post().uri("/case/addCases")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("[{\"caseNumber\":1,\"title\":\"Bulk 1\"},{\"caseNumber\":2},"
+                           + "{\"caseNumber\":3,\"title\":\"Bulk 3\"}]")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(3))
+            .jsonPath("$[0].status").isEqualTo("CREATED")
+            .jsonPath("$[1].status").isEqualTo("REJECTED")
+            .jsonPath("$[2].status").isEqualTo("CREATED");
+
+        assertThat(caseRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    void addCasesShouldCreateCasesFromNdjsonAcrossBatches() {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 120; i++) {
+            ndjson.append("{\"caseNumber\":").append(i).append(",\"title\":\"Bulk ").append(i).append("\"}\n");
+        }
+
+        client.post().uri("/case/addCases")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .bodyValue(ndjson.toString())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(120))
+            .jsonPath("$[119].index").isEqualTo(119)
+            .jsonPath("$[119].status").isEqualTo("CREATED");
+
+        assertThat(caseRepository.count()).isEqualTo(122);
+        assertThat(caseRepository.searchByTitle("Bulk 119", PageRequest.of(0, 1)))
+            .singleElement()
+            .satisfies(created -> assertThat(created.createdDate()).isNotNull());
+    }
+
+    @Test
+    void addCasesShouldReportMalformedItemAndKeepThoseBeforeIt() {
+        client.post().uri("/case/addCases")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("[{\"caseNumber\":1,\"title\":\"Bulk 1\"},{\"caseNumber\":\"one\"}]")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$").value(hasSize(2))
+            .jsonPath("$[0].status").isEqualTo("CREATED")
+            .jsonPath("$[1].index").isEqualTo(1)
+            .jsonPath("$[1].status").isEqualTo("REJECTED");
+
+        assertThat(caseRepository.count()).isEqualTo(3);
+    }
+
+}
@@ -0,0 +1,233 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.model.CaseFeedEvent;
+import uk.gov.hmcts.reform.dev.repository.CaseEventRepository;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@ActiveProfiles("test")
+class CaseEventControllerTest {
+
+    private static final String EVENTS = "/case/events";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("integration-tests-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private CaseEventRepository caseEventRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository.deleteAll();
+        caseEventRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        caseRepository.deleteAll();
+        caseEventRepository.deleteAll();
+    }
+
+    @Test
+    void feedShouldListChangesInOrderWithCurrentState() throws Exception {
+        int id = addCase("{\"caseNumber\": 1, \"title\": \"Original\"}");
+        mockMvc.perform(put("/case/{id}", id)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .header(HttpHeaders.IF_MATCH, "\"0\"")
+                            .content("{\"caseNumber\": 1, \"title\": \"Renamed\"}"))
+            .andExpect(status().isOk());
+        int deletedId = addCase("{\"caseNumber\": 2, \"title\": \"Short lived\"}");
+        mockMvc.perform(delete("/case/{id}", deletedId)).andExpect(status().isOk());
+
+        mockMvc.perform(get(EVENTS))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.events", hasSize(4)))
+            .andExpect(jsonPath("$.events[0].type", is("CREATED")))
+            .andExpect(jsonPath("$.events[0].caseId", is(id)))
+            .andExpect(jsonPath("$.events[0].current.title", is("Renamed")))
+            .andExpect(jsonPath("$.events[1].type", is("UPDATED")))
+            .andExpect(jsonPath("$.events[2].type", is("CREATED")))
+            .andExpect(jsonPath("$.events[2].current").doesNotExist())
+            .andExpect(jsonPath("$.events[3].type", is("DELETED")))
+            .andExpect(jsonPath("$.events[3].caseId", is(deletedId)));
+    }
+
+    @Test
+    void feedShouldResumeAfterCursor() throws Exception {
+        addCase("{\"caseNumber\": 1, \"title\": \"First\"}");
+        addCase("{\"caseNumber\": 2, \"title\": \"Second\"}");
+
+        MvcResult firstPage = mockMvc.perform(get(EVENTS).param("limit", "1"))
+            .andExpect(jsonPath("$.events", hasSize(1)))
+            .andReturn();
+        long cursor = ((Number) JsonPath.read(
+            firstPage.getResponse().getContentAsString(), "$.nextCursor")).longValue();
+
+        mockMvc.perform(get(EVENTS).param("after", String.valueOf(cursor)))
+            .andExpect(jsonPath("$.events", hasSize(1)))
+            .andExpect(jsonPath("$.events[0].current.title", is("Second")));
+    }
+
+    @Test
+    void feedShouldRecordBulkInsertsAndPurges() throws Exception {
+        mockMvc.perform(post("/case/addCases")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[{\"caseNumber\": 3, \"title\": \"A\"}, {\"caseNumber\": 3, \"title\": \"B\"}]"))
+            .andExpect(status().isOk());
+        mockMvc.perform(post("/case/purge").contentType(MediaType.APPLICATION_JSON).content("{\"caseNumber\": 3}"))
+            .andExpect(status().isAccepted());
+
+        awaitContent(() -> mockMvc.perform(get(EVENTS)).andReturn(), "\"DELETED\".*\"DELETED\"");
+        mockMvc.perform(get(EVENTS))
+            .andExpect(jsonPath("$.events", hasSize(4)))
+            .andExpect(jsonPath("$.events[0].type", is("CREATED")))
+            .andExpect(jsonPath("$.events[1].type", is("CREATED")))
+            .andExpect(jsonPath("$.events[2].type", is("DELETED")))
+            .andExpect(jsonPath("$.events[3].type", is("DELETED")));
+    }
+
+    @Test
+    void longPollShouldCompleteWhenACaseIsAdded() throws Exception {
+        MvcResult pending = mockMvc.perform(get(EVENTS).param("wait", "10"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        int id = addCase("{\"caseNumber\": 4, \"title\": \"Awaited\"}");
+
+        mockMvc.perform(asyncDispatch(pending))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.events", hasSize(1)))
+            .andExpect(jsonPath("$.events[0].caseId", is(id)));
+    }
+
+    @Test
+    void longPollShouldReturnEmptyPageWhenNothingChanges() throws Exception {
+        MvcResult pending = mockMvc.perform(get(EVENTS).param("after", "5").param("wait", "1"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.events", hasSize(0)))
+            .andExpect(jsonPath("$.nextCursor", is(5)));
+    }
+
+    @Test
+    void feedShouldRejectOutOfRangeParameters() throws Exception {
+        mockMvc.perform(get(EVENTS).param("limit", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(EVENTS).param("after", "-1")).andExpect(status().isBadRequest());
+        MvcResult negativeWait = mockMvc.perform(get(EVENTS).param("wait", "-1")).andReturn();
+        mockMvc.perform(asyncDispatch(negativeWait)).andExpect(status().isBadRequest());
+        mockMvc.perform(get(EVENTS + "/stream").header("Last-Event-ID", "-1")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamShouldSendChangesAsTheyHappen() throws Exception {
+        MvcResult stream = mockMvc.perform(get(EVENTS + "/stream").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        int id = addCase("{\"caseNumber\": 5, \"title\": \"Streamed\"}");
+
+        awaitContent(() -> stream, "id:\\d+\ndata:\\{\"sequence\":\\d+,\"caseId\":" + id + ",\"type\":\"CREATED\"");
+    }
+
+    @Test
+    void feedShouldStopAtFirstEventOfTransactionStillOpen() throws SQLException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        String insert = "insert into case_events (case_id, type, occurred) values (?, 'CREATED', now())";
+        jdbcTemplate.update(insert, 1);
+        try (Connection open = dataSource.getConnection()) {
+            open.setAutoCommit(false);
+            try (PreparedStatement statement = open.prepareStatement(insert)) {
+                statement.setInt(1, 2);
+                statement.executeUpdate();
+            }
+            // Commits before the event above, but the cursor must not move past that one
+            jdbcTemplate.update(insert, 3);
+
+            assertThat(caseEventRepository.findAfter(0, 10)).extracting(CaseFeedEvent::caseId).containsExactly(1);
+            open.commit();
+        }
+
+        assertThat(caseEventRepository.findAfter(0, 10)).extracting(CaseFeedEvent::caseId).containsExactly(1, 2, 3);
+    }
+
+    private int addCase(String json) throws Exception {
+        MvcResult result = mockMvc.perform(post("/case/addCase").contentType(MediaType.APPLICATION_JSON).content(json))
+            .andExpect(status().isOk())
+            .andReturn();
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.id");
+    }
+
+    private void awaitContent(Callable<MvcResult> request, String pattern) throws Exception {
+        Pattern expected = Pattern.compile(pattern, Pattern.DOTALL);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        String content = request.call().getResponse().getContentAsString();
+        while (!expected.matcher(content).find()) {
+            assertThat(System.nanoTime()).as("Waiting for %s in %s", pattern, content).isLessThan(deadline);
+            Thread.sleep(50);
+            content = request.call().getResponse().getContentAsString();
+        }
+    }
+}
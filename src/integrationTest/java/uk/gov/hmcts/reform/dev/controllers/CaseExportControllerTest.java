@@ -0,0 +1,134 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@Testcontainers
+@ActiveProfiles("test")
+class CaseExportControllerTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("integration-tests-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    private Case oldCase;
+    private Case newCase;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository.deleteAll();
+        oldCase = caseRepository.save(Case.builder()
+                                          .title("Old, closed")
+                                          .caseNumber(1234)
+                                          .createdDate(LocalDateTime.of(2020, 1, 1, 0, 0))
+                                          .build());
+        newCase = caseRepository.save(Case.builder()
+                                          .title("New")
+                                          .caseNumber(1234)
+                                          .createdDate(LocalDateTime.of(2025, 6, 1, 0, 0))
+                                          .build());
+        caseRepository.save(Case.builder()
+                                .title("Other case number")
+                                .caseNumber(5678)
+                                .createdDate(LocalDateTime.of(2025, 6, 1, 0, 0))
+                                .build());
+    }
+
+    @Test
+    void exportShouldStreamNdjsonForCaseNumber() throws Exception {
+        MvcResult result = export(get("/case/export").param("caseNumber", "1234"));
+
+        assertThat(result.getResponse().getContentType()).isEqualTo("application/x-ndjson");
+        assertThat(result.getResponse().getContentAsString().lines())
+            .hasSize(2)
+            .first().asString().contains("\"id\":" + oldCase.getId());
+    }
+
+    @Test
+    void exportShouldStreamGzippedCsvForCreatedDateRange() throws Exception {
+        MvcResult result = export(get("/case/export")
+                                      .param("format", "csv")
+                                      .param("gzip", "true")
+                                      .param("caseNumber", "1234")
+                                      .param("createdFrom", "2025-01-01T00:00:00")
+                                      .param("createdTo", "2026-01-01T00:00:00"));
+
+        assertThat(result.getResponse().getHeader("Content-Disposition")).contains("cases.csv.gz");
+        try (GZIPInputStream in = new GZIPInputStream(
+            new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8).lines())
+                .containsExactly(
+                    "id,caseNumber,title,description,createdDate",
+                    newCase.getId() + ",1234,New,,2025-06-01T00:00:00"
+                );
+        }
+    }
+
+    @Test
+    void exportShouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/case/export").param("format", "xml"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportShouldRejectEmptyDateRange() throws Exception {
+        mockMvc.perform(get("/case/export")
+                            .param("createdFrom", "2025-01-01T00:00:00")
+                            .param("createdTo", "2025-01-01T00:00:00"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private MvcResult export(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("Content-Disposition"))
+            .andReturn();
+    }
+}
@@ -0,0 +1,173 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CasePurgeJob;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.repository.CaseRepository.CASES_CACHE;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@ActiveProfiles("test")
+class CasePurgeControllerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("integration-tests-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository.deleteAll();
+    }
+
+    @Test
+    void purgeByCaseNumber_deletesMatchingCasesInBatches() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            save(1234, LocalDateTime.now());
+        }
+        Case kept = save(5678, LocalDateTime.now());
+
+        CasePurgeJob job = awaitPurge("{\"caseNumber\":1234}");
+
+        assertThat(job.state()).isEqualTo(CasePurgeJob.State.COMPLETED);
+        assertThat(job.deleted()).isEqualTo(5);
+        assertThat(caseRepository.findAll()).extracting(Case::getId).containsExactly(kept.getId());
+    }
+
+    @Test
+    void purgeByCreatedBefore_deletesOlderCases() throws Exception {
+        LocalDateTime cutoff = LocalDateTime.of(2026, 1, 1, 0, 0);
+        save(1, cutoff.minusDays(1));
+        Case kept = save(1, cutoff);
+
+        CasePurgeJob job = awaitPurge("{\"createdBefore\":\"2026-01-01T00:00:00\"}");
+
+        assertThat(job.deleted()).isEqualTo(1);
+        assertThat(caseRepository.findAll()).extracting(Case::getId).containsExactly(kept.getId());
+    }
+
+    @Test
+    void purgeByIds_deletesThoseCasesAndEvictsThemFromCache() throws Exception {
+        Case first = save(1, LocalDateTime.now());
+        Case second = save(1, LocalDateTime.now());
+        Case kept = save(1, LocalDateTime.now());
+
+        CasePurgeJob job = awaitPurge(objectMapper.writeValueAsString(
+            Map.of("ids", List.of(first.getId(), second.getId(), 999_999))));
+
+        assertThat(job.deleted()).isEqualTo(2);
+        assertThat(cacheManager.getCache(CASES_CACHE).get(first.getId())).isNull();
+        assertThat(caseRepository.findCaseById(first.getId())).isNull();
+        assertThat(caseRepository.findCaseById(kept.getId())).isNotNull();
+    }
+
+    @Test
+    void purgeWithoutCriteria_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/case/purge").contentType(MediaType.APPLICATION_JSON).content("{}"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/case/purge").contentType(MediaType.APPLICATION_JSON).content("{\"ids\":[]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getUnknownPurge_returnsNotFound() throws Exception {
+        mockMvc.perform(get("/case/purge/{id}", UUID.randomUUID()))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteCaseById_deletesCaseAndEvictsIt() throws Exception {
+        Case saved = save(1, LocalDateTime.now());
+
+        mockMvc.perform(delete("/case/{id}", saved.getId())).andExpect(status().isOk());
+
+        assertThat(caseRepository.findById(saved.getId())).isEmpty();
+        assertThat(cacheManager.getCache(CASES_CACHE).get(saved.getId())).isNull();
+    }
+
+    private Case save(int caseNumber, LocalDateTime createdDate) {
+        return caseRepository.save(Case.builder()
+            .caseNumber(caseNumber)
+            .title("Case " + caseNumber)
+            .createdDate(createdDate)
+            .build());
+    }
+
+    private CasePurgeJob awaitPurge(String criteria) throws Exception {
+        String location = mockMvc.perform(post("/case/purge").contentType(MediaType.APPLICATION_JSON).content(criteria))
+            .andExpect(status().isAccepted())
+            .andExpect(header().exists("Location"))
+            .andExpect(jsonPath("$.state", is("QUEUED")))
+            .andReturn()
+            .getResponse()
+            .getHeader("Location");
+
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (true) {
+            String body = mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+            CasePurgeJob job = objectMapper.readValue(body, CasePurgeJob.class);
+            if (job.finished() != null || System.nanoTime() > deadline) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+    }
+}
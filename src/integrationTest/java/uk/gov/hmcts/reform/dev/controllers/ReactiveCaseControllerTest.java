@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Runs the case API tests against the reactive stack, served over R2DBC from the same database.
+ */
+@ActiveProfiles("reactive")
+class ReactiveCaseControllerTest extends CaseApiContractTest {
+
+    @DynamicPropertySource
+    static void setR2dbcProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://" + postgres.getHost() + ":"
+            + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + postgres.getDatabaseName());
+        registry.add("spring.r2dbc.username", postgres::getUsername);
+        registry.add("spring.r2dbc.password", postgres::getPassword);
+    }
+}
@@ -0,0 +1,170 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Routes reads between two independent PostgreSQL containers standing in for a primary and its replica.
+ * Nothing replicates between them, so which rows a read returns shows which server it went to. Pages of cases are
+ * not cached, so they show the routing; lookups by ID and searches are cached, so they always read the primary.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReplicaRoutingTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("integration-tests-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("integration-tests-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("cases.datasource.replicas.enabled", () -> "true");
+        registry.add("cases.datasource.replicas.urls", replica::getJdbcUrl);
+        registry.add("cases.datasource.replicas.health-check-interval", () -> "200ms");
+    }
+
+    @BeforeAll
+    static void createReplicaTable() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                replica.getJdbcUrl(), replica.getUsername(), replica.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table cases (id integer primary key, case_number integer not null, "
+                                  + "title varchar(255), description bytea, created_date timestamp(6), "
+                                  + "version bigint not null, updated_date timestamp(6))");
+            statement.execute("insert into cases values (1000000, 1, 'Replica case', null, now(), 0, now())");
+            // Left empty, so lists read from the replica are not tagged
+            statement.execute("create table case_collection_versions "
+                                  + "(slot integer primary key, version bigint not null)");
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository.deleteAll();
+        caseRepository.save(Case.builder().caseNumber(1).title("Primary case").build());
+    }
+
+    @Test
+    @Order(1)
+    void readOnlyQueriesAreServedByReplica() throws Exception {
+        awaitPage("Replica case");
+
+        assertThat(page(null)).contains("Replica case").doesNotContain("Primary case");
+    }
+
+    @Test
+    @Order(2)
+    void cachedReadsAreServedByPrimary() throws Exception {
+        awaitPage("Replica case");
+
+        assertThat(search("case", null)).contains("Primary case").doesNotContain("Replica case");
+        mockMvc.perform(get("/case/{id}", 1000000)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(3)
+    void clientReadsItsOwnWritesFromPrimary() throws Exception {
+        awaitPage("Replica case");
+
+        Cookie primaryUntil = mockMvc.perform(post("/case/addCase")
+                                                  .contentType(MediaType.APPLICATION_JSON)
+                                                  .content("{\"caseNumber\":2,\"title\":\"Written case\"}"))
+            .andExpect(status().isOk())
+            .andExpect(cookie().exists(ReadYourWritesFilter.COOKIE))
+            .andReturn()
+            .getResponse()
+            .getCookie(ReadYourWritesFilter.COOKIE);
+
+        assertThat(page(primaryUntil)).contains("Written case");
+        assertThat(page(null)).doesNotContain("Written case");
+    }
+
+    @Test
+    @Order(4)
+    void readsFallBackToPrimaryWhenReplicaIsDown() throws Exception {
+        replica.stop();
+
+        awaitPage("Primary case");
+    }
+
+    private String page(Cookie cookie) throws Exception {
+        return read(get("/case/getAllCases").param("limit", "100"), cookie);
+    }
+
+    private String search(String title, Cookie cookie) throws Exception {
+        return read(get("/case/searchCases").param("title", title), cookie);
+    }
+
+    private String read(MockHttpServletRequestBuilder request, Cookie cookie) throws Exception {
+        if (cookie != null) {
+            request.cookie(cookie);
+        }
+        // A read may fail while a replica that has just gone down is still in rotation
+        MvcResult result = mockMvc.perform(request).andReturn();
+        return result.getResponse().getContentAsString();
+    }
+
+    private void awaitPage(String expected) throws Exception {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!page(null).contains(expected)) {
+            assertThat(System.nanoTime()).as("Timed out waiting for a page to return " + expected)
+                .isLessThan(deadline);
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.dev.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Testcontainers
+@ActiveProfiles("test")
+class CaseMetricsTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("integration-tests-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository.deleteAll();
+        caseRepository.save(Case.builder().caseNumber(1234).title("Smith v Jones").build());
+        caseRepository.save(Case.builder().caseNumber(5678).title("Brown v Green").build());
+    }
+
+    @Test
+    void requestTimersAreTaggedBySearch() throws Exception {
+        mockMvc.perform(get("/case/searchCases").param("title", "smith")).andExpect(status().isOk());
+        mockMvc.perform(get("/case/searchCases").param("caseNumber", "1234")).andExpect(status().isOk());
+
+        String scrape = scrape();
+
+        assertThat(scrape)
+            .containsPattern(
+                "http_server_requests_seconds_bucket\\{[^}]*search=\"title\"[^}]*uri=\"/case/searchCases\"")
+            .containsPattern("http_server_requests_seconds_count\\{[^}]*search=\"caseNumber\"")
+            .containsPattern("http_server_requests_seconds_count\\{[^}]*search=\"none\"[^}]*uri=\"/prometheus\"");
+    }
+
+    @Test
+    void repositoryQueriesAreTimedAndRowsCounted() throws Exception {
+        mockMvc.perform(get("/case/searchCases").param("title", "v")).andExpect(status().isOk());
+
+        String scrape = scrape();
+
+        assertThat(scrape)
+            .containsPattern("spring_data_repository_invocations_seconds_bucket\\{[^}]*method=\"findByTitleRanked\"")
+            .containsPattern("cases_repository_rows_rows_sum\\{[^}]*method=\"searchByTitle\"[^}]*} 2\\.0");
+    }
+
+    @Test
+    void connectionPoolIsInstrumented() throws Exception {
+        assertThat(scrape())
+            .contains("hikaricp_connections_active")
+            .contains("hikaricp_connections_pending")
+            .contains("hikaricp_connections_acquire_seconds_bucket");
+    }
+
+    private String scrape() throws Exception {
+        return mockMvc.perform(get("/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    }
+}
@@ -0,0 +1,193 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseNumberCount;
+import uk.gov.hmcts.reform.dev.model.CasePeriod;
+import uk.gov.hmcts.reform.dev.model.CasePeriodCount;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the count summaries of the {@code V008} migration, applied after the {@code V006} migration on top
+ * of the schema Hibernate creates, with cases in three different months. Each test uses its own case numbers and
+ * days, so counts changed by one do not show up in another.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class CaseCountSummaryTest {
+
+    private static final YearMonth CURRENT = YearMonth.now();
+    private static final YearMonth RECENT = CURRENT.minusMonths(2);
+    private static final YearMonth OLD = CURRENT.minusMonths(14);
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(5);
+    private static final int FOLD_LIMIT = 1000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("integration-tests-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        if (caseRepository.hasCountSummaries()) {
+            return;
+        }
+        insertCase(OLD, 3);
+        insertCase(RECENT, 1);
+        insertCase(CURRENT, 1);
+        insertCase(CURRENT, 2);
+        // Bring Hibernate's schema in line with the earlier migrations
+        jdbcTemplate.execute("alter table cases rename constraint cases_pkey to cases_pk");
+        jdbcTemplate.execute("create index cases_updated_date_idx on cases (updated_date)");
+        new ResourceDatabasePopulator(new ClassPathResource("db/V002_CasesSearchIndexes.sql")).execute(dataSource);
+        migrate("db/V006_CasesPartitionedByCreatedDate.sql");
+        migrate("db/V008_CaseCountSummaries.sql");
+    }
+
+    @Test
+    void migrationCountsExistingCases() {
+        assertThat(caseRepository.findCaseNumberCountSummaries())
+            .contains(new CaseNumberCount(1, 2), new CaseNumberCount(2, 1));
+        assertThat(caseRepository.findCreatedCountSummaries(CasePeriod.DAY, RECENT.atDay(1), RECENT.atDay(11)))
+            .containsExactly(new CasePeriodCount(RECENT.atDay(10), 1));
+    }
+
+    @Test
+    void writesAreCountedBeforeAndAfterFolding() {
+        LocalDate day = RECENT.atDay(20);
+        Case first = caseRepository.save(
+            Case.builder().caseNumber(10).title("First").createdDate(day.atTime(9, 0)).build()
+        );
+        Case second = caseRepository.save(
+            Case.builder().caseNumber(10).title("Second").createdDate(day.atTime(10, 0)).build()
+        );
+        second.setCaseNumber(11);
+        caseRepository.save(second);
+        caseRepository.deleteById(first.getId());
+
+        List<CaseNumberCount> beforeFolding = caseRepository.findCaseNumberCountSummaries();
+        caseRepository.foldCountDeltas(FOLD_LIMIT);
+        List<CaseNumberCount> afterFolding = caseRepository.findCaseNumberCountSummaries();
+
+        assertThat(beforeFolding).contains(new CaseNumberCount(11, 1))
+            .extracting(CaseNumberCount::caseNumber).doesNotContain(10);
+        assertThat(afterFolding).isEqualTo(beforeFolding);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from case_count_deltas", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from case_number_counts where case_number = 10", Integer.class
+        )).isZero();
+        assertThat(caseRepository.findCreatedCountSummaries(CasePeriod.DAY, day, day.plusDays(1)))
+            .containsExactly(new CasePeriodCount(day, 1));
+    }
+
+    @Test
+    void summariesMatchCountingTheTable() {
+        LocalDate from = CURRENT.minusMonths(1).atDay(1);
+        for (int i = 0; i < 20; i++) {
+            caseRepository.save(Case.builder().caseNumber(20).title("Case " + i)
+                .createdDate(from.plusDays(i * 3L).atTime(12, 0)).build());
+        }
+        caseRepository.foldCountDeltas(FOLD_LIMIT);
+        caseRepository.save(Case.builder().caseNumber(20).title("Not folded").createdDate(from.atTime(13, 0)).build());
+        LocalDate to = from.plusMonths(2);
+
+        for (CasePeriod period : CasePeriod.values()) {
+            assertThat(caseRepository.findCreatedCountSummaries(period, period.start(from), to))
+                .isEqualTo(caseRepository.findCreatedCounts(period, period.start(from), to));
+        }
+        assertThat(caseRepository.findCaseNumberCountSummaries())
+            .containsExactlyInAnyOrderElementsOf(caseRepository.findCaseNumberCounts());
+    }
+
+    @Test
+    void caseMovedToAnotherMonthIsCounted() {
+        LocalDate from = CURRENT.minusMonths(4).atDay(15);
+        LocalDate to = CURRENT.minusMonths(5).atDay(15);
+        Case moved = caseRepository.save(
+            Case.builder().caseNumber(30).title("Moved").createdDate(from.atTime(9, 0)).build()
+        );
+
+        moved.setCreatedDate(to.atTime(9, 0));
+        caseRepository.save(moved);
+
+        assertThat(caseRepository.findCreatedCountSummaries(CasePeriod.DAY, to, from.plusDays(1)))
+            .containsExactly(new CasePeriodCount(to, 1));
+    }
+
+    @Test
+    void descriptionUpdatesRecordNothing() {
+        caseRepository.save(Case.builder().caseNumber(31).title("Described").createdDate(RECENT.atDay(5).atTime(9, 0))
+            .build());
+        Integer deltas = jdbcTemplate.queryForObject("select count(*) from case_count_deltas", Integer.class);
+
+        jdbcTemplate.update("update cases set description = '\\x00'::bytea where case_number = 31");
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from case_count_deltas", Integer.class))
+            .isEqualTo(deltas);
+    }
+
+    @Test
+    void archivedPartitionIsNoLongerCounted() {
+        caseRepository.archivePartition(OLD, LOCK_TIMEOUT);
+
+        assertThat(caseRepository.findCaseNumberCountSummaries()).extracting(CaseNumberCount::caseNumber)
+            .doesNotContain(3);
+        assertThat(caseRepository.findCreatedCountSummaries(CasePeriod.DAY, OLD.atDay(1), OLD.plusMonths(1).atDay(1)))
+            .isEmpty();
+    }
+
+    private void migrate(String script) {
+        // The migrations have dollar-quoted blocks, so they are sent whole for the driver to split
+        ResourceDatabasePopulator migration = new ResourceDatabasePopulator(new ClassPathResource(script));
+        migration.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        migration.execute(dataSource);
+    }
+
+    private void insertCase(YearMonth month, int caseNumber) {
+        jdbcTemplate.update(
+            "insert into cases (id, case_number, title, created_date, version, updated_date) "
+                + "values (nextval('cases_id_seq'), ?, ?, ?, 0, now())",
+            caseNumber, "Case " + caseNumber, Timestamp.valueOf(month.atDay(10).atStartOfDay())
+        );
+    }
+}
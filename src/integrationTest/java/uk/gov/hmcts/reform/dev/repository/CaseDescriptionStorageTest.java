@@ -0,0 +1,115 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.model.Case;
+
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class CaseDescriptionStorageTest {
+
+    private static final String LONG_DESCRIPTION = "The appellant appeals against the decision. ".repeat(50);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("integration-tests-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.cache.type", () -> "none");
+        registry.add("cases.descriptions.backfill.enabled", () -> "false");
+    }
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // The collection version counters behind the list ETags; the migration can be run again
+        ResourceDatabasePopulator migration =
+            new ResourceDatabasePopulator(new ClassPathResource("db/V009_CaseCollectionVersions.sql"));
+        migration.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        migration.execute(dataSource);
+        caseRepository.deleteAll();
+    }
+
+    @Test
+    void longDescriptionsAreStoredCompressed() {
+        Case saved = caseRepository.save(newCase(LONG_DESCRIPTION));
+
+        assertThat(storedDescription(saved.getId())[0]).isEqualTo((byte) 1);
+        assertThat(storedDescription(saved.getId()).length).isLessThan(LONG_DESCRIPTION.length() / 4);
+        assertThat(caseRepository.findCaseById(saved.getId()).getDescription()).isEqualTo(LONG_DESCRIPTION);
+    }
+
+    @Test
+    void updatedDescriptionsAreEncoded() {
+        Case saved = caseRepository.save(newCase("Short"));
+
+        caseRepository.updateCase(saved.getId(), saved.getVersion(), 1, "Title", LONG_DESCRIPTION);
+
+        assertThat(storedDescription(saved.getId())[0]).isEqualTo((byte) 1);
+        assertThat(caseRepository.findCaseById(saved.getId()).getDescription()).isEqualTo(LONG_DESCRIPTION);
+    }
+
+    @Test
+    void compressDescriptionsCompressesUncompressedRowsOnly() {
+        Case saved = caseRepository.save(newCase("Short"));
+        // As the V007 migration leaves an existing description
+        jdbcTemplate.update(
+            "update cases set description = '\\x00'::bytea || convert_to(?, 'UTF8') where id = ?",
+            LONG_DESCRIPTION, saved.getId()
+        );
+        Case small = caseRepository.save(newCase("Short"));
+        Long collectionVersion = caseRepository.findCollectionVersion();
+
+        int last = caseRepository.compressDescriptions(0, 100);
+
+        assertThat(last).isEqualTo(saved.getId());
+        assertThat(storedDescription(saved.getId())[0]).isEqualTo((byte) 1);
+        assertThat(storedDescription(small.getId())[0]).isEqualTo((byte) 0);
+        assertThat(caseRepository.findCaseById(saved.getId()).getDescription()).isEqualTo(LONG_DESCRIPTION);
+        assertThat(caseRepository.findCaseById(saved.getId()).getVersion()).isEqualTo(saved.getVersion());
+        assertThat(caseRepository.findCollectionVersion()).isEqualTo(collectionVersion);
+        assertThat(caseRepository.compressDescriptions(last, 100)).isEqualTo(last);
+    }
+
+    private byte[] storedDescription(int id) {
+        return jdbcTemplate.queryForObject("select description from cases where id = ?", byte[].class, id);
+    }
+
+    private static Case newCase(String description) {
+        return Case.builder().caseNumber(1).title("Title").description(description)
+            .createdDate(LocalDateTime.now()).build();
+    }
+}
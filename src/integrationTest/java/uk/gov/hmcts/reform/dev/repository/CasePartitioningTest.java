@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.model.Case;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.dev.repository.CasePartitionRepository.ARCHIVE_SCHEMA;
+
+/**
+ * Runs against the cases table as partitioned by the {@code V006} migration, applied on top of the schema
+ * Hibernate creates, with cases in three different months.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class CasePartitioningTest {
+
+    private static final YearMonth CURRENT = YearMonth.now();
+    private static final YearMonth RECENT = CURRENT.minusMonths(2);
+    private static final YearMonth OLD = CURRENT.minusMonths(14);
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(5);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("integration-tests-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        if (caseRepository.isPartitioned()) {
+            return;
+        }
+        insertCase(OLD, "Old");
+        insertCase(RECENT, "Recent");
+        insertCase(CURRENT, "Current");
+        // Bring Hibernate's schema in line with the earlier migrations
+        jdbcTemplate.execute("alter table cases rename constraint cases_pkey to cases_pk");
+        jdbcTemplate.execute("create index cases_updated_date_idx on cases (updated_date)");
+        new ResourceDatabasePopulator(new ClassPathResource("db/V002_CasesSearchIndexes.sql")).execute(dataSource);
+        // The migration has dollar-quoted blocks, so it is sent whole for the driver to split
+        ResourceDatabasePopulator migration = new ResourceDatabasePopulator(
+            new ClassPathResource("db/V006_CasesPartitionedByCreatedDate.sql")
+        );
+        migration.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        migration.execute(dataSource);
+    }
+
+    @Test
+    void migrationCreatesPartitionsFromOldestCaseToThreeMonthsAhead() {
+        List<YearMonth> months = caseRepository.findPartitionMonths();
+
+        assertThat(months).contains(RECENT, CURRENT, CURRENT.plusMonths(3)).doesNotContain(CURRENT.plusMonths(4));
+        assertThat(months).isSorted();
+        assertThat(rowsIn("cases_default")).isZero();
+    }
+
+    @Test
+    void migratedCasesAreReadableAndNewCasesGetUnusedIds() {
+        List<Case> migrated = new ArrayList<>();
+        caseRepository.forEachCase(CaseFilter.afterId(0), migrated::add);
+
+        Case saved = caseRepository.save(
+            Case.builder().caseNumber(4).title("New").createdDate(LocalDateTime.now()).build()
+        );
+
+        assertThat(migrated).extracting(Case::getTitle).contains("Recent", "Current");
+        assertThat(saved.getId()).isGreaterThan(migrated.getLast().getId());
+        assertThat(caseRepository.findCaseById(saved.getId()).getTitle()).isEqualTo("New");
+    }
+
+    @Test
+    void createdDateRangeOnlyScansPartitionsInRange() {
+        List<Case> found = new ArrayList<>();
+        caseRepository.forEachCase(
+            new CaseFilter(0, null, RECENT.atDay(1).atStartOfDay(), RECENT.plusMonths(1).atDay(1).atStartOfDay()),
+            found::add
+        );
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+            "explain select id from cases where id > ? and created_date >= ? and created_date < ? order by id",
+            String.class,
+            0, Timestamp.valueOf(RECENT.atDay(1).atStartOfDay()),
+            Timestamp.valueOf(RECENT.plusMonths(1).atDay(1).atStartOfDay())
+        ));
+
+        assertThat(found).extracting(Case::getTitle).containsExactly("Recent");
+        assertThat(plan).contains(partitionName(RECENT)).doesNotContain(partitionName(CURRENT), "cases_default");
+    }
+
+    @Test
+    void createPartitionIsIdempotent() {
+        YearMonth month = CURRENT.plusMonths(6);
+
+        caseRepository.createPartition(month, LOCK_TIMEOUT);
+        caseRepository.createPartition(month, LOCK_TIMEOUT);
+
+        assertThat(caseRepository.findPartitionMonths()).contains(month);
+    }
+
+    @Test
+    void createPartitionMovesCasesOutOfDefaultPartition() {
+        YearMonth month = CURRENT.plusMonths(9);
+        insertCase(month, "Ahead");
+        assertThat(rowsIn("cases_default")).isEqualTo(1);
+
+        int moved = caseRepository.createPartition(month, LOCK_TIMEOUT);
+
+        assertThat(moved).isEqualTo(1);
+        assertThat(rowsIn("cases_default")).isZero();
+        assertThat(rowsIn(partitionName(month))).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from pg_inherits where inhrelid = to_regclass('cases_default')", Integer.class
+        )).isEqualTo(1);
+    }
+
+    @Test
+    void archivedPartitionIsDetachedButKept() {
+        caseRepository.archivePartition(OLD, LOCK_TIMEOUT);
+
+        List<Case> remaining = new ArrayList<>();
+        caseRepository.forEachCase(CaseFilter.afterId(0), remaining::add);
+
+        assertThat(caseRepository.findPartitionMonths()).doesNotContain(OLD);
+        assertThat(remaining).extracting(Case::getTitle).doesNotContain("Old");
+        assertThat(rowsIn(ARCHIVE_SCHEMA + "." + partitionName(OLD))).isEqualTo(1);
+    }
+
+    private void insertCase(YearMonth month, String title) {
+        jdbcTemplate.update(
+            "insert into cases (id, case_number, title, created_date, version, updated_date) "
+                + "values (nextval('cases_id_seq'), 1, ?, ?, 0, now())",
+            title, Timestamp.valueOf(month.atDay(10).atStartOfDay())
+        );
+    }
+
+    private Integer rowsIn(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return String.format("cases_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,141 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.model.Case;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.repository.CaseRepository.CASES_CACHE;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@ActiveProfiles("test")
+class CaseRepositoryCacheTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("integration-tests-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository.deleteAll();
+        cache = cacheManager.getCache(CASES_CACHE);
+    }
+
+    @Test
+    void findCaseByIdShouldBeServedFromCacheAfterFirstRead() {
+        Case saved = caseRepository.save(Case.builder().title("Cached").caseNumber(1).build());
+        cache.clear();
+
+        Case first = caseRepository.findCaseById(saved.getId());
+        Case second = caseRepository.findCaseById(saved.getId());
+
+        assertThat(cache.get(saved.getId())).isNotNull();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void saveShouldRefreshCachedCase() {
+        Case saved = caseRepository.save(Case.builder().title("Before").caseNumber(1).build());
+        caseRepository.findCaseById(saved.getId());
+
+        saved.setTitle("After");
+        caseRepository.save(saved);
+
+        assertThat(caseRepository.findCaseById(saved.getId()).getTitle()).isEqualTo("After");
+    }
+
+    @Test
+    void deleteByIdShouldEvictCachedCase() {
+        Case saved = caseRepository.save(Case.builder().title("Deleted").caseNumber(1).build());
+        caseRepository.findCaseById(saved.getId());
+
+        caseRepository.deleteById(saved.getId());
+
+        assertThat(cache.get(saved.getId())).isNull();
+        assertThat(caseRepository.findCaseById(saved.getId())).isNull();
+    }
+
+    @Test
+    void saveInRolledBackTransactionShouldNotBeCached() {
+        Case saved = new TransactionTemplate(transactionManager).execute(status -> {
+            status.setRollbackOnly();
+            return caseRepository.save(Case.builder().title("Rolled back").caseNumber(1).build());
+        });
+
+        assertThat(cache.get(saved.getId())).isNull();
+    }
+
+    @Test
+    void evictionInTransactionShouldWaitForCommit() {
+        Case saved = caseRepository.save(Case.builder().title("Before").caseNumber(1).build());
+        caseRepository.findCaseById(saved.getId());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            caseRepository.updateCase(saved.getId(), saved.getVersion(), 1, "After", null);
+            assertThat(cache.get(saved.getId())).isNotNull();
+        });
+
+        assertThat(cache.get(saved.getId())).isNull();
+        assertThat(caseRepository.findCaseById(saved.getId()).getTitle()).isEqualTo("After");
+    }
+
+    @Test
+    void missingCasesShouldNotBeCached() {
+        caseRepository.findCaseById(999);
+
+        assertThat(cache.get(999)).isNull();
+    }
+
+    @Test
+    void cacheStatisticsShouldBeExposedThroughActuator() throws Exception {
+        mockMvc.perform(get("/metrics/cache.gets").param("tag", "cache:" + CASES_CACHE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.availableTags[*].tag", hasItems("result")));
+        mockMvc.perform(get("/metrics/cache.evictions").param("tag", "cache:" + CASES_CACHE))
+            .andExpect(status().isOk());
+    }
+}
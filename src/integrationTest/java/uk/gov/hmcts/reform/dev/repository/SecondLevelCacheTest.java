@@ -0,0 +1,153 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.model.Case;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItems;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    private static final String SEARCH = "/case/searchCases?title=hearing";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("integration-tests-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    @DynamicPropertySource
+    static void setDatasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Statistics statistics;
+    private Case hearing;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository.deleteAll();
+        hearing = caseRepository.save(Case.builder().title("Hearing").caseNumber(1).build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void repeatedSearchShouldBeServedFromQueryCache() throws Exception {
+        mockMvc.perform(get(SEARCH)).andExpect(status().isOk());
+        mockMvc.perform(get(SEARCH))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id", contains(hearing.getId())));
+
+        CacheRegionStatistics searches = statistics.getQueryRegionStatistics(CaseRepository.SEARCHES_CACHE_REGION);
+        assertThat(searches.getMissCount()).isEqualTo(1);
+        assertThat(searches.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void addCaseShouldInvalidateCachedSearches() throws Exception {
+        mockMvc.perform(get(SEARCH)).andExpect(status().isOk());
+
+        String added = mockMvc.perform(post("/case/addCase")
+                                           .contentType(MediaType.APPLICATION_JSON)
+                                           .content("{\"caseNumber\": 2, \"title\": \"Hearing adjourned\"}"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get(SEARCH))
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[1].title").value("Hearing adjourned"));
+        assertThat(added).contains("Hearing adjourned");
+    }
+
+    @Test
+    void deleteCaseByIdShouldInvalidateCachedSearchesAndCase() throws Exception {
+        caseRepository.findById(hearing.getId());
+        mockMvc.perform(get(SEARCH)).andExpect(jsonPath("$.length()").value(1));
+
+        mockMvc.perform(delete("/case/{id}", hearing.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(get(SEARCH)).andExpect(jsonPath("$.length()").value(0));
+        assertThat(caseRepository.findById(hearing.getId())).isEmpty();
+    }
+
+    @Test
+    void writesAroundHibernateShouldInvalidateCachedSearches() throws Exception {
+        mockMvc.perform(get(SEARCH)).andExpect(jsonPath("$.length()").value(1));
+
+        caseRepository.deleteBatch(new CasePurgeCriteria(List.of(hearing.getId()), null, null), 10);
+
+        mockMvc.perform(get(SEARCH)).andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void multiGetShouldTakeCachedCasesFirstAndReadTheRestInOneQuery() {
+        Case other = caseRepository.save(Case.builder().title("Other").caseNumber(2).build());
+        entityManagerFactory.getCache().evict(Case.class, other.getId());
+        caseRepository.findCasesById(List.of(hearing.getId()));
+        statistics.clear();
+
+        List<Case> found = caseRepository.findCasesById(List.of(other.getId(), 999, hearing.getId()));
+
+        assertThat(found).extracting(value -> value == null ? null : value.getTitle())
+            .containsExactly("Other", null, "Hearing");
+        assertThat(statistics.getDomainDataRegionStatistics(Case.CACHE_REGION).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void regionStatisticsShouldBeExposedThroughActuator() throws Exception {
+        mockMvc.perform(get(SEARCH));
+        mockMvc.perform(get(SEARCH));
+
+        mockMvc.perform(get("/metrics/cases.l2cache.requests")
+                            .param("tag", "region:" + CaseRepository.SEARCHES_CACHE_REGION)
+                            .param("tag", "result:hit"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.measurements[0].value").value(1.0));
+        mockMvc.perform(get("/metrics/cases.l2cache.puts"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.availableTags[*].values[*]",
+                                hasItems(Case.CACHE_REGION, CaseRepository.SEARCHES_CACHE_REGION)));
+    }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.dev.storage.CaseDescriptionCodec;
+
+/**
+ * Cost of encoding a case description for storage and decoding it again, uncompressed and with LZ4, for
+ * descriptions from just over the compression threshold to the size of a long case history. The size each one is
+ * stored at is reported alongside the timings as {@code storedBytes}.
+ */
+@State(Scope.Benchmark)
+public class CaseDescriptionCodecBenchmark {
+
+    @Param({"NONE", "LZ4"})
+    private CaseDescriptionCodec.Compression compression;
+
+    @Param({"300", "2000", "20000"})
+    private int length;
+
+    private CaseDescriptionCodec codec;
+    private String description;
+    private byte[] stored;
+
+    @Setup
+    public void setUp() {
+        codec = new CaseDescriptionCodec(new SimpleMeterRegistry(), compression, 256);
+        description = CaseFixtures.description(length);
+        stored = codec.encode(description);
+    }
+
+    @Benchmark
+    public byte[] encode(StoredSize storedSize) {
+        return codec.encode(description);
+    }
+
+    @Benchmark
+    public String decode(StoredSize storedSize) {
+        return codec.decode(stored);
+    }
+
+    /**
+     * Reports the size the description is stored at as a JMH counter, set once per iteration so it costs the
+     * measured methods nothing.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StoredSize {
+        public long storedBytes;
+
+        @Setup(Level.Iteration)
+        public void setUp(CaseDescriptionCodecBenchmark benchmark) {
+            storedBytes = benchmark.stored.length;
+        }
+    }
+}
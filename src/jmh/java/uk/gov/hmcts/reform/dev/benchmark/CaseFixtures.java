@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Cases shaped like production data for benchmarks that do not touch the database.
+ */
+final class CaseFixtures {
+
+    private static final String[] SENTENCES = {
+        "The appellant appeals against the decision of the Secretary of State dated %d March 2025. ",
+        "Hearing listed for %d minutes before a judge sitting alone. ",
+        "The respondent has filed a bundle of %d pages and asks for the appeal to be dismissed. ",
+        "Interpreter required; the appellant's representative confirmed availability on %d dates. ",
+        "Directions issued: further evidence to be served within %d days of this notice. ",
+    };
+
+    private CaseFixtures() {
+    }
+
+    static List<Case> cases(int count) {
+        LocalDateTime created = LocalDateTime.of(2025, 5, 30, 9, 15, 30, 123_456_000);
+        return IntStream.rangeClosed(1, count)
+            .mapToObj(id -> Case.builder()
+                .id(id)
+                .caseNumber(100_000 + id % 5000)
+                .title("Case " + Integer.toHexString(id * 0x9E3779B1) + " v Secretary of State")
+                .description("Appeal against a decision. ".repeat(8))
+                .createdDate(created.minusMinutes(id))
+                .build())
+            .toList();
+    }
+
+    static List<CaseSummary> summaries(int count) {
+        return cases(count).stream()
+            .map(c -> new CaseSummary(c.getId(), c.getCaseNumber(), c.getTitle(), c.getCreatedDate()))
+            .toList();
+    }
+
+    /**
+     * Free text of about the given length, built from the kind of sentences case notes repeat.
+     */
+    static String description(int length) {
+        StringBuilder description = new StringBuilder(length + 100);
+        for (int i = 0; description.length() < length; i++) {
+            description.append(String.format(SENTENCES[i * 7 % SENTENCES.length], 1 + i * 13 % 97));
+        }
+        return description.substring(0, length);
+    }
+}
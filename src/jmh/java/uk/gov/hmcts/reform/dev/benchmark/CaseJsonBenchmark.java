@@ -0,0 +1,95 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import uk.gov.hmcts.reform.dev.json.CaseJsonModule;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Cost of turning cases into JSON and back, with the ObjectMapper Spring Boot configures for the API.
+ * Compares the reflective bean serializers with the hand-written ones of {@link CaseJsonModule},
+ * and JSON with the CBOR and Smile the API also serves; run with the gc profiler for bytes allocated per write.
+ */
+@State(Scope.Benchmark)
+public class CaseJsonBenchmark {
+
+    @Param({"1", "100"})
+    private int cases;
+
+    @Param({"reflective", "handWritten"})
+    private String serializers;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectWriter writer;
+    private ObjectWriter summaryWriter;
+    private ObjectReader reader;
+    private List<Case> caseList;
+    private List<CaseSummary> summaryList;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper;
+        try (AnnotationConfigApplicationContext context =
+                 new AnnotationConfigApplicationContext(JacksonAutoConfiguration.class)) {
+            objectMapper = context.getBean(ObjectMapper.class);
+        }
+        // As JacksonConfiguration sets it up, so unfiltered summaries are written whole
+        objectMapper.setFilterProvider(new SimpleFilterProvider().setFailOnUnknownId(false));
+        if ("handWritten".equals(serializers)) {
+            objectMapper.registerModule(new CaseJsonModule());
+        }
+        objectMapper = objectMapper.copyWith(factory(format));
+        caseList = CaseFixtures.cases(cases);
+        summaryList = CaseFixtures.summaries(cases);
+        JavaType caseListType = objectMapper.getTypeFactory().constructCollectionType(List.class, Case.class);
+        writer = objectMapper.writerFor(caseListType);
+        summaryWriter = objectMapper.writerFor(
+            objectMapper.getTypeFactory().constructCollectionType(List.class, CaseSummary.class)
+        );
+        reader = objectMapper.readerFor(caseListType);
+        encoded = writer.writeValueAsBytes(caseList);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(caseList);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaries() throws IOException {
+        return summaryWriter.writeValueAsBytes(summaryList);
+    }
+
+    @Benchmark
+    public List<Case> deserialize() throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
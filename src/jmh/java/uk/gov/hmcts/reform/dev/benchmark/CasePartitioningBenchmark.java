@@ -0,0 +1,175 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+import uk.gov.hmcts.reform.dev.repository.CaseFilter;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+/**
+ * Compares the cases table as a single heap, as before the {@code V006} migration, with the table partitioned by
+ * month of {@code created_date}, against PostgreSQL in a container seeded with {@code jmh.rows} cases (1,000,000
+ * by default) created over the last {@code jmh.years} years (5 by default). The cases cache is switched off.
+ *
+ * <p>{@link #vacuumAfterChurn} times the vacuum autovacuum would run after every case created this month has been
+ * updated, the usual pattern when only recent cases are still open. Autovacuum works on each partition on its own,
+ * so for the partitioned table that is a vacuum of this month's partition alone; the heap has to clean up its
+ * indexes over every case.
+ */
+@State(Scope.Benchmark)
+public class CasePartitioningBenchmark {
+
+    private static final int ROWS = Integer.getInteger("jmh.rows", 1_000_000);
+    private static final int YEARS = Integer.getInteger("jmh.years", 5);
+
+    @Param({"heap", "partitioned"})
+    private String layout;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private CaseRepository caseRepository;
+    private JdbcTemplate jdbcTemplate;
+    private String vacuumTarget;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            // Command-line arguments, as they take precedence over application.yaml
+            .run(
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.cache.type=none",
+                "--cases.partitions.enabled=false"
+            );
+        caseRepository = context.getBean(CaseRepository.class);
+        DataSource dataSource = context.getBean(DataSource.class);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update(
+            "insert into cases (id, case_number, title, description, created_date, version, updated_date) "
+                + "select nextval('cases_id_seq'), i % 5000, 'Case ' || substr(md5(i::text), 1, 12), "
+                + "'\\x00'::bytea || convert_to(repeat('x', 200), 'UTF8'), "
+                + "now() - make_interval(secs => (? - i) * ?), 0, now() "
+                + "from generate_series(1, ?) i",
+            ROWS, YEARS * 365.25 * 24 * 3600 / ROWS, ROWS
+        );
+        jdbcTemplate.execute("create index cases_updated_date_idx on cases (updated_date)");
+        new ResourceDatabasePopulator(new ClassPathResource("db/V002_CasesSearchIndexes.sql")).execute(dataSource);
+        if ("partitioned".equals(layout)) {
+            jdbcTemplate.execute("alter table cases rename constraint cases_pkey to cases_pk");
+            ResourceDatabasePopulator migration = new ResourceDatabasePopulator(
+                new ClassPathResource("db/V006_CasesPartitionedByCreatedDate.sql")
+            );
+            migration.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+            migration.execute(dataSource);
+            YearMonth current = YearMonth.now();
+            vacuumTarget = String.format("cases_y%04dm%02d", current.getYear(), current.getMonthValue());
+        } else {
+            vacuumTarget = "cases";
+        }
+        jdbcTemplate.execute("vacuum analyze cases");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        postgres.stop();
+    }
+
+    /**
+     * Every case created in a random month, as an export or purge by date reads them.
+     */
+    @Benchmark
+    public void casesCreatedInMonth(Blackhole blackhole) {
+        YearMonth month = YearMonth.now().minusMonths(ThreadLocalRandom.current().nextInt(YEARS * 12));
+        CaseFilter filter = new CaseFilter(
+            0, null, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay()
+        );
+        caseRepository.forEachCase(filter, blackhole::consume);
+    }
+
+    /**
+     * Cases created in the last day, the range most date-filtered reads ask for.
+     */
+    @Benchmark
+    public void casesCreatedToday(Blackhole blackhole) {
+        LocalDateTime now = LocalDateTime.now();
+        caseRepository.forEachCase(new CaseFilter(0, null, now.minusDays(1), now), blackhole::consume);
+    }
+
+    /**
+     * Lookup by ID alone, which the partitioned table has to check every partition for.
+     */
+    @Benchmark
+    public Case findCaseById() {
+        return caseRepository.findCaseById(randomId());
+    }
+
+    @Benchmark
+    public List<CaseSummary> keysetPage() {
+        return caseRepository.findByIdGreaterThanOrderByIdAsc(randomId(), Limit.of(100));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public void vacuumAfterChurn(Churn churn) {
+        // Index cleanup is forced on, as autovacuum does once enough rows are dead
+        jdbcTemplate.execute("vacuum (index_cleanup on) " + vacuumTarget);
+    }
+
+    /**
+     * Updates every case created this month before each vacuum, leaving a dead row version behind for each.
+     */
+    @State(Scope.Benchmark)
+    public static class Churn {
+
+        @Setup(Level.Invocation)
+        public void updateThisMonth(CasePartitioningBenchmark benchmark) {
+            benchmark.jdbcTemplate.update(
+                "update cases set version = version + 1 where created_date >= date_trunc('month', now())"
+            );
+        }
+    }
+
+    // IDs come from a sequence with an increment of 50, so seeded rows are 1, 51, 101, ...
+    private int randomId() {
+        return 1 + 50 * ThreadLocalRandom.current().nextInt(ROWS);
+    }
+}
@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.sql.DataSource;
+
+/**
+ * Latency of the repository queries behind the case API, against PostgreSQL in a container
+ * seeded with {@code jmh.rows} cases (1,000,000 by default) and the migrations' indexes.
+ * The cases cache is switched off so every call reaches the database.
+ */
+@State(Scope.Benchmark)
+public class CaseRepositoryBenchmark {
+
+    private static final int ROWS = Integer.getInteger("jmh.rows", 1_000_000);
+    private static final int CASE_NUMBERS = 5000;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private CaseRepository caseRepository;
+    private List<String> titleTerms;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            // Command-line arguments, as they take precedence over application.yaml
+            .run(
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.cache.type=none"
+            );
+        caseRepository = context.getBean(CaseRepository.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update(
+            "insert into cases (id, case_number, title, description, created_date, version, updated_date) "
+                + "select nextval('cases_id_seq'), i % ?, 'Case ' || substr(md5(i::text), 1, 12), "
+                + "'\\x00'::bytea || convert_to(repeat('x', 200), 'UTF8'), "
+                + "now() - make_interval(mins => i), 0, now() "
+                + "from generate_series(1, ?) i",
+            CASE_NUMBERS, ROWS
+        );
+        new ResourceDatabasePopulator(new ClassPathResource("db/V002_CasesSearchIndexes.sql"))
+            .execute(context.getBean(DataSource.class));
+        jdbcTemplate.execute("vacuum analyze cases");
+        titleTerms = jdbcTemplate.queryForList(
+            "select substr(title, 8, 5) from cases tablesample bernoulli (1) limit 1000", String.class
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public Case findCaseById() {
+        return caseRepository.findCaseById(randomId());
+    }
+
+    @Benchmark
+    public List<CaseSummary> keysetPage() {
+        return caseRepository.findByIdGreaterThanOrderByIdAsc(randomId(), Limit.of(100));
+    }
+
+    @Benchmark
+    public List<CaseSummary> searchByCaseNumber() {
+        return caseRepository.findCasesByCaseNumberOrderByIdAsc(
+            ThreadLocalRandom.current().nextInt(CASE_NUMBERS), PageRequest.of(0, 100)
+        );
+    }
+
+    @Benchmark
+    public List<CaseSummary> searchByTitle() {
+        return caseRepository.searchByTitle(
+            titleTerms.get(ThreadLocalRandom.current().nextInt(titleTerms.size())), PageRequest.of(0, 100)
+        );
+    }
+
+    // IDs come from a sequence with an increment of 50, so seeded rows are 1, 51, 101, ...
+    private int randomId() {
+        return 1 + 50 * ThreadLocalRandom.current().nextInt(ROWS);
+    }
+}
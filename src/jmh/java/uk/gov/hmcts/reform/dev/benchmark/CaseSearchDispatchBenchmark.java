@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.context.request.WebRequest;
+import uk.gov.hmcts.reform.dev.controllers.CaseController;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+import uk.gov.hmcts.reform.dev.service.CaseIngestService;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * Overhead of {@link CaseController#searchCases} itself: parameter checks and choosing a repository query.
+ * The repository is a stub that returns a fixed page, so no database time is included,
+ * and the request never matches the collection ETag.
+ */
+@State(Scope.Benchmark)
+public class CaseSearchDispatchBenchmark {
+
+    @Param({"none", "caseNumber", "title", "caseNumberAndTitle"})
+    private String criteria;
+
+    private CaseController controller;
+    private Integer caseNumber;
+    private String title;
+    private WebRequest request;
+
+    @Setup
+    public void setUp() {
+        List<CaseSummary> page = CaseFixtures.summaries(20);
+        CaseRepository repository = (CaseRepository) Proxy.newProxyInstance(
+            CaseRepository.class.getClassLoader(),
+            new Class<?>[] {CaseRepository.class},
+            (proxy, method, args) -> {
+                if (method.isDefault()) {
+                    // Keep the search term handling in the repository's default methods in the measurement
+                    return InvocationHandler.invokeDefault(proxy, method, args);
+                }
+                if ("findCollectionVersion".equals(method.getName())) {
+                    return (long) page.size();
+                }
+                return List.class.equals(method.getReturnType()) ? page : null;
+            }
+        );
+        request = (WebRequest) Proxy.newProxyInstance(
+            WebRequest.class.getClassLoader(),
+            new Class<?>[] {WebRequest.class},
+            (proxy, method, args) -> boolean.class.equals(method.getReturnType()) ? false : null
+        );
+        ObjectMapper objectMapper = new ObjectMapper();
+        // Only searches are measured, so there are no services for single-case writes or lookups
+        controller = new CaseController(
+            repository, null, new CaseIngestService(repository, objectMapper, 500), null,
+            new Jackson2ObjectMapperBuilder()
+        );
+        caseNumber = criteria.startsWith("caseNumber") ? 100_001 : null;
+        title = criteria.toLowerCase().contains("title") ? "secretary" : null;
+    }
+
+    @Benchmark
+    public ResponseEntity<Iterable<CaseSummary>> searchCases() {
+        return controller.searchCases(caseNumber, title, 0, 20, null, request);
+    }
+}
@@ -0,0 +1,229 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import uk.gov.hmcts.reform.dev.Application;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives a mix of reads, searches, adds and deletes at the case API, booted against a seeded Testcontainers
+ * Postgres, and fails if throughput or latency regressed against the stored baseline.
+ *
+ * <p>Run with {@code ./gradlew loadTest}. The load can be changed with the {@code loadtest.profile},
+ * {@code loadtest.rows}, {@code loadtest.clients}, {@code loadtest.seconds}, {@code loadtest.warm-up-seconds} and
+ * {@code loadtest.mix} system properties, and the allowed regression with {@code loadtest.tolerance}, in percent.
+ * Each run writes its results to {@code loadtest.results}; {@code -Dloadtest.record=true} writes them to
+ * {@code loadtest.baseline} instead of comparing. A baseline is only comparable with runs on the same machine with
+ * the same settings, so record it where the gate runs.
+ *
+ * <p>Each client sends its next request as soon as the last one is answered, so latencies are those of a closed
+ * system: when the service slows down, fewer requests are sent, and throughput falls along with latency rising.
+ */
+@Testcontainers
+class CaseApiLoadTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CaseApiLoadTest.class);
+
+    private static final String PROFILE = System.getProperty("loadtest.profile", "default");
+    private static final int ROWS = Integer.getInteger("loadtest.rows", 100_000);
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 50);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 60);
+    private static final int WARM_UP_SECONDS = Integer.getInteger("loadtest.warm-up-seconds", 15);
+    private static final String MIX = System.getProperty("loadtest.mix", "read=50,search=30,add=15,delete=5");
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("loadtest.tolerance", "10"));
+    private static final Path RESULTS =
+        Path.of(System.getProperty("loadtest.results", "build/reports/loadtest/results.json"));
+    private static final Path BASELINE = Path.of(System.getProperty("loadtest.baseline", "src/loadTest/baseline.json"));
+    private static final boolean RECORD = Boolean.getBoolean("loadtest.record");
+    private static final int POOL_SIZE = 20;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+        .withDatabaseName("load-test-db")
+        .withUsername("testuser")
+        .withPassword("testpass");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+
+    @Test
+    void caseApiShouldNotRegressAgainstBaseline() throws Exception {
+        LoadMix mix = LoadMix.parse(MIX);
+        LoadReport report = run(mix);
+        report.write(RESULTS);
+        LOG.info("Load test results, written to {}\n{}", RESULTS, report);
+
+        if (RECORD) {
+            report.write(BASELINE);
+            LOG.info("Recorded the results as the baseline in {}", BASELINE);
+            return;
+        }
+        assertThat(BASELINE)
+            .as("No baseline in %s to compare with; record one with -Dloadtest.record=true", BASELINE)
+            .exists();
+        assertThat(new RegressionGate(TOLERANCE).regressions(LoadReport.read(BASELINE), report))
+            .as("Regressions against the baseline in %s, allowing %s%%", BASELINE, TOLERANCE)
+            .isEmpty();
+    }
+
+    private LoadReport run(LoadMix mix) throws InterruptedException {
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(Application.class)
+            .profiles(PROFILE)
+            // Command-line arguments, as they take precedence over application.yaml
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.r2dbc.url=r2dbc:postgresql://" + postgres.getHost() + ":"
+                    + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + postgres.getDatabaseName(),
+                "--spring.r2dbc.username=" + postgres.getUsername(),
+                "--spring.r2dbc.password=" + postgres.getPassword(),
+                "--spring.r2dbc.pool.max-size=" + POOL_SIZE,
+                "--spring.jpa.hibernate.ddl-auto=update",
+                // Measures the service under the whole load, rather than how much of it is shed
+                "--cases.admission.enabled=false"
+            )) {
+            JdbcTemplate jdbcTemplate = app.getBean(JdbcTemplate.class);
+            seed(jdbcTemplate);
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            Targets targets = new Targets(
+                jdbcTemplate.queryForList(
+                    "select substr(title, 8, 4) from cases tablesample bernoulli (1) limit 1000", String.class
+                ),
+                jdbcTemplate.queryForObject("select min(id) from cases", Integer.class),
+                jdbcTemplate.queryForObject("select max(id) from cases", Integer.class)
+            );
+
+            drive(port, mix, targets, WARM_UP_SECONDS);
+            Map<Operation, OperationStats> stats = drive(port, mix, targets, SECONDS);
+            Map<Operation, OperationResult> results = new EnumMap<>(Operation.class);
+            stats.forEach((operation, operationStats) -> results.put(operation, operationStats.result(SECONDS)));
+            return new LoadReport(PROFILE, CLIENTS, SECONDS, ROWS, mix.toString(), results);
+        }
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update(
+            "insert into cases (id, case_number, title, description, created_date, version, updated_date) "
+                + "select nextval('cases_id_seq'), i % 5000, 'Case ' || substr(md5(i::text), 1, 12), "
+                + "'\\x00'::bytea || convert_to(repeat('x', 200), 'UTF8'), "
+                + "now() - make_interval(mins => i), 0, now() "
+                + "from generate_series(1, ?) i",
+            ROWS
+        );
+        jdbcTemplate.execute("analyze cases");
+    }
+
+    private Map<Operation, OperationStats> drive(int port, LoadMix mix, Targets targets, int seconds)
+        throws InterruptedException {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : mix.operations()) {
+            stats.put(operation, new OperationStats());
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = mix.next(ThreadLocalRandom.current());
+                        send(request(port, operation, targets), stats.get(operation));
+                    }
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+        }
+        return stats;
+    }
+
+    private HttpRequest request(int port, Operation operation, Targets targets) {
+        String cases = "http://localhost:" + port + "/case/";
+        HttpRequest.Builder request = switch (operation) {
+            case READ -> HttpRequest.newBuilder(URI.create(cases + targets.readId()));
+            case SEARCH -> HttpRequest.newBuilder(URI.create(cases + "searchCases?size=20&title=" + targets.title()));
+            case ADD -> HttpRequest.newBuilder(URI.create(cases + "addCase"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                    "{\"caseNumber\":" + ThreadLocalRandom.current().nextInt(5000) + ",\"title\":\"Load test case\"}"
+                ));
+            case DELETE -> HttpRequest.newBuilder(URI.create(cases + targets.deleteId())).DELETE();
+        };
+        return request.timeout(Duration.ofSeconds(30)).build();
+    }
+
+    private void send(HttpRequest request, OperationStats stats) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 == 2) {
+                stats.record(System.nanoTime() - start);
+            } else {
+                stats.error();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stats.error();
+        } catch (Exception e) {
+            stats.error();
+        }
+    }
+
+    /**
+     * What the requests are sent for. Reads go to the older half of the seeded cases and deletes count down from the
+     * newest, so with the default mix no case is read after it has been deleted.
+     */
+    private static final class Targets {
+
+        private final List<String> titles;
+        private final int firstId;
+        private final int readIds;
+        private final AtomicInteger nextDelete;
+
+        Targets(List<String> titles, int firstId, int lastId) {
+            this.titles = titles;
+            this.firstId = firstId;
+            this.readIds = Math.max((lastId - firstId + 1) / 2, 1);
+            this.nextDelete = new AtomicInteger(lastId);
+        }
+
+        String title() {
+            return titles.get(ThreadLocalRandom.current().nextInt(titles.size()));
+        }
+
+        int readId() {
+            return firstId + ThreadLocalRandom.current().nextInt(readIds);
+        }
+
+        int deleteId() {
+            return nextDelete.getAndDecrement();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The share of each operation in the load, given as weights such as {@code read=50,search=30,add=15,delete=5}.
+ * Operations left out are not sent.
+ */
+final class LoadMix {
+
+    private final Map<Operation, Integer> weights;
+    private final int total;
+
+    private LoadMix(Map<Operation, Integer> weights) {
+        this.weights = weights;
+        this.total = weights.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Parse comma-separated {@code operation=weight} pairs.
+     * @param mix the weights of the operations
+     * @return the mix
+     * @throws IllegalArgumentException if a pair cannot be read, an operation is not known, a weight is negative
+     *     or all weights are zero
+     */
+    static LoadMix parse(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String pair : mix.split(",")) {
+            String[] parts = pair.trim().split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Operations must be given as operation=weight: " + mix);
+            }
+            Operation operation = parseOperation(parts[0].trim(), mix);
+            int weight = parseWeight(parts[1].trim(), mix);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Operation weights must not be negative: " + mix);
+            }
+            weights.put(operation, weight);
+        }
+        LoadMix loadMix = new LoadMix(weights);
+        if (loadMix.total == 0) {
+            throw new IllegalArgumentException("At least one operation must have a weight: " + mix);
+        }
+        return loadMix;
+    }
+
+    /**
+     * Pick an operation, each as often as its share of the total weight.
+     * @param random the source of randomness
+     * @return the operation to send next
+     */
+    Operation next(Random random) {
+        int pick = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> weight : weights.entrySet()) {
+            pick -= weight.getValue();
+            if (pick < 0) {
+                return weight.getKey();
+            }
+        }
+        throw new IllegalStateException("Weights do not add up to " + total);
+    }
+
+    /**
+     * The operations sent at all.
+     * @return the operations with a weight above zero
+     */
+    Set<Operation> operations() {
+        Set<Operation> operations = EnumSet.noneOf(Operation.class);
+        weights.forEach((operation, weight) -> {
+            if (weight > 0) {
+                operations.add(operation);
+            }
+        });
+        return operations;
+    }
+
+    @Override
+    public String toString() {
+        return weights.entrySet().stream()
+            .map(weight -> weight.getKey().key() + "=" + weight.getValue())
+            .collect(Collectors.joining(","));
+    }
+
+    private static Operation parseOperation(String key, String mix) {
+        for (Operation operation : Operation.values()) {
+            if (operation.key().equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "' in " + mix);
+    }
+
+    private static int parseWeight(String weight, String mix) {
+        try {
+            return Integer.parseInt(weight);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Operation weights must be whole numbers: " + mix, e);
+        }
+    }
+}
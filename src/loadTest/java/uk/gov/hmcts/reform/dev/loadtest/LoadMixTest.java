@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+
+class LoadMixTest {
+
+    @Test
+    void operationsShouldBePickedInProportionToTheirWeights() {
+        LoadMix mix = LoadMix.parse("read=60, search=30,add=10,delete=0");
+        Random random = new Random(42);
+        Map<Operation, Integer> picks = new EnumMap<>(Operation.class);
+
+        for (int i = 0; i < 100_000; i++) {
+            picks.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        assertThat(mix.operations()).containsExactly(Operation.READ, Operation.SEARCH, Operation.ADD);
+        assertThat(picks).doesNotContainKey(Operation.DELETE);
+        assertThat(picks.get(Operation.READ) / 100_000.0).isCloseTo(0.6, within(0.01));
+        assertThat(picks.get(Operation.SEARCH) / 100_000.0).isCloseTo(0.3, within(0.01));
+        assertThat(picks.get(Operation.ADD) / 100_000.0).isCloseTo(0.1, within(0.01));
+        assertThat(mix).hasToString("read=60,search=30,add=10,delete=0");
+    }
+
+    @Test
+    void invalidMixesShouldBeRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> LoadMix.parse("read=50,update=50"))
+            .withMessageContaining("Unknown operation 'update'");
+        assertThatIllegalArgumentException().isThrownBy(() -> LoadMix.parse("read=-1,search=2"));
+        assertThatIllegalArgumentException().isThrownBy(() -> LoadMix.parse("read"));
+        assertThatIllegalArgumentException().isThrownBy(() -> LoadMix.parse("read=lots"));
+        assertThatIllegalArgumentException().isThrownBy(() -> LoadMix.parse("read=0"))
+            .withMessageContaining("At least one operation");
+    }
+}
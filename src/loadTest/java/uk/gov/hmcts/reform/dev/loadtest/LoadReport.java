@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * The results of a load test run and the settings it ran with, as written to the results file and the baseline.
+ *
+ * @param profile the Spring profile the application ran with
+ * @param clients the number of concurrent clients
+ * @param seconds how long the requests were measured for, after the warm-up
+ * @param rows the number of cases the database was seeded with
+ * @param mix the weights of the operations sent
+ * @param operations the results of each operation sent
+ */
+record LoadReport(String profile, int clients, int seconds, int rows, String mix,
+                  Map<Operation, OperationResult> operations) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    static LoadReport read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), LoadReport.class);
+    }
+
+    void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        MAPPER.writeValue(file.toFile(), this);
+    }
+
+    /**
+     * Whether a run with these settings can be compared with another.
+     * @param other the other run
+     * @return true if both ran the same load against the same data
+     */
+    boolean sameLoadAs(LoadReport other) {
+        return profile.equals(other.profile) && clients == other.clients && seconds == other.seconds
+            && rows == other.rows && mix.equals(other.mix);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(String.format(
+            "%s profile, %d clients for %ds against %d rows, mix %s", profile, clients, seconds, rows, mix
+        ));
+        operations.forEach((operation, result) -> report.append("\n  ").append(operation.key()).append(": ")
+            .append(result));
+        return report.toString();
+    }
+}
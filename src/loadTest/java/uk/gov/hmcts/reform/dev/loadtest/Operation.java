@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import java.util.Locale;
+
+/**
+ * The requests a load test client sends, named in {@code loadtest.mix} by {@link #key()}.
+ */
+enum Operation {
+    READ,
+    SEARCH,
+    ADD,
+    DELETE;
+
+    String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+/**
+ * What one operation achieved over a load test run. Latencies are of successful requests only.
+ *
+ * @param requests the number of successful requests
+ * @param errors the number of requests that failed or did not get a 2xx response
+ * @param throughput successful requests per second
+ * @param p50Millis the median latency in milliseconds
+ * @param p95Millis the 95th percentile latency in milliseconds
+ * @param p99Millis the 99th percentile latency in milliseconds
+ * @param maxMillis the slowest request in milliseconds
+ */
+record OperationResult(long requests, long errors, double throughput, double p50Millis, double p95Millis,
+                       double p99Millis, double maxMillis) {
+
+    double errorRate() {
+        long sent = requests + errors;
+        return sent == 0 ? 0 : errors / (double) sent;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "n=%d errors=%d throughput=%.0f req/s p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+            requests, errors, throughput, p50Millis, p95Millis, p99Millis, maxMillis
+        );
+    }
+}
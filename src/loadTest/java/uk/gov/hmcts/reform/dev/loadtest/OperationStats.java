@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latencies of the successful requests of one operation, and counts the failed ones. Safe to share
+ * between threads. Latencies go into a histogram rather than a list, so a long run at high throughput takes a fixed
+ * amount of memory.
+ */
+final class OperationStats {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    // Three significant digits; the histogram grows to fit the slowest request
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+
+    void record(long nanos) {
+        latencies.recordValue(nanos);
+    }
+
+    void error() {
+        errors.increment();
+    }
+
+    /**
+     * Summarise what was recorded.
+     * @param seconds how long the requests were sent for
+     * @return the counts, throughput and latency percentiles
+     */
+    OperationResult result(int seconds) {
+        long requests = latencies.getTotalCount();
+        return new OperationResult(
+            requests,
+            errors.sum(),
+            requests / (double) seconds,
+            percentileMillis(50),
+            percentileMillis(95),
+            percentileMillis(99),
+            latencies.getMaxValue() / NANOS_PER_MILLI
+        );
+    }
+
+    private double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
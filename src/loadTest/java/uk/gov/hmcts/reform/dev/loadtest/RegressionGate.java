@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a load test run with the baseline. An operation has regressed if its throughput fell, or its median or
+ * 99th percentile latency rose, by more than the tolerance, or if its error rate rose by more than
+ * {@value #ERROR_RATE_TOLERANCE}.
+ */
+final class RegressionGate {
+
+    // Absolute, as a baseline is usually recorded without errors, so any relative rise would be infinite
+    static final double ERROR_RATE_TOLERANCE = 0.001;
+
+    private final double tolerance;
+
+    /**
+     * Create a gate.
+     * @param tolerancePercent how far throughput and latency may move, in percent of the baseline
+     */
+    RegressionGate(double tolerancePercent) {
+        this.tolerance = tolerancePercent / 100;
+    }
+
+    /**
+     * Find what regressed.
+     * @param baseline the stored baseline
+     * @param current the run to check
+     * @return a description of each regression, empty if there is none
+     */
+    List<String> regressions(LoadReport baseline, LoadReport current) {
+        List<String> regressions = new ArrayList<>();
+        if (!current.sameLoadAs(baseline)) {
+            regressions.add("The baseline was recorded with different settings, record it again: " + baseline);
+            return regressions;
+        }
+        for (Map.Entry<Operation, OperationResult> entry : baseline.operations().entrySet()) {
+            String operation = entry.getKey().key();
+            OperationResult before = entry.getValue();
+            OperationResult after = current.operations().get(entry.getKey());
+            if (after == null) {
+                regressions.add(operation + " was not measured");
+                continue;
+            }
+            if (after.throughput() < before.throughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s throughput fell from %.0f to %.0f req/s",
+                                              operation, before.throughput(), after.throughput()));
+            }
+            if (after.p50Millis() > before.p50Millis() * (1 + tolerance)) {
+                regressions.add(String.format("%s p50 latency rose from %.2f to %.2f ms",
+                                              operation, before.p50Millis(), after.p50Millis()));
+            }
+            if (after.p99Millis() > before.p99Millis() * (1 + tolerance)) {
+                regressions.add(String.format("%s p99 latency rose from %.2f to %.2f ms",
+                                              operation, before.p99Millis(), after.p99Millis()));
+            }
+            if (after.errorRate() > before.errorRate() + ERROR_RATE_TOLERANCE) {
+                regressions.add(String.format("%s error rate rose from %.2f%% to %.2f%%",
+                                              operation, before.errorRate() * 100, after.errorRate() * 100));
+            }
+        }
+        return regressions;
+    }
+}
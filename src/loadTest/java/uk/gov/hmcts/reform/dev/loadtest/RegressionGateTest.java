@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegressionGateTest {
+
+    private static final OperationResult READ = new OperationResult(60_000, 0, 1000, 5, 12, 20, 80);
+
+    private final RegressionGate gate = new RegressionGate(10);
+
+    @Test
+    void changesWithinToleranceShouldPass() {
+        OperationResult slightlySlower = new OperationResult(55_000, 10, 920, 5.4, 15, 21.9, 250);
+
+        assertThat(gate.regressions(report(READ), report(slightlySlower))).isEmpty();
+    }
+
+    @Test
+    void fallInThroughputOrRiseInLatencyShouldFail() {
+        OperationResult slower = new OperationResult(50_000, 0, 850, 6, 12, 30, 80);
+
+        assertThat(gate.regressions(report(READ), report(slower))).containsExactly(
+            "read throughput fell from 1000 to 850 req/s",
+            "read p50 latency rose from 5.00 to 6.00 ms",
+            "read p99 latency rose from 20.00 to 30.00 ms"
+        );
+    }
+
+    @Test
+    void riseInErrorRateShouldFail() {
+        OperationResult failing = new OperationResult(60_000, 600, 1000, 5, 12, 20, 80);
+
+        assertThat(gate.regressions(report(READ), report(failing)))
+            .containsExactly("read error rate rose from 0.00% to 0.99%");
+    }
+
+    @Test
+    void differentSettingsShouldFail() {
+        LoadReport moreClients = new LoadReport("default", 100, 60, 100_000, "read=1", Map.of(Operation.READ, READ));
+
+        assertThat(gate.regressions(report(READ), moreClients)).singleElement().asString()
+            .startsWith("The baseline was recorded with different settings");
+    }
+
+    @Test
+    void operationMissingFromRunShouldFail() {
+        LoadReport noReads = new LoadReport("default", 50, 60, 100_000, "read=1", Map.of());
+
+        assertThat(gate.regressions(report(READ), noReads)).containsExactly("read was not measured");
+    }
+
+    @Test
+    void reportShouldReadBackAsWritten(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("reports").resolve("results.json");
+
+        report(READ).write(file);
+
+        assertThat(LoadReport.read(file)).isEqualTo(report(READ));
+    }
+
+    private static LoadReport report(OperationResult read) {
+        return new LoadReport("default", 50, 60, 100_000, "read=1", Map.of(Operation.READ, read));
+    }
+}
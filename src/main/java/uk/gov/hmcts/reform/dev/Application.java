@@ -2,8 +2,12 @@ package uk.gov.hmcts.reform.dev;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.core.Ordered;
 
 @SpringBootApplication
+// Caching is the outermost advice, so cache hits skip the repository metrics and any transaction
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
 @SuppressWarnings("HideUtilityClassConstructor") // Spring needs a constructor, it's not a utility class
 public class Application {
 
@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Admission control on the case API, on unless {@code cases.admission.enabled} is false.
+ * The {@code cases.admission.limit} and {@code cases.admission.in.flight} gauges track each workload's limit and
+ * running requests, and the {@code admission} actuator endpoint shows them with admitted and rejected counts.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cases.admission.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfiguration {
+
+    @Bean
+    AdmissionLimiters admissionLimiters(AdmissionProperties admissionProperties, MeterRegistry meterRegistry) {
+        return new AdmissionLimiters(admissionProperties, meterRegistry);
+    }
+
+    @Bean
+    FilterRegistrationBean<AdmissionFilter> admissionFilter(AdmissionLimiters admissionLimiters,
+                                                            AdmissionProperties admissionProperties,
+                                                            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<AdmissionFilter> registration = new FilterRegistrationBean<>(
+            new AdmissionFilter(admissionLimiters, admissionProperties.retryAfter(), meterRegistry)
+        );
+        registration.addUrlPatterns("/case/*");
+        // Turn requests away before any other work is done for them
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    AdmissionEndpoint admissionEndpoint(AdmissionLimiters admissionLimiters, MeterRegistry meterRegistry) {
+        return new AdmissionEndpoint(admissionLimiters, meterRegistry);
+    }
+}
@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static uk.gov.hmcts.reform.dev.admission.AdmissionFilter.REQUESTS_METRIC;
+
+/**
+ * Actuator endpoint showing the current admission limit of each workload, how many of its requests are running,
+ * and how many have been admitted and rejected since startup.
+ */
+@Endpoint(id = "admission")
+public class AdmissionEndpoint {
+
+    private final AdmissionLimiters limiters;
+    private final MeterRegistry meterRegistry;
+
+    AdmissionEndpoint(AdmissionLimiters limiters, MeterRegistry meterRegistry) {
+        this.limiters = limiters;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @ReadOperation
+    public Map<String, WorkloadAdmission> admission() {
+        Map<String, WorkloadAdmission> admission = new TreeMap<>();
+        for (Workload workload : Workload.values()) {
+            AimdLimiter limiter = limiters.get(workload);
+            admission.put(workload.tag(), new WorkloadAdmission(
+                limiter.getLimit(), limiter.getInFlight(),
+                requests(workload, "admitted"), requests(workload, "rejected")
+            ));
+        }
+        return admission;
+    }
+
+    private long requests(Workload workload, String outcome) {
+        return (long) meterRegistry.get(REQUESTS_METRIC)
+            .tag("workload", workload.tag())
+            .tag("outcome", outcome)
+            .counter()
+            .count();
+    }
+
+    /**
+     * Admission control state of one workload.
+     *
+     * @param limit    how many requests can run at once
+     * @param inFlight how many are running
+     * @param admitted requests let through since startup
+     * @param rejected requests turned away since startup
+     */
+    public record WorkloadAdmission(int limit, int inFlight, long admitted, long rejected) {
+    }
+}
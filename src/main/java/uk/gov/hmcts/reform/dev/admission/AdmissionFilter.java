@@ -0,0 +1,134 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits how many case API requests of each {@link Workload} run at once, and turns the rest away straight away
+ * with 503 and a {@code Retry-After} header, rather than letting them queue for a database connection.
+ * Scans are also turned away while lookups or writes are at their limit, so they cannot crowd out cheap requests.
+ *
+ * <p>The limits adapt to how long requests take; see {@link AimdLimiter}. Server errors count as failures, as
+ * that is how a timeout waiting for a connection surfaces. A streamed response runs for as long as the client
+ * keeps reading, and a bulk ingest for as long as it keeps sending, so for those only whether they failed is taken
+ * into account, not how long they took.
+ */
+class AdmissionFilter extends OncePerRequestFilter {
+
+    static final String REQUESTS_METRIC = "cases.admission.requests";
+
+    private final AdmissionLimiters limiters;
+    private final Map<Workload, Counter> admitted = new EnumMap<>(Workload.class);
+    private final Map<Workload, Counter> rejected = new EnumMap<>(Workload.class);
+    private final String retryAfterSeconds;
+
+    AdmissionFilter(AdmissionLimiters limiters, Duration retryAfter, MeterRegistry meterRegistry) {
+        this.limiters = limiters;
+        // Retry-After is in whole seconds
+        this.retryAfterSeconds = String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+        for (Workload workload : Workload.values()) {
+            admitted.put(workload, requestCounter(meterRegistry, workload, "admitted"));
+            rejected.put(workload, requestCounter(meterRegistry, workload, "rejected"));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Workload workload = Workload.of(request.getMethod(), path);
+        if (workload == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        AimdLimiter limiter = limiters.get(workload);
+        if ((!workload.isPriority() && limiters.isPrioritySaturated()) || !limiter.tryAcquire()) {
+            rejected.get(workload).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return;
+        }
+        admitted.get(workload).increment();
+        Release release = new Release(limiter, response);
+        boolean timed = Workload.isTimed(path);
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            release.release(timed, true);
+            throw e;
+        }
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(release);
+        } else {
+            release.release(timed, false);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, Workload workload, String outcome) {
+        return Counter.builder(REQUESTS_METRIC)
+            .description("Case API requests admitted and rejected by admission control")
+            .tag("workload", workload.tag())
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Gives a request's place back once, when it finishes, whether that is on the request thread or after an
+     * asynchronous response completes.
+     */
+    private static final class Release implements AsyncListener {
+
+        private final AimdLimiter limiter;
+        private final HttpServletResponse response;
+        private final long start = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Release(AimdLimiter limiter, HttpServletResponse response) {
+            this.limiter = limiter;
+            this.response = response;
+        }
+
+        void release(boolean timed, boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                boolean serverError = response.getStatus() >= 500;
+                limiter.release(timed ? System.nanoTime() - start : -1, failed || serverError);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(false, false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(false, true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(false, true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Still the same request
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The concurrency limiter of each {@link Workload}, with gauges of their limits and running requests.
+ */
+class AdmissionLimiters {
+
+    private final Map<Workload, AimdLimiter> limiters = new EnumMap<>(Workload.class);
+
+    AdmissionLimiters(AdmissionProperties admissionProperties, MeterRegistry meterRegistry) {
+        for (Workload workload : Workload.values()) {
+            AimdLimiter limiter = new AimdLimiter(admissionProperties.limit(workload));
+            Gauge.builder("cases.admission.limit", limiter, AimdLimiter::getLimit)
+                .description("Case API requests of the workload that can run at once")
+                .tag("workload", workload.tag())
+                .register(meterRegistry);
+            Gauge.builder("cases.admission.in.flight", limiter, AimdLimiter::getInFlight)
+                .description("Case API requests of the workload running")
+                .tag("workload", workload.tag())
+                .register(meterRegistry);
+            limiters.put(workload, limiter);
+        }
+    }
+
+    AimdLimiter get(Workload workload) {
+        return limiters.get(workload);
+    }
+
+    /**
+     * Whether any priority workload is using its whole limit.
+     * @return true if lower priority requests should be turned away
+     */
+    boolean isPrioritySaturated() {
+        for (Map.Entry<Workload, AimdLimiter> entry : limiters.entrySet()) {
+            if (entry.getKey().isPriority() && entry.getValue().isSaturated()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
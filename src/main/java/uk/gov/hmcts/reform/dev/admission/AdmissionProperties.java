@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for admission control on the case API.
+ *
+ * @param enabled    whether requests are limited at all
+ * @param retryAfter how long rejected clients are told to wait before trying again
+ * @param lookup     the limit on reads of a single case
+ * @param write      the limit on writes
+ * @param scan       the limit on lists, searches and exports
+ */
+@ConfigurationProperties("cases.admission")
+public record AdmissionProperties(@DefaultValue("true") boolean enabled,
+                                  @DefaultValue("1s") Duration retryAfter,
+                                  @DefaultValue Limit lookup,
+                                  @DefaultValue Limit write,
+                                  @DefaultValue Limit scan) {
+
+    /**
+     * An adaptive concurrency limit.
+     *
+     * @param initialLimit     the limit at startup
+     * @param minLimit         the lowest the limit goes, however slow requests get
+     * @param maxLimit         the highest the limit goes, however fast requests are
+     * @param latencyThreshold requests slower than this lower the limit
+     * @param backoffRatio     what the limit is multiplied by when a request is too slow or fails
+     */
+    public record Limit(@DefaultValue("20") int initialLimit,
+                        @DefaultValue("2") int minLimit,
+                        @DefaultValue("200") int maxLimit,
+                        @DefaultValue("1s") Duration latencyThreshold,
+                        @DefaultValue("0.9") double backoffRatio) {
+    }
+
+    Limit limit(Workload workload) {
+        return switch (workload) {
+            case LOOKUP -> lookup;
+            case WRITE -> write;
+            case SCAN -> scan;
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import java.time.Duration;
+
+/**
+ * A concurrency limit that adapts to latency by additive increase, multiplicative decrease.
+ * While requests finish within the latency threshold and at least half the limit is in use, each one raises the
+ * limit by one; a request that is slower than the threshold, or fails, cuts it by the backoff ratio. The limit
+ * settles just below the concurrency at which latency starts to climb, which is where the connection pool or the
+ * database is saturated.
+ */
+class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+
+    AimdLimiter(AdmissionProperties.Limit settings) {
+        this(settings.initialLimit(), settings.minLimit(), settings.maxLimit(), settings.latencyThreshold(),
+            settings.backoffRatio());
+    }
+
+    AimdLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Take a place for a request, if one is free.
+     * @return true if the request can go ahead, in which case it must {@link #release} its place
+     */
+    synchronized boolean tryAcquire() {
+        if (inFlight >= getLimit()) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Give back a request's place and adjust the limit by how it went.
+     * @param latencyNanos how long the request took, or a negative value if that says nothing about load
+     * @param failed       whether the request failed in a way that suggests overload
+     */
+    synchronized void release(long latencyNanos, boolean failed) {
+        int wasInFlight = inFlight;
+        inFlight--;
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (latencyNanos >= 0 && wasInFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    synchronized boolean isSaturated() {
+        return inFlight >= getLimit();
+    }
+}
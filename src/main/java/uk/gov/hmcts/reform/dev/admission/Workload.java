@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import org.springframework.http.HttpMethod;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The kinds of case API request admission control limits separately.
+ * Lookups and writes are cheap and take priority: scans are turned away while either of them is at its limit.
+ * Bulk ingests are scans, so a large import cannot hold up single-case writes or slow down lists.
+ */
+public enum Workload {
+    /**
+     * Reads of a single case, a purge job or the case counts.
+     */
+    LOOKUP(true),
+    /**
+     * Creates, updates and deletes of single cases, and purges.
+     */
+    WRITE(true),
+    /**
+     * Lists, searches, exports, multi-gets and bulk ingests, which can read or write any number of cases.
+     */
+    SCAN(false);
+
+    private static final Set<String> SCAN_PATHS = Set.of(
+        "/case/getAllCases", "/case/searchCases", "/case/export", "/case/getCases", "/case/addCases"
+    );
+
+    // Read as fast as the client sends it, so how long one takes says nothing about the load on the database
+    private static final String BULK_INGEST_PATH = "/case/addCases";
+
+    private final boolean priority;
+
+    Workload(boolean priority) {
+        this.priority = priority;
+    }
+
+    boolean isPriority() {
+        return priority;
+    }
+
+    String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The workload a case API request belongs to.
+     * @param method the HTTP method
+     * @param path   the path within the application
+     * @return the workload, or null if the request is not limited, such as a change feed long-poll or stream,
+     *     which waits rather than works
+     */
+    static Workload of(String method, String path) {
+        if (!path.startsWith("/case/") || path.startsWith("/case/events")) {
+            return null;
+        }
+        // A multi-get and a bulk ingest are POSTs, but can touch any number of cases
+        if (SCAN_PATHS.contains(path)) {
+            return SCAN;
+        }
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return WRITE;
+        }
+        return LOOKUP;
+    }
+
+    /**
+     * Whether how long a request takes is a measure of load, to adapt its workload's limit by.
+     * @param path the path within the application
+     * @return false for a bulk ingest, whose request body is streamed
+     */
+    static boolean isTimed(String path) {
+        return !BULK_INGEST_PATH.equals(path);
+    }
+}
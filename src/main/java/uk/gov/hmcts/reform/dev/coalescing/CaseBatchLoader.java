@@ -0,0 +1,149 @@
+package uk.gov.hmcts.reform.dev.coalescing;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.datasource.PrimaryReads;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Folds lookups of cases by ID that arrive within {@code cases.coalescing.batch.window} of each other into one
+ * {@code where id in (...)} query of at most {@code cases.coalescing.batch.max-size} IDs. Lookups of the same ID in
+ * a batch share its row. A lookup waits up to the window for others to join it, so batching trades a little latency
+ * on a quiet service for far fewer queries on a busy one.
+ *
+ * <p>Lookups that must read from the primary are batched separately from the rest. The number of IDs in each query
+ * is recorded in the {@value #METRIC_NAME} summary.
+ */
+@Component
+@ConditionalOnProperty(name = "cases.coalescing.batch.enabled", havingValue = "true")
+public class CaseBatchLoader {
+
+    static final String METRIC_NAME = "cases.coalescing.batch.size";
+
+    // The repository's own advice calls back into this loader, so it is looked up when first needed
+    private final ObjectProvider<CaseRepository> caseRepository;
+    private final Duration window;
+    private final int maxSize;
+    private final DistributionSummary batchSize;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService queryExecutor;
+    private final Map<Boolean, Batch> pending = new HashMap<>();
+
+    @Autowired
+    public CaseBatchLoader(ObjectProvider<CaseRepository> caseRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${cases.coalescing.batch.window:2ms}") Duration window,
+                           @Value("${cases.coalescing.batch.max-size:100}") int maxSize) {
+        this(caseRepository, meterRegistry, window, maxSize,
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("case-batch").daemon().factory()),
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("case-batch-query-", 0).factory()));
+    }
+
+    CaseBatchLoader(ObjectProvider<CaseRepository> caseRepository,
+                    MeterRegistry meterRegistry,
+                    Duration window,
+                    int maxSize,
+                    ScheduledExecutorService scheduler,
+                    ExecutorService queryExecutor) {
+        this.caseRepository = caseRepository;
+        this.window = window;
+        this.maxSize = maxSize;
+        this.scheduler = scheduler;
+        this.queryExecutor = queryExecutor;
+        this.batchSize = DistributionSummary.builder(METRIC_NAME)
+            .description("Case IDs looked up by each batched query")
+            .baseUnit("ids")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(1.0)
+            .maximumExpectedValue((double) maxSize)
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        queryExecutor.shutdownNow();
+    }
+
+    /**
+     * Look up a case by ID in the next batch.
+     * @param id the ID of the case
+     * @return the case, or {@code null} if it does not exist, completed when the batch has been queried
+     */
+    public CompletableFuture<Case> load(int id) {
+        boolean primary = PrimaryReads.isRequired();
+        CompletableFuture<Case> future;
+        Batch full = null;
+        synchronized (pending) {
+            Batch batch = pending.get(primary);
+            if (batch == null) {
+                batch = new Batch(primary);
+                pending.put(primary, batch);
+                Batch scheduled = batch;
+                scheduler.schedule(() -> flush(scheduled), window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            future = batch.cases.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (batch.cases.size() >= maxSize) {
+                pending.remove(primary);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            Batch ready = full;
+            queryExecutor.execute(() -> query(ready));
+        }
+        return future;
+    }
+
+    void flush(Batch batch) {
+        synchronized (pending) {
+            // Already sent if it filled up before the window closed
+            if (!pending.remove(batch.primary, batch)) {
+                return;
+            }
+        }
+        queryExecutor.execute(() -> query(batch));
+    }
+
+    void query(Batch batch) {
+        PrimaryReads.setRequired(batch.primary);
+        try {
+            Map<Integer, Case> found = new HashMap<>();
+            caseRepository.getObject().findAllById(batch.cases.keySet())
+                .forEach(caseEntity -> found.put(caseEntity.getId(), caseEntity));
+            batchSize.record(batch.cases.size());
+            batch.cases.forEach((id, future) -> future.complete(found.get(id)));
+        } catch (RuntimeException e) {
+            batch.cases.values().forEach(future -> future.completeExceptionally(e));
+        } finally {
+            PrimaryReads.setRequired(false);
+        }
+    }
+
+    static final class Batch {
+
+        private final boolean primary;
+        private final Map<Integer, CompletableFuture<Case>> cases = new LinkedHashMap<>();
+
+        private Batch(boolean primary) {
+            this.primary = primary;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.dev.coalescing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only repository method whose concurrent calls with equal arguments can share one query.
+ * See {@link CoalescingAspect}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+
+    /**
+     * Whether calls can instead be folded into a batch load by ID when batching is enabled.
+     * Only valid on a method taking a single case ID.
+     * @return true if the method can be batched
+     */
+    boolean batchById() default false;
+}
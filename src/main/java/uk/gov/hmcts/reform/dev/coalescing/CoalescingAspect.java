@@ -0,0 +1,118 @@
+package uk.gov.hmcts.reform.dev.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.datasource.PrimaryReads;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Lets concurrent calls to the same {@link Coalesced} {@link CaseRepository} method with equal arguments share
+ * one query: the first call runs it and the others wait for its result, so a burst of requests for a popular case
+ * costs one round trip rather than hundreds. Calls are only shared while the query is in flight; nothing is kept
+ * once it returns.
+ *
+ * <p>When {@code cases.coalescing.batch.enabled} is set, lookups by ID are handed to the {@link CaseBatchLoader}
+ * instead, which also folds lookups of different cases into one query.
+ *
+ * <p>Runs inside the cache advice, so only cache misses are coalesced, and outside the repository transaction.
+ * Calls made inside a caller's transaction are never shared, as they must see that transaction's writes and
+ * return entities attached to its persistence context. Calls that must read from the primary only share with
+ * each other. Every call is counted in the {@value #METRIC_NAME} counter, tagged by whether it ran the query,
+ * shared another call's, or was batched; the share of calls that did not query is the collapse ratio.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "cases.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class CoalescingAspect {
+
+    static final String METRIC_NAME = "cases.coalescing.reads";
+
+    private final MeterRegistry meterRegistry;
+    private final CaseBatchLoader batchLoader;
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CoalescingAspect(MeterRegistry meterRegistry, ObjectProvider<CaseBatchLoader> batchLoader) {
+        this(meterRegistry, batchLoader.getIfAvailable());
+    }
+
+    CoalescingAspect(MeterRegistry meterRegistry, CaseBatchLoader batchLoader) {
+        this.meterRegistry = meterRegistry;
+        this.batchLoader = batchLoader;
+    }
+
+    @Around("this(uk.gov.hmcts.reform.dev.repository.CaseRepository)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Coalesced coalesced = AnnotationUtils.findAnnotation(method, Coalesced.class);
+        if (coalesced == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        Object[] args = joinPoint.getArgs();
+        if (coalesced.batchById() && batchLoader != null) {
+            count(method, "batched");
+            return unwrap(batchLoader.load((Integer) args[0]));
+        }
+
+        Key key = new Key(method, Arrays.asList(args), PrimaryReads.isRequired());
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            count(method, "shared");
+            return unwrap(leader);
+        }
+        count(method, "queried");
+        try {
+            Object result = joinPoint.proceed();
+            mine.complete(result);
+            return result;
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void count(Method method, String result) {
+        Counter.builder(METRIC_NAME)
+            .description("Case repository reads that were eligible for coalescing, by how they were served")
+            .tag("repository", CaseRepository.class.getSimpleName())
+            .tag("method", method.getName())
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private static Object unwrap(CompletableFuture<?> future) throws Throwable {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record Key(Method method, List<Object> args, boolean primary) {
+    }
+}
@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfiguration {
+
+    /**
+     * Hold back puts and evictions made inside a transaction until it commits, and drop them if it rolls back.
+     * Otherwise a rolled back save would leave a case cached that was never written, and a read running between an
+     * eviction and the commit would put back the row the transaction is replacing.
+     * @return the customizer
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> transactionAwareCaches() {
+        return cacheManager -> cacheManager.setTransactionAware(true);
+    }
+}
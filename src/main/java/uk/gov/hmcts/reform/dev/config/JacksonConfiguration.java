@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import uk.gov.hmcts.reform.dev.json.CaseJsonModule;
+
+@Configuration
+public class JacksonConfiguration {
+
+    /**
+     * Write every field of types with a {@code @JsonFilter} when no filter is supplied for the write,
+     * rather than failing.
+     * @return the customizer
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer unfilteredByDefault() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+
+    /**
+     * Write cases and case summaries with hand-written serializers rather than reflective bean serializers.
+     * @return the module, which Spring Boot registers with the object mapper
+     */
+    @Bean
+    public Module caseJsonModule() {
+        return new CaseJsonModule();
+    }
+
+    /**
+     * Write CBOR for clients that accept {@code application/cbor}.
+     * Spring MVC adds a CBOR converter of its own, but with a mapper that has none of the configuration above;
+     * this one is built as the application's JSON mapper is, and goes ahead of it.
+     * @param builder Spring Boot's builder of the application's object mapper
+     * @return the converter
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Write Smile for clients that accept {@code application/x-jackson-smile}, as for CBOR.
+     * @param builder Spring Boot's builder of the application's object mapper
+     * @return the converter
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
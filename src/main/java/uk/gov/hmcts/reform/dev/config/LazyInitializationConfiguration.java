@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.service.CaseDescriptionBackfillService;
+import uk.gov.hmcts.reform.dev.service.CaseFeedService;
+import uk.gov.hmcts.reform.dev.service.CasePartitionService;
+import uk.gov.hmcts.reform.dev.service.CaseStatsService;
+
+/**
+ * Beans still created at startup in the lazy-init profile.
+ */
+@Configuration
+public class LazyInitializationConfiguration {
+
+    /**
+     * Keeps the services that schedule background jobs when they are created eager, as nothing may ask for them
+     * until long after startup and their jobs would not run until then. Through them the repositories, JPA and the
+     * connection pool are created at startup too, so a database that cannot be reached still fails the start
+     * rather than the first request.
+     * @return the filter
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter backgroundJobsExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+            CaseStatsService.class,
+            CaseFeedService.class,
+            CasePartitionService.class,
+            CaseDescriptionBackfillService.class
+        );
+    }
+}
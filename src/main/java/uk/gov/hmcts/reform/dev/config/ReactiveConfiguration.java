@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Beans of the reactive profile.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveConfiguration {
+
+    /**
+     * The JDBC pool used by JPA and the background jobs.
+     * Spring Boot only sets one up when there is no R2DBC connection factory, so it is declared here as it would be
+     * there; with read replicas on, {@code ReplicaRoutingConfiguration} declares it instead.
+     * @param properties the {@code spring.datasource} properties
+     * @return the pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    @ConditionalOnProperty(name = "cases.datasource.replicas.enabled", havingValue = "false", matchIfMissing = true)
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Transactions over R2DBC connections.
+     * The transaction manager is not a bean, so {@code @Transactional} keeps using the JPA one.
+     * @param connectionFactory the R2DBC connection factory
+     * @return the operator
+     */
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    /**
+     * Serve over Netty, which would otherwise lose to Tomcat as both are on the classpath.
+     * @return the server factory
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
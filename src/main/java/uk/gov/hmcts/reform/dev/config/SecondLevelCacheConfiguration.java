@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+/**
+ * Regions of Hibernate's second-level cache, held in size-bounded Caffeine caches on each instance.
+ * Writes made by other instances are not seen, so entries also expire after {@code cases.l2-cache.ttl}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cases.l2-cache.enabled", havingValue = "true")
+public class SecondLevelCacheConfiguration {
+
+    /**
+     * The caches behind each region. Hibernate fails to start if it needs a region not created here.
+     * @param maxCases    the most cases held by ID
+     * @param maxSearches the most search result pages held
+     * @param ttl         how long an entry is held after it is written
+     * @return the cache manager
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(@Value("${cases.l2-cache.max-cases:10000}") long maxCases,
+                                                @Value("${cases.l2-cache.max-searches:1000}") long maxSearches,
+                                                @Value("${cases.l2-cache.ttl:1m}") Duration ttl) {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(
+            CaffeineCachingProvider.class.getName()
+        );
+        // A URI of its own rather than the provider's default, so each application context has its own caches
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("urn:cases:l2-cache:" + UUID.randomUUID()), SecondLevelCacheConfiguration.class.getClassLoader()
+        );
+        cacheManager.createCache(Case.CACHE_REGION, region(OptionalLong.of(maxCases), ttl));
+        cacheManager.createCache(CaseRepository.SEARCHES_CACHE_REGION, region(OptionalLong.of(maxSearches), ttl));
+        // Not used by any query, but always created by Hibernate once the query cache is on
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+            region(OptionalLong.of(maxSearches), ttl));
+        // One entry per table, holding when it last changed; query results are checked against it, so it must
+        // never lose an entry
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+            region(OptionalLong.empty(), null));
+        return cacheManager;
+    }
+
+    /**
+     * Point Hibernate at the caches.
+     * @param secondLevelCacheManager the cache manager
+     * @return the customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(OptionalLong maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        // Hibernate stores immutable entries, so copying them in and out, as JCache does by default, is wasted work
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -1,47 +1,150 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseIngestResult;
+import uk.gov.hmcts.reform.dev.model.CaseLookup;
+import uk.gov.hmcts.reform.dev.model.CasePage;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+import uk.gov.hmcts.reform.dev.repository.CaseFilter;
 import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+import uk.gov.hmcts.reform.dev.service.CaseIngestService;
+import uk.gov.hmcts.reform.dev.service.CaseLookupService;
+import uk.gov.hmcts.reform.dev.service.CaseRules;
+import uk.gov.hmcts.reform.dev.service.CaseService;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
 
 import static java.util.Collections.emptyList;
 import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 import static org.springframework.http.ResponseEntity.ok;
+import static uk.gov.hmcts.reform.dev.metrics.CaseSearchObservationConvention.recordSearch;
 
 /**
  * Controller for managing cases.
  * Provides endpoints to create, retrieve and delete {@link uk.gov.hmcts.reform.dev.model.Case}.
+ * Lists and searches return {@link CaseSummary} without the description, which is only returned by ID.
+ * Responses carry an ETag, so a client polling with {@code If-None-Match} gets 304 Not Modified
+ * without the cases being read again; see {@link CaseETags}.
+ * Reads return JSON, or CBOR or Smile when the client accepts them, and vary by {@code Accept}; see
+ * {@link CaseFormats}.
+ * Served on the servlet stack; the reactive profile serves the same API from {@link ReactiveCaseController}.
  */
 @RestController
 @RequestMapping("/case")
 @Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CaseController {
 
+    static final int MAX_PAGE_LIMIT = 1000;
+    static final String DEFAULT_SEARCH_SIZE = "100";
+    static final int MAX_LOOKUP_IDS = 5000;
+
     private final CaseRepository caseRepository;
+    private final CaseService caseService;
+    private final CaseIngestService caseIngestService;
+    private final CaseLookupService caseLookupService;
+    private final CaseFormats caseFormats;
 
-    public CaseController(CaseRepository caseRepository) {
+    public CaseController(CaseRepository caseRepository,
+                          CaseService caseService,
+                          CaseIngestService caseIngestService,
+                          CaseLookupService caseLookupService,
+                          Jackson2ObjectMapperBuilder objectMapperBuilder) {
         this.caseRepository = caseRepository;
+        this.caseService = caseService;
+        this.caseIngestService = caseIngestService;
+        this.caseLookupService = caseLookupService;
+        this.caseFormats = new CaseFormats(objectMapperBuilder);
     }
 
-    @GetMapping(value = "/getAllCases", produces = "application/json")
-    public ResponseEntity<Iterable<Case>> getAllCases() {
-        Iterable<Case> caseList = caseRepository.findAllByOrderByIdAsc();
-        if (isEmpty(caseList)) {
-            log.info("No cases found");
-            return ResponseEntity.ok(emptyList());
+    /**
+     * Get summaries of all cases ordered by ID.
+     * Cases are written to the response as they are read from the database cursor,
+     * so the full list is never held in memory.
+     * Written as JSON, or as CBOR or Smile when the client accepts them.
+     * @param afterId only return cases with an ID greater than this, to resume an interrupted read
+     * @param fields the comma-separated summary fields to return, all of them if not given
+     * @param request the request, checked against the collection ETag
+     * @return ResponseEntity streaming a JSON array of case summaries, not modified if no case has changed,
+     *     or bad request if the fields are not valid
+     */
+    @GetMapping(value = "/getAllCases", produces = {CaseFormats.JSON, CaseFormats.CBOR, CaseFormats.SMILE})
+    public ResponseEntity<StreamingResponseBody> getAllCases(@RequestParam(defaultValue = "0") int afterId,
+                                                             @RequestParam(required = false) String fields,
+                                                             WebRequest request) {
+        if (!CaseFields.isValid(fields)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (collectionNotModified(request)) {
+            return notModified();
         }
-        return ok(caseList);
+        CaseFormats.Format format = caseFormats.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        ObjectWriter writer = format.objectMapper().writer(CaseFields.filters(fields))
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return negotiated().contentType(format.mediaType()).body(out -> writeCases(out, writer, afterId));
+    }
+
+    /**
+     * Get a page of case summaries ordered by ID, using the last ID of the previous page as the cursor.
+     * @param afterId the nextCursor of the previous page, or 0 for the first page
+     * @param limit the maximum number of cases to return, at most {@value #MAX_PAGE_LIMIT}
+     * @param fields the comma-separated summary fields to return, all of them if not given
+     * @param request the request, checked against the collection ETag
+     * @return ResponseEntity with the page of cases, not modified if no case has changed,
+     *     or bad request if the limit is out of range or the fields are not valid
+     */
+    @GetMapping(value = "/getAllCases", params = "limit",
+        produces = {CaseFormats.JSON, CaseFormats.CBOR, CaseFormats.SMILE})
+    public ResponseEntity<CasePage> getCasePage(@RequestParam(defaultValue = "0") int afterId,
+                                                @RequestParam int limit,
+                                                @RequestParam(required = false) String fields,
+                                                WebRequest request) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT || !CaseFields.isValid(fields)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (collectionNotModified(request)) {
+            return notModified();
+        }
+        // Read one extra row to find out whether there is a next page without a second query
+        List<CaseSummary> caseList = caseRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit + 1));
+        if (caseList.size() <= limit) {
+            if (caseList.isEmpty()) {
+                log.info("No cases found after id {}", afterId);
+            }
+            return negotiated().body(new CasePage(caseList, null));
+        }
+        List<CaseSummary> page = caseList.subList(0, limit);
+        return negotiated().body(new CasePage(page, page.getLast().id()));
     }
 
     /**
@@ -51,26 +154,93 @@ public class CaseController {
      */
     @PostMapping(value = "/addCase")
     public ResponseEntity<Case> addCase(@RequestBody Case newCase) {
-        if (isEmpty(newCase) || isEmpty(newCase.getCaseNumber())
-            || isEmpty(newCase.getTitle())) {
+        if (!CaseRules.isValid(newCase)) {
             return ResponseEntity.badRequest().build();
         }
-        if (isEmpty(newCase.getCreatedDate())) {
-            newCase.setCreatedDate(LocalDateTime.now());
-        }
-        Case createdCase = caseRepository.save(newCase);
+        CaseRules.applyDefaults(newCase);
+        Case createdCase = caseService.save(newCase);
         return ok(createdCase);
     }
 
+    /**
+     * Add many cases in one call.
+     * Each item is checked with the same rules as {@link #addCase(Case)} and valid items are inserted in batches.
+     * @param cases a JSON array of cases, or cases as newline-delimited JSON
+     * @return ResponseEntity with the outcome of each item, in input order
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/addCases", consumes = {"application/json", "application/x-ndjson"},
+        produces = "application/json")
+    public ResponseEntity<List<CaseIngestResult>> addCases(InputStream cases) throws IOException {
+        return ok(caseIngestService.ingest(cases));
+    }
+
+    /**
+     * Get many cases by ID in one call, rather than one call per case.
+     * Cases are taken from the caches where they can be and the rest are read a chunk of IDs to a query.
+     * @param ids a JSON array of up to {@value #MAX_LOOKUP_IDS} case IDs, which may repeat
+     * @return ResponseEntity with the case or a not found marker for each ID, in request order, or bad request if
+     *     there are too many IDs or any is null
+     */
+    @PostMapping(value = "/getCases", consumes = "application/json",
+        produces = {CaseFormats.JSON, CaseFormats.CBOR, CaseFormats.SMILE})
+    public ResponseEntity<List<CaseLookup>> getCases(@RequestBody List<Integer> ids) {
+        if (ids.size() > MAX_LOOKUP_IDS || ids.stream().anyMatch(Objects::isNull)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return negotiated().body(caseLookupService.lookUp(ids));
+    }
+
     /**
      * Get a case by its ID.
+     * When the request has an {@code If-None-Match} header only the version is read to check it,
+     * and the case itself is only read if it has changed.
      * @param id the ID of the case
-     * @return ResponseEntity with the case or not found if it does not exist
+     * @param request the request, checked against the case ETag
+     * @return ResponseEntity with the case, or not modified if the client has the current version
      */
-    @GetMapping(value = "/{id}", produces = "application/json")
-    public ResponseEntity<Case> getCaseById(@PathVariable int id) {
+    @GetMapping(value = "/{id}", produces = {CaseFormats.JSON, CaseFormats.CBOR, CaseFormats.SMILE})
+    public ResponseEntity<Case> getCaseById(@PathVariable int id, WebRequest request) {
+        CaseFormats.Format format = caseFormats.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Long version = caseRepository.findVersionById(id);
+            if (version != null && request.checkNotModified(CaseETags.of(version, format))) {
+                return notModified();
+            }
+        }
         Case existingCase = caseRepository.findCaseById(id);
-        return ok(existingCase);
+        if (existingCase == null) {
+            return negotiated().body(null);
+        }
+        return negotiated().eTag(CaseETags.of(existingCase.getVersion(), format)).body(existingCase);
+    }
+
+    /**
+     * Update the case number, title and description of a case, if it has not changed since the client read it.
+     * The version read is taken from the {@code If-Match} header when given, otherwise from the version in the body.
+     * @param id the ID of the case
+     * @param changes the new values of the case
+     * @param request the request, with an optional {@code If-Match} header holding the case ETag
+     * @return ResponseEntity with the updated case, bad request if the case is not valid, not found if it does not
+     *     exist, precondition failed if it does not match {@code If-Match}, or conflict if it is not at the version
+     *     in the body
+     */
+    @PutMapping(value = "/{id}", produces = "application/json")
+    public ResponseEntity<Case> updateCase(@PathVariable int id, @RequestBody Case changes, WebRequest request) {
+        if (!CaseRules.isValid(changes)) {
+            return ResponseEntity.badRequest().build();
+        }
+        String ifMatch = request.getHeader(HttpHeaders.IF_MATCH);
+        Long version = ifMatch == null ? Long.valueOf(changes.getVersion()) : matchedVersion(id, ifMatch);
+        if (version == null || !caseService.update(id, version, changes)) {
+            if (caseRepository.findVersionById(id) == null) {
+                return ResponseEntity.notFound().build();
+            }
+            HttpStatus stale = ifMatch == null ? HttpStatus.CONFLICT : HttpStatus.PRECONDITION_FAILED;
+            return ResponseEntity.status(stale).build();
+        }
+        Case updatedCase = caseRepository.findCaseById(id);
+        return ok().eTag(CaseETags.of(updatedCase.getVersion())).body(updatedCase);
     }
 
     /**
@@ -80,29 +250,106 @@ public class CaseController {
      */
     @DeleteMapping(value = "/{id}", produces = "application/json")
     public ResponseEntity<Case> deleteCaseById(@PathVariable int id) {
-        caseRepository.deleteById(id);
+        caseService.delete(id);
         return ok(null);
     }
 
-    @GetMapping(value = "/searchCases", produces = "application/json")
-    public ResponseEntity<Iterable<Case>> searchCases(@RequestParam (required = false) Integer caseNumber,
-                                                      @RequestParam(required = false) String title) {
-        Iterable<Case> caseList;
+    /**
+     * Search cases by case number, title or both, returning summaries of the matches.
+     * Title matches are ranked: exact matches first, then titles starting with the term, then the rest.
+     * The request timer is tagged with the search that ran.
+     * @param caseNumber the case number to match
+     * @param title the text to look for anywhere in the title, ignoring case
+     * @param page the zero-based page of results to return
+     * @param size the number of results per page, at most {@value #MAX_PAGE_LIMIT}
+     * @param fields the comma-separated summary fields to return, all of them if not given
+     * @param request the request, checked against the collection ETag
+     * @return ResponseEntity with the matching cases, not modified if no case has changed,
+     *     or bad request if the page is out of range or the fields are not valid
+     */
+    @GetMapping(value = "/searchCases", produces = {CaseFormats.JSON, CaseFormats.CBOR, CaseFormats.SMILE})
+    public ResponseEntity<Iterable<CaseSummary>> searchCases(
+        @RequestParam (required = false) Integer caseNumber,
+        @RequestParam(required = false) String title,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = DEFAULT_SEARCH_SIZE) int size,
+        @RequestParam(required = false) String fields,
+        WebRequest request) {
+
+        if (page < 0 || size < 1 || size > MAX_PAGE_LIMIT || !CaseFields.isValid(fields)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (collectionNotModified(request)) {
+            return notModified();
+        }
+        Pageable pageable = PageRequest.of(page, size);
+        Iterable<CaseSummary> caseList;
         if (isEmpty(caseNumber) && isEmpty(title)) {
             log.info("No search term provided, returning all cases");
-            caseList = caseRepository.findAllByOrderByIdAsc();
+            recordSearch("all");
+            caseList = caseRepository.findAllByOrderByIdAsc(pageable);
         } else if (!isEmpty(caseNumber) && !isEmpty(title)) {
-            caseList = caseRepository.findCasesByCaseNumberAndTitleContainingIgnoreCase(caseNumber, title);
+            recordSearch("caseNumberAndTitle");
+            caseList = caseRepository.searchByCaseNumberAndTitle(caseNumber, title, pageable);
+        } else if (isEmpty(caseNumber)) {
+            recordSearch("title");
+            caseList = caseRepository.searchByTitle(title, pageable);
         } else {
-            caseList = isEmpty(caseNumber)
-                ? caseRepository.findCasesByTitleContainingIgnoreCase(title)
-                : caseRepository.findCasesByCaseNumber(caseNumber);
+            recordSearch("caseNumber");
+            caseList = caseRepository.findCasesByCaseNumberOrderByIdAsc(caseNumber, pageable);
         }
         if (isEmpty(caseList)) {
             log.info("No cases found for the given search criteria");
-            return ResponseEntity.ok(emptyList());
+            return negotiated().body(emptyList());
+        }
+        return negotiated().body(caseList);
+    }
+
+    /**
+     * Reject a write based on a stale read of a case, such as {@code addCase} given the ID and an old version
+     * of an existing case.
+     * @return ResponseEntity with conflict
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> handleStaleWrite() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    private Long matchedVersion(int id, String ifMatch) {
+        if (CaseETags.ANY.equals(ifMatch.trim())) {
+            return caseRepository.findVersionById(id);
+        }
+        return CaseETags.version(ifMatch);
+    }
+
+    // Reads the collection version before any case, so a list read during a write is never tagged as newer than it is
+    private boolean collectionNotModified(WebRequest request) {
+        Long version = caseRepository.findCollectionVersion();
+        return version != null && request.checkNotModified(CaseETags.ofCollection(version));
+    }
+
+    // Every read that may be answered as not modified is negotiated
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    // The body depends on the Accept header, so caches must keep each format apart
+    private static ResponseEntity.BodyBuilder negotiated() {
+        return ok().varyBy(HttpHeaders.ACCEPT);
+    }
+
+    private void writeCases(OutputStream out, ObjectWriter writer, int afterId) throws IOException {
+        try (JsonGenerator generator = writer.createGenerator(out)) {
+            generator.writeStartArray();
+            caseRepository.forEachCaseSummary(CaseFilter.afterId(afterId), summary -> {
+                try {
+                    writer.writeValue(generator, summary);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
         }
-        return ok(caseList);
     }
 
 }
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import uk.gov.hmcts.reform.dev.model.CaseCollectionVersion;
+
+/**
+ * Entity tags for case responses.
+ * A single case is tagged with its version and the format it is written in. The tag is strong, as a version always
+ * writes the same bytes in a given format; JSON is tagged with the bare version and the other formats add their name,
+ * so no two representations share a tag.
+ * Lists and searches share a weak tag of the sum of the {@link CaseCollectionVersion} counters, which changes
+ * whenever any case does.
+ */
+final class CaseETags {
+
+    static final String ANY = "*";
+
+    private CaseETags() {
+    }
+
+    /**
+     * The strong tag of a case at the given version.
+     * @param version the version of the case
+     * @return the quoted tag
+     */
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * The strong tag of a case at the given version, written in the given format.
+     * @param version the version of the case
+     * @param format  the format the case is written in
+     * @return the quoted tag
+     */
+    static String of(long version, CaseFormats.Format format) {
+        return format.isJson() ? of(version) : "\"" + version + "-" + format.name() + "\"";
+    }
+
+    /**
+     * The weak tag of every list of cases while the collection is at the given version.
+     * @param version the version of the case collection
+     * @return the weak, quoted tag
+     */
+    static String ofCollection(long version) {
+        return "W/\"cases-" + Long.toString(version, Character.MAX_RADIX) + "\"";
+    }
+
+    /**
+     * The case version named by a strong tag from {@link #of(long, CaseFormats.Format)}, in any format.
+     * @param tag the tag, as sent in an {@code If-Match} header
+     * @return the version, or {@code null} if the tag is not a single strong case tag
+     */
+    static Long version(String tag) {
+        String value = tag.trim();
+        if (value.length() < 3 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            return null;
+        }
+        int formatStart = value.indexOf('-');
+        try {
+            return Long.parseLong(value.substring(1, formatStart > 0 ? formatStart : value.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
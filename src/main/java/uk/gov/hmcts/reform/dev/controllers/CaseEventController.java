@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.model.CaseFeedPage;
+import uk.gov.hmcts.reform.dev.service.CaseFeedService;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.springframework.http.ResponseEntity.ok;
+
+/**
+ * Controller for the case change feed.
+ * Consumers keep a copy of the cases up to date by reading the changes after the last one they saw,
+ * rather than reading every case again. Reading from 0 returns the latest change of every case,
+ * so a new consumer can start from an empty copy.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/case/events")
+public class CaseEventController {
+
+    static final int MAX_LIMIT = 1000;
+    static final String DEFAULT_LIMIT = "100";
+    static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final CaseFeedService caseFeedService;
+    private final Duration streamTimeout;
+
+    public CaseEventController(CaseFeedService caseFeedService,
+                               @Value("${cases.events.stream-timeout:30m}") Duration streamTimeout) {
+        this.caseFeedService = caseFeedService;
+        this.streamTimeout = streamTimeout;
+    }
+
+    /**
+     * Get the changes after a cursor.
+     * @param after the nextCursor of the previous page, or 0 to read from the start
+     * @param limit the maximum number of changes to return, at most {@value #MAX_LIMIT}
+     * @return ResponseEntity with the page of changes, or bad request if the cursor or limit is out of range
+     */
+    @GetMapping(produces = "application/json")
+    public ResponseEntity<CaseFeedPage> getEvents(@RequestParam(defaultValue = "0") long after,
+                                                  @RequestParam(defaultValue = DEFAULT_LIMIT) int limit) {
+        if (after < 0 || limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ok(caseFeedService.read(after, limit));
+    }
+
+    /**
+     * Get the changes after a cursor, holding the request open until there are some.
+     * @param after the nextCursor of the previous page, or 0 to read from the start
+     * @param limit the maximum number of changes to return, at most {@value #MAX_LIMIT}
+     * @param wait the number of seconds to wait for changes, capped at {@code cases.events.max-wait}
+     * @return ResponseEntity with the page of changes, empty if none arrived in time,
+     *     or bad request if the cursor, limit or wait is out of range
+     */
+    @GetMapping(params = "wait", produces = "application/json")
+    public CompletableFuture<ResponseEntity<CaseFeedPage>> waitForEvents(
+        @RequestParam(defaultValue = "0") long after,
+        @RequestParam(defaultValue = DEFAULT_LIMIT) int limit,
+        @RequestParam int wait) {
+
+        if (after < 0 || limit < 1 || limit > MAX_LIMIT || wait < 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
+        return caseFeedService.poll(after, limit, Duration.ofSeconds(wait)).thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * Stream the changes after a cursor as server-sent events.
+     * A consumer that reconnects sends the ID of the last event it received, and the stream resumes after it.
+     * @param after the sequence of the last change already read, or 0 to stream from the start
+     * @param lastEventId the ID of the last event received before reconnecting, which takes precedence over after
+     * @return ResponseEntity with the stream, or bad request if the cursor is out of range
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(@RequestParam(defaultValue = "0") long after,
+                                                   @RequestHeader(value = LAST_EVENT_ID, required = false)
+                                                   Long lastEventId) {
+        long cursor = lastEventId != null ? lastEventId : after;
+        if (cursor < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ok(caseFeedService.subscribe(cursor, streamTimeout));
+    }
+}
@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.dev.export.CaseExportFormat;
+import uk.gov.hmcts.reform.dev.export.CaseExporter;
+import uk.gov.hmcts.reform.dev.repository.CaseFilter;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Controller for exporting cases in bulk.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/case")
+public class CaseExportController {
+
+    private final CaseExporter caseExporter;
+
+    public CaseExportController(CaseExporter caseExporter) {
+        this.caseExporter = caseExporter;
+    }
+
+    /**
+     * Export cases as newline-delimited JSON or CSV, ordered by ID.
+     * Cases are streamed from a database cursor straight to the response.
+     * @param format ndjson or csv
+     * @param caseNumber only export cases with this case number
+     * @param createdFrom only export cases created at or after this time
+     * @param createdTo only export cases created before this time
+     * @param gzip whether to gzip the export
+     * @return ResponseEntity streaming the export, or bad request if the format or date range is not valid
+     */
+    @GetMapping(value = "/export")
+    public ResponseEntity<StreamingResponseBody> exportCases(
+        @RequestParam(defaultValue = "ndjson") String format,
+        @RequestParam(required = false) Integer caseNumber,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+        @RequestParam(defaultValue = "false") boolean gzip) {
+
+        Optional<CaseExportFormat> exportFormat = CaseExportFormat.fromExtension(format);
+        if (exportFormat.isEmpty()
+            || createdFrom != null && createdTo != null && !createdFrom.isBefore(createdTo)) {
+            return ResponseEntity.badRequest().build();
+        }
+        CaseFilter filter = new CaseFilter(0, caseNumber, createdFrom, createdTo);
+
+        String filename = "cases." + exportFormat.get().getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.get().getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).toString())
+            .body(out -> caseExporter.export(filter, exportFormat.get(), gzip, out));
+    }
+}
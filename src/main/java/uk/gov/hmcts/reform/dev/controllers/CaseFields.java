@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.util.StringUtils;
+import uk.gov.hmcts.reform.dev.json.CaseSummaryFieldFilter;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code fields} request parameter of the case list endpoints, a comma-separated list of the
+ * {@link CaseSummary} fields to return. All fields are returned when it is not given.
+ */
+final class CaseFields {
+
+    static final String PARAM = "fields";
+
+    private static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+        .addFilter(CaseSummary.FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll());
+
+    private CaseFields() {
+    }
+
+    /**
+     * Whether the parameter is absent or names only summary fields.
+     * @param fields the parameter
+     * @return true if the parameter is valid
+     */
+    static boolean isValid(String fields) {
+        if (fields == null) {
+            return true;
+        }
+        Set<String> names = parse(fields);
+        return !names.isEmpty() && CaseSummary.FIELDS.containsAll(names);
+    }
+
+    /**
+     * The Jackson filters that write only the requested fields of each summary.
+     * @param fields the parameter, which must be valid
+     * @return the filters
+     */
+    static FilterProvider filters(String fields) {
+        if (fields == null) {
+            return ALL_FIELDS;
+        }
+        return new SimpleFilterProvider()
+            .addFilter(CaseSummary.FIELDS_FILTER, new CaseSummaryFieldFilter(parse(fields)));
+    }
+
+    private static Set<String> parse(String fields) {
+        return StringUtils.commaDelimitedListToSet(fields.replace(" ", "")).stream()
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Applies the {@code fields} request parameter to the JSON written by {@link CaseController},
+ * so each case summary only carries the fields asked for.
+ * The controller rejects requests where the parameter is not valid.
+ */
+@RestControllerAdvice(assignableTypes = CaseController.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CaseFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            String fields = servletRequest.getServletRequest().getParameter(CaseFields.PARAM);
+            if (fields != null && CaseFields.isValid(fields)) {
+                bodyContainer.setFilters(CaseFields.filters(fields));
+            }
+        }
+    }
+}
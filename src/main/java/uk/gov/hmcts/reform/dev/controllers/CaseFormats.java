@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The formats case responses are written in: JSON, and CBOR or Smile for clients that accept them.
+ * Responses written through Spring's message converters are negotiated by Spring; this picks the format of those
+ * the controller streams itself, and the format a single case is tagged with.
+ */
+final class CaseFormats {
+
+    static final String JSON = "application/json";
+    static final String CBOR = "application/cbor";
+    static final String SMILE = "application/x-jackson-smile";
+
+    private final List<Format> formats;
+
+    /**
+     * Create the formats, each with a mapper configured as the JSON one is.
+     * @param builder the builder of the JSON mapper
+     */
+    CaseFormats(Jackson2ObjectMapperBuilder builder) {
+        formats = List.of(
+            new Format("json", MediaType.APPLICATION_JSON, builder.build()),
+            new Format("cbor", MediaType.parseMediaType(CBOR), builder.factory(new CBORFactory()).build()),
+            new Format("smile", MediaType.parseMediaType(SMILE), builder.factory(new SmileFactory()).build())
+        );
+    }
+
+    /**
+     * The format a client prefers, by quality and then specificity; JSON if it accepts anything or names none.
+     * @param accept the {@code Accept} header, or null
+     * @return the format
+     */
+    Format negotiate(String accept) {
+        if (accept == null) {
+            return formats.getFirst();
+        }
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType mediaType : accepted) {
+            for (Format format : formats) {
+                if (mediaType.isCompatibleWith(format.mediaType())) {
+                    return format;
+                }
+            }
+        }
+        return formats.getFirst();
+    }
+
+    /**
+     * A format and the mapper that writes it.
+     * @param name         the short name of the format, which tells its entity tags apart from those of the others
+     * @param mediaType    the content type of the response
+     * @param objectMapper the mapper
+     */
+    record Format(String name, MediaType mediaType, ObjectMapper objectMapper) {
+
+        /**
+         * Whether this is JSON, the format written when the client names no other.
+         * @return true for JSON
+         */
+        boolean isJson() {
+            return MediaType.APPLICATION_JSON.equals(mediaType);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import uk.gov.hmcts.reform.dev.model.CasePurgeJob;
+import uk.gov.hmcts.reform.dev.repository.CasePurgeCriteria;
+import uk.gov.hmcts.reform.dev.service.CasePurgeService;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.http.ResponseEntity.ok;
+
+/**
+ * Controller for purging cases in bulk.
+ * Purges run in the background, so submitting one returns a job to poll for progress.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/case/purge")
+public class CasePurgeController {
+
+    private final CasePurgeService casePurgeService;
+
+    public CasePurgeController(CasePurgeService casePurgeService) {
+        this.casePurgeService = casePurgeService;
+    }
+
+    /**
+     * Start deleting the cases matching every criterion given.
+     * @param criteria the IDs, case number and/or creation cutoff of the cases to delete
+     * @return ResponseEntity with the queued job and its location, or bad request if no criteria are given
+     */
+    @PostMapping(consumes = "application/json", produces = "application/json")
+    public ResponseEntity<CasePurgeJob> purgeCases(@RequestBody CasePurgeCriteria criteria) {
+        if (!criteria.isValid()) {
+            return ResponseEntity.badRequest().build();
+        }
+        CasePurgeJob job = casePurgeService.submit(criteria);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+            .path("/{id}")
+            .buildAndExpand(job.id())
+            .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    /**
+     * Get the progress of a purge.
+     * @param id the ID of the job
+     * @return ResponseEntity with the job, or not found if there is no such job
+     */
+    @GetMapping(value = "/{id}", produces = "application/json")
+    public ResponseEntity<CasePurgeJob> getPurge(@PathVariable UUID id) {
+        return ResponseEntity.of(casePurgeService.getJob(id));
+    }
+
+    /**
+     * Get the progress of recent purges, most recent first.
+     * @return ResponseEntity with the jobs
+     */
+    @GetMapping(produces = "application/json")
+    public ResponseEntity<List<CasePurgeJob>> getPurges() {
+        return ok(casePurgeService.getJobs());
+    }
+}
@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.model.CaseCreatedStats;
+import uk.gov.hmcts.reform.dev.model.CasePeriod;
+import uk.gov.hmcts.reform.dev.model.CaseStats;
+import uk.gov.hmcts.reform.dev.service.CaseStatsService;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.springframework.http.ResponseEntity.ok;
+
+/**
+ * Controller for case counts.
+ * Counts are kept in memory and resynced with the table periodically, so they can briefly miss writes made
+ * through other instances.
+ */
+@RestController
+public class CaseStatsController {
+
+    private static final int DEFAULT_DAYS = 30;
+
+    private final CaseStatsService caseStatsService;
+
+    public CaseStatsController(CaseStatsService caseStatsService) {
+        this.caseStatsService = caseStatsService;
+    }
+
+    /**
+     * Get the number of cases.
+     * @return ResponseEntity with the total and the number of cases with each case number
+     */
+    @GetMapping(value = "/case/stats", produces = "application/json")
+    public ResponseEntity<CaseStats> getStats() {
+        return ok(caseStatsService.stats());
+    }
+
+    /**
+     * Get the number of cases created in each day or week of a date range.
+     * Counts are read from summary tables kept up to date by the database, so they always include every write.
+     * @param period day or week; weeks start on Monday and the range is widened to whole weeks
+     * @param from the first day to count, by default 30 days before {@code to}
+     * @param to the day after the last day to count, by default tomorrow
+     * @return ResponseEntity with the total and the count of each period that has any cases, or bad request if
+     *     the period or date range is not valid
+     */
+    @GetMapping(value = "/case/stats/created", produces = "application/json")
+    public ResponseEntity<CaseCreatedStats> getCreatedStats(
+        @RequestParam(defaultValue = "day") String period,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        Optional<CasePeriod> casePeriod = CasePeriod.fromName(period);
+        LocalDate end = to == null ? LocalDate.now().plusDays(1) : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_DAYS) : from;
+        if (casePeriod.isEmpty() || !start.isBefore(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ok(caseStatsService.created(casePeriod.get(), start, end));
+    }
+}
@@ -0,0 +1,345 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseIngestResult;
+import uk.gov.hmcts.reform.dev.model.CaseLookup;
+import uk.gov.hmcts.reform.dev.model.CasePage;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+import uk.gov.hmcts.reform.dev.repository.ReactiveCaseRepository;
+import uk.gov.hmcts.reform.dev.service.CaseRules;
+import uk.gov.hmcts.reform.dev.service.ReactiveCaseService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static org.apache.commons.lang3.ObjectUtils.isEmpty;
+import static uk.gov.hmcts.reform.dev.controllers.CaseController.DEFAULT_SEARCH_SIZE;
+import static uk.gov.hmcts.reform.dev.controllers.CaseController.MAX_LOOKUP_IDS;
+import static uk.gov.hmcts.reform.dev.controllers.CaseController.MAX_PAGE_LIMIT;
+
+/**
+ * The case API of {@link CaseController} on the reactive stack, served when the {@code reactive} profile is active.
+ * Requests, responses and status codes are the same, but no request holds a thread while it waits on the database.
+ * Lists and searches are written as a JSON array one summary at a time as rows arrive, and rows are only fetched
+ * as fast as the client reads the response.
+ */
+@RestController
+@RequestMapping("/case")
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCaseController {
+
+    private static final byte[] ARRAY_START = "[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_END = "]".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+
+    private final ReactiveCaseRepository caseRepository;
+    private final ReactiveCaseService caseService;
+    private final ObjectMapper objectMapper;
+
+    public ReactiveCaseController(ReactiveCaseRepository caseRepository,
+                                  ReactiveCaseService caseService,
+                                  ObjectMapper objectMapper) {
+        this.caseRepository = caseRepository;
+        this.caseService = caseService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Get summaries of all cases ordered by ID, streamed as they are read.
+     * @param afterId only return cases with an ID greater than this, to resume an interrupted read
+     * @param fields the comma-separated summary fields to return, all of them if not given
+     * @param exchange the exchange, checked against the collection ETag
+     * @return ResponseEntity streaming a JSON array of case summaries, not modified if no case has changed,
+     *     or bad request if the fields are not valid
+     */
+    @GetMapping(value = "/getAllCases", produces = "application/json")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllCases(@RequestParam(defaultValue = "0") int afterId,
+                                                              @RequestParam(required = false) String fields,
+                                                              ServerWebExchange exchange) {
+        if (!CaseFields.isValid(fields)) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return ifCollectionModified(exchange, () -> Mono.just(
+            jsonArray(caseRepository.findSummariesAfter(afterId), fields, exchange)
+        ));
+    }
+
+    /**
+     * Get a page of case summaries ordered by ID, using the last ID of the previous page as the cursor.
+     * @param afterId the nextCursor of the previous page, or 0 for the first page
+     * @param limit the maximum number of cases to return, at most {@value CaseController#MAX_PAGE_LIMIT}
+     * @param fields the comma-separated summary fields to return, all of them if not given
+     * @param exchange the exchange, checked against the collection ETag
+     * @return ResponseEntity with the page of cases, not modified if no case has changed,
+     *     or bad request if the limit is out of range or the fields are not valid
+     */
+    @GetMapping(value = "/getAllCases", params = "limit", produces = "application/json")
+    public Mono<ResponseEntity<byte[]>> getCasePage(@RequestParam(defaultValue = "0") int afterId,
+                                                    @RequestParam int limit,
+                                                    @RequestParam(required = false) String fields,
+                                                    ServerWebExchange exchange) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT || !CaseFields.isValid(fields)) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        // Read one extra row to find out whether there is a next page without a second query
+        return ifCollectionModified(exchange, () -> caseRepository.findSummariesAfter(afterId, limit + 1)
+            .collectList()
+            .map(caseList -> {
+                if (caseList.size() <= limit) {
+                    return new CasePage(caseList, null);
+                }
+                List<CaseSummary> page = caseList.subList(0, limit);
+                return new CasePage(page, page.getLast().id());
+            })
+            .handle((page, sink) -> {
+                try {
+                    sink.next(ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                                  .body(writer(fields).writeValueAsBytes(page)));
+                } catch (JsonProcessingException e) {
+                    sink.error(e);
+                }
+            }));
+    }
+
+    /**
+     * Add a new case.
+     * @param newCase the case to be added
+     * @return ResponseEntity with the created case
+     */
+    @PostMapping(value = "/addCase")
+    public Mono<ResponseEntity<Case>> addCase(@RequestBody Case newCase) {
+        if (!CaseRules.isValid(newCase)) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        CaseRules.applyDefaults(newCase);
+        return caseService.save(newCase).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Add many cases in one call, inserting them in batches as the request body arrives.
+     * @param cases a JSON array of cases, or cases as newline-delimited JSON
+     * @return ResponseEntity with the outcome of each item, in input order
+     */
+    @PostMapping(value = "/addCases", consumes = {"application/json", "application/x-ndjson"},
+        produces = "application/json")
+    public Mono<ResponseEntity<List<CaseIngestResult>>> addCases(@RequestBody(required = false) Flux<Case> cases) {
+        Flux<Case> body = cases == null ? Flux.empty() : cases;
+        // The argument resolver wraps decoding errors, which are reported per item rather than failing the request
+        return caseService.ingest(body.onErrorMap(
+            e -> e instanceof ServerWebInputException && e.getCause() instanceof CodecException, Throwable::getCause
+        )).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Get many cases by ID in one call, reading each distinct ID once.
+     * @param ids a JSON array of up to {@value CaseController#MAX_LOOKUP_IDS} case IDs, which may repeat
+     * @return ResponseEntity with the case or a not found marker for each ID, in request order, or bad request if
+     *     there are too many IDs or any is null
+     */
+    @PostMapping(value = "/getCases", consumes = "application/json", produces = "application/json")
+    public Mono<ResponseEntity<List<CaseLookup>>> getCases(@RequestBody List<Integer> ids) {
+        if (ids.size() > MAX_LOOKUP_IDS || ids.stream().anyMatch(Objects::isNull)) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return caseRepository.findAllById(List.copyOf(new LinkedHashSet<>(ids)))
+            .collectMap(Case::getId)
+            .map(found -> ResponseEntity.ok(ids.stream()
+                .map(id -> found.containsKey(id) ? CaseLookup.found(found.get(id)) : CaseLookup.notFound(id))
+                .toList()));
+    }
+
+    /**
+     * Get a case by its ID.
+     * When the request has an {@code If-None-Match} header only the version is read to check it,
+     * and the case itself is only read if it has changed.
+     * @param id the ID of the case
+     * @param exchange the exchange, checked against the case ETag
+     * @return ResponseEntity with the case, or not modified if the client has the current version
+     */
+    @GetMapping(value = "/{id}", produces = "application/json")
+    public Mono<ResponseEntity<Case>> getCaseById(@PathVariable int id, ServerWebExchange exchange) {
+        Mono<Boolean> notModified = exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH) == null
+            ? Mono.just(false)
+            : caseRepository.findVersionById(id)
+                .map(version -> exchange.checkNotModified(CaseETags.of(version)))
+                .defaultIfEmpty(false);
+        return notModified.flatMap(unchanged -> unchanged
+            ? Mono.just(ReactiveCaseController.<Case>notModified())
+            : caseRepository.findById(id)
+                .map(existingCase -> ResponseEntity.ok().eTag(CaseETags.of(existingCase.getVersion()))
+                    .body(existingCase))
+                .defaultIfEmpty(ResponseEntity.ok().build()));
+    }
+
+    /**
+     * Update the case number, title and description of a case, if it has not changed since the client read it.
+     * The version read is taken from the {@code If-Match} header when given, otherwise from the version in the body.
+     * @param id the ID of the case
+     * @param changes the new values of the case
+     * @param exchange the exchange, with an optional {@code If-Match} header holding the case ETag
+     * @return ResponseEntity with the updated case, bad request if the case is not valid, not found if it does not
+     *     exist, precondition failed if it does not match {@code If-Match}, or conflict if it is not at the version
+     *     in the body
+     */
+    @PutMapping(value = "/{id}", produces = "application/json")
+    public Mono<ResponseEntity<Case>> updateCase(@PathVariable int id, @RequestBody Case changes,
+                                                 ServerWebExchange exchange) {
+        if (!CaseRules.isValid(changes)) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        String ifMatch = exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_MATCH);
+        Mono<Long> version = ifMatch == null ? Mono.just(changes.getVersion()) : matchedVersion(id, ifMatch);
+        return version
+            .flatMap(expected -> caseService.update(id, expected, changes))
+            .defaultIfEmpty(false)
+            .flatMap(updated -> {
+                if (updated) {
+                    return caseRepository.findById(id)
+                        .map(updatedCase -> ResponseEntity.ok().eTag(CaseETags.of(updatedCase.getVersion()))
+                            .body(updatedCase));
+                }
+                HttpStatus stale = ifMatch == null ? HttpStatus.CONFLICT : HttpStatus.PRECONDITION_FAILED;
+                return caseRepository.findVersionById(id)
+                    .map(current -> ResponseEntity.status(stale).<Case>build())
+                    .defaultIfEmpty(ResponseEntity.notFound().build());
+            });
+    }
+
+    /**
+     * Delete a case by its ID.
+     * @param id the ID of the case to be deleted
+     * @return ResponseEntity with no content if successful
+     */
+    @DeleteMapping(value = "/{id}", produces = "application/json")
+    public Mono<ResponseEntity<Case>> deleteCaseById(@PathVariable int id) {
+        return caseService.delete(id).thenReturn(ResponseEntity.ok().build());
+    }
+
+    /**
+     * Search cases by case number, title or both, streaming summaries of the matches.
+     * Title matches are ranked: exact matches first, then titles starting with the term, then the rest.
+     * @param caseNumber the case number to match
+     * @param title the text to look for anywhere in the title, ignoring case
+     * @param page the zero-based page of results to return
+     * @param size the number of results per page, at most {@value CaseController#MAX_PAGE_LIMIT}
+     * @param fields the comma-separated summary fields to return, all of them if not given
+     * @param exchange the exchange, checked against the collection ETag
+     * @return ResponseEntity streaming the matching cases, not modified if no case has changed,
+     *     or bad request if the page is out of range or the fields are not valid
+     */
+    @GetMapping(value = "/searchCases", produces = "application/json")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> searchCases(
+        @RequestParam(required = false) Integer caseNumber,
+        @RequestParam(required = false) String title,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = DEFAULT_SEARCH_SIZE) int size,
+        @RequestParam(required = false) String fields,
+        ServerWebExchange exchange) {
+
+        if (page < 0 || size < 1 || size > MAX_PAGE_LIMIT || !CaseFields.isValid(fields)) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        Pageable pageable = PageRequest.of(page, size);
+        Flux<CaseSummary> caseList;
+        if (isEmpty(caseNumber) && isEmpty(title)) {
+            log.info("No search term provided, returning all cases");
+            caseList = caseRepository.findAll(pageable);
+        } else if (!isEmpty(caseNumber) && !isEmpty(title)) {
+            caseList = caseRepository.searchByCaseNumberAndTitle(caseNumber, title, pageable);
+        } else if (isEmpty(caseNumber)) {
+            caseList = caseRepository.searchByTitle(title, pageable);
+        } else {
+            caseList = caseRepository.findByCaseNumber(caseNumber, pageable);
+        }
+        return ifCollectionModified(exchange, () -> Mono.just(jsonArray(caseList, fields, exchange)));
+    }
+
+    /**
+     * Reject a write based on a stale read of a case, such as {@code addCase} given the ID and an old version
+     * of an existing case.
+     * @return ResponseEntity with conflict
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> handleStaleWrite() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    private Mono<Long> matchedVersion(int id, String ifMatch) {
+        if (CaseETags.ANY.equals(ifMatch.trim())) {
+            return caseRepository.findVersionById(id);
+        }
+        return Mono.justOrEmpty(CaseETags.version(ifMatch));
+    }
+
+    // Reads the collection version before any case, so a list read during a write is never tagged as newer than it is
+    private <T> Mono<ResponseEntity<T>> ifCollectionModified(ServerWebExchange exchange,
+                                                             Supplier<Mono<ResponseEntity<T>>> read) {
+        return caseRepository.findCollectionVersion()
+            .map(version -> exchange.checkNotModified(CaseETags.ofCollection(version)))
+            .defaultIfEmpty(false)
+            .flatMap(unchanged -> unchanged ? Mono.just(ReactiveCaseController.<T>notModified()) : read.get());
+    }
+
+    private ResponseEntity<Flux<DataBuffer>> jsonArray(Flux<CaseSummary> summaries, String fields,
+                                                       ServerWebExchange exchange) {
+        ObjectWriter writer = writer(fields);
+        DataBufferFactory buffers = exchange.getResponse().bufferFactory();
+        Flux<DataBuffer> items = summaries.index().handle((item, sink) -> {
+            try {
+                byte[] json = writer.writeValueAsBytes(item.getT2());
+                DataBuffer buffer = buffers.allocateBuffer(json.length + 1);
+                if (item.getT1() > 0) {
+                    buffer.write(SEPARATOR);
+                }
+                sink.next(buffer.write(json));
+            } catch (JsonProcessingException e) {
+                sink.error(e);
+            }
+        });
+        Flux<DataBuffer> body = Flux.concat(
+            Mono.fromSupplier(() -> buffers.wrap(ARRAY_START)), items, Mono.fromSupplier(() -> buffers.wrap(ARRAY_END))
+        );
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private ObjectWriter writer(String fields) {
+        return objectMapper.writer(CaseFields.filters(fields));
+    }
+
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a repository read whose result is cached on the instance, in the cases cache or in Hibernate's
+ * second-level cache, and so must read from the primary when replicas are configured.
+ * See {@link CachedReadRoutingAspect}.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedRead {
+}
@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends {@link CachedRead} calls to the primary when {@code cases.datasource.replicas.enabled} is set, so the caches
+ * are never filled from a replica. A replica still behind a write would otherwise put back the row the write had
+ * just evicted, for every client until the entry expires; the read-your-writes cookie cannot help, as cache hits
+ * are served before any routing happens.
+ *
+ * <p>Runs inside the cache advice, so cache hits still cost no query, and outside the coalescing advice, so the
+ * misses are coalesced and batched with other reads of the primary.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "cases.datasource.replicas.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class CachedReadRoutingAspect {
+
+    @Around("this(uk.gov.hmcts.reform.dev.repository.CaseRepository)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        CachedRead cachedRead = AnnotationUtils.findAnnotation(
+            ((MethodSignature) joinPoint.getSignature()).getMethod(), CachedRead.class
+        );
+        if (cachedRead == null || PrimaryReads.isRequired()) {
+            return joinPoint.proceed();
+        }
+        PrimaryReads.setRequired(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PrimaryReads.setRequired(false);
+        }
+    }
+}
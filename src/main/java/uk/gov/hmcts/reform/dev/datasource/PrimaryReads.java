@@ -0,0 +1,53 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Marks the current thread as needing to read from the primary, because the client it is serving wrote
+ * recently and a replica may not have caught up yet, or because what it reads is cached.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> REQUIRED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    /**
+     * Whether the current thread must read from the primary.
+     * @return true if reads must go to the primary
+     */
+    public static boolean isRequired() {
+        return Boolean.TRUE.equals(REQUIRED.get());
+    }
+
+    /**
+     * Mark or unmark the current thread as needing to read from the primary.
+     * @param required true if reads must go to the primary
+     */
+    public static void setRequired(boolean required) {
+        if (required) {
+            REQUIRED.set(Boolean.TRUE);
+        } else {
+            REQUIRED.remove();
+        }
+    }
+
+    /**
+     * Carries the mark over to tasks handed to another thread, such as streamed responses.
+     * @return the decorator
+     */
+    static TaskDecorator propagating() {
+        return task -> {
+            boolean required = isRequired();
+            return () -> {
+                setRequired(required);
+                try {
+                    task.run();
+                } finally {
+                    setRequired(false);
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Gives each client read-your-writes consistency while replicas catch up.
+ * A request that may write sets a cookie holding the time until which that client's reads go to the primary;
+ * requests carrying an unexpired cookie read from the primary.
+ */
+class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "cases-primary-until";
+
+    private static final Set<String> WRITE_METHODS = Set.of(
+        HttpMethod.POST.name(), HttpMethod.PUT.name(), HttpMethod.PATCH.name(), HttpMethod.DELETE.name()
+    );
+
+    private final Duration stickyAfterWrite;
+
+    ReadYourWritesFilter(Duration stickyAfterWrite) {
+        this.stickyAfterWrite = stickyAfterWrite;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+
+        long now = System.currentTimeMillis();
+        boolean primaryRequired = primaryUntil(request) > now;
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            // Set before the response is committed; a write that fails only costs the client some primary reads
+            Cookie cookie = new Cookie(COOKIE, String.valueOf(now + stickyAfterWrite.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, stickyAfterWrite.toSeconds()));
+            response.addCookie(cookie);
+            primaryRequired = true;
+        }
+        PrimaryReads.setRequired(primaryRequired);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            PrimaryReads.setRequired(false);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE);
+        if (cookie == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
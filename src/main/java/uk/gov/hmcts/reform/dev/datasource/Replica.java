@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.sql.DataSource;
+
+/**
+ * A read replica and what is known about its health.
+ * Replicas start unhealthy and take reads once the first health check passes.
+ */
+final class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy;
+
+    Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    String name() {
+        return name;
+    }
+
+    DataSource dataSource() {
+        return dataSource;
+    }
+
+    boolean isHealthy() {
+        return healthy;
+    }
+
+    void setHealthy(boolean healthy) {
+        this.healthy = healthy;
+    }
+
+    /**
+     * The number of connections to the replica in use, the load measure for least-loaded selection.
+     */
+    int activeConnections() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings for sending read-only transactions to PostgreSQL read replicas.
+ *
+ * @param enabled             whether reads are routed to replicas at all
+ * @param urls                the JDBC URLs of the replicas, which share the primary's credentials and pool settings
+ * @param selection           how a replica is chosen for each connection
+ * @param maxLag              how far a replica can fall behind the primary before reads stop going to it
+ * @param healthCheckInterval how often each replica's availability and lag are checked
+ * @param stickyAfterWrite    how long a client's reads go to the primary after it writes, so it reads its own writes
+ */
+@ConfigurationProperties("cases.datasource.replicas")
+public record ReplicaProperties(boolean enabled,
+                                @DefaultValue List<String> urls,
+                                @DefaultValue("round-robin") Selection selection,
+                                @DefaultValue("5s") Duration maxLag,
+                                @DefaultValue("5s") Duration healthCheckInterval,
+                                @DefaultValue("5s") Duration stickyAfterWrite) {
+
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_LOADED
+    }
+}
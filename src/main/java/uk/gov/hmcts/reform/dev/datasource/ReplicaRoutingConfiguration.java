@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * Sends read-only transactions to read replicas when {@code cases.datasource.replicas.enabled} is set.
+ * The application's data source is a lazy proxy over the primary: it only fetches a real connection
+ * when the first statement runs, by which time the transaction has marked the connection read-only,
+ * and read-only connections come from the replicas.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cases.datasource.replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaRoutingConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    ReplicaRoutingDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                               ReplicaProperties replicaProperties,
+                                               MeterRegistry meterRegistry) {
+        List<Replica> replicas = new ArrayList<>();
+        for (String url : replicaProperties.urls()) {
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource dataSource = new HikariDataSource();
+            primaryDataSource.copyStateTo(dataSource);
+            dataSource.setJdbcUrl(url);
+            dataSource.setPoolName(name);
+            dataSource.setReadOnly(true);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            Replica replica = new Replica(name, dataSource);
+            Gauge.builder("cases.datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                .description("Whether the read replica is taking reads")
+                .tag("replica", name)
+                .register(meterRegistry);
+            replicas.add(replica);
+        }
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+            primaryDataSource, replicas, replicaProperties.selection(), replicaProperties.maxLag()
+        );
+        routing.startHealthChecks(replicaProperties.healthCheckInterval());
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        // Known defaults, so creating the proxy does not need a connection to look them up
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+
+    @Bean
+    FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaProperties replicaProperties) {
+        return new FilterRegistrationBean<>(new ReadYourWritesFilter(replicaProperties.stickyAfterWrite()));
+    }
+
+    @Bean
+    TaskDecorator primaryReadsTaskDecorator() {
+        return PrimaryReads.propagating();
+    }
+}
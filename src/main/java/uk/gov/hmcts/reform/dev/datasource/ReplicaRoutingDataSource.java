@@ -0,0 +1,141 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import uk.gov.hmcts.reform.dev.datasource.ReplicaProperties.Selection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+/**
+ * Hands out connections to a healthy read replica, falling back to the primary when none is healthy,
+ * when the current client must read its own writes, or when a replica refuses a connection.
+ * Used for read-only transactions only; writes never reach it.
+ * Replicas are checked in the background: one that cannot be reached, or whose last replayed
+ * transaction is further behind than {@code maxLag}, takes no reads until it recovers.
+ */
+@Slf4j
+class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /**
+     * Seconds the replica is behind the primary. A replica that has replayed everything it has received
+     * is not behind, however old its last transaction; a server that is not a replica is never behind.
+     */
+    static final String LAG_QUERY = """
+        select coalesce(case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                             else extract(epoch from now() - pg_last_xact_replay_timestamp()) end, 0)""";
+
+    private static final int HEALTH_CHECK_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecks =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("replica-health").daemon().factory());
+
+    ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, Selection selection, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.selection = selection;
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * Check every replica now and then every {@code interval}.
+     * @param interval the time between checks
+     */
+    void startHealthChecks(Duration interval) {
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = select();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource().getConnection();
+        } catch (SQLException e) {
+            log.warn("Read replica {} is unavailable, reading from the primary", replica.name(), e);
+            replica.setHealthy(false);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials");
+    }
+
+    @Override
+    public void close() {
+        healthChecks.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Could not close read replica {}", replica.name(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The replica to read from, or null to read from the primary.
+     */
+    Replica select() {
+        if (PrimaryReads.isRequired()) {
+            return null;
+        }
+        List<Replica> healthy = replicas.stream().filter(Replica::isHealthy).toList();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        if (selection == Selection.LEAST_LOADED) {
+            return healthy.stream().min(Comparator.comparingInt(Replica::activeConnections)).orElseThrow();
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy = isHealthy(replica);
+            if (healthy && !replica.isHealthy()) {
+                log.info("Read replica {} is taking reads", replica.name());
+            } else if (!healthy && replica.isHealthy()) {
+                log.warn("Read replica {} is out of rotation", replica.name());
+            }
+            replica.setHealthy(healthy);
+        }
+    }
+
+    private boolean isHealthy(Replica replica) {
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(replica.dataSource());
+            jdbcTemplate.setQueryTimeout(HEALTH_CHECK_TIMEOUT_SECONDS);
+            Double lagSeconds = jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+            if (lagSeconds != null && lagSeconds * 1000 > maxLag.toMillis()) {
+                log.debug("Read replica {} is {}s behind the primary", replica.name(), lagSeconds);
+                return false;
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.debug("Health check of read replica {} failed", replica.name(), e);
+            return false;
+        }
+    }
+}
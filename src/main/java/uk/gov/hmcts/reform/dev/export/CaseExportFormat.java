@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.dev.export;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Formats cases can be exported in.
+ */
+public enum CaseExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    CaseExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Look up a format by its file extension, ignoring case.
+     * @param extension the file extension, for example {@code csv}
+     * @return the format, or empty if there is no such format
+     */
+    public static Optional<CaseExportFormat> fromExtension(String extension) {
+        return Arrays.stream(values())
+            .filter(format -> format.extension.equalsIgnoreCase(extension))
+            .findFirst();
+    }
+}
@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.dev.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseFilter;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes cases to an output stream as they are read from the database cursor.
+ * Only one case is held in memory at a time, so an export of the whole table costs no more memory than one row.
+ */
+@Component
+public class CaseExporter {
+
+    static final String CSV_HEADER = "id,caseNumber,title,description,createdDate\r\n";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CaseRepository caseRepository;
+    private final ObjectWriter caseWriter;
+
+    public CaseExporter(CaseRepository caseRepository, ObjectMapper objectMapper) {
+        this.caseRepository = caseRepository;
+        // The writer is buffered and flushed once at the end, rather than after every case
+        this.caseWriter = objectMapper.writerFor(Case.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Export the cases matching a filter.
+     * @param filter the cases to export
+     * @param format the format to write them in
+     * @param gzip whether to gzip the output
+     * @param out the stream to write to, which is left open
+     * @throws IOException if the output cannot be written
+     */
+    public void export(CaseFilter filter, CaseExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == CaseExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            caseRepository.forEachCase(filter, exportedCase -> writeCsv(writer, exportedCase));
+        } else {
+            JsonGenerator generator = caseWriter.createGenerator(writer);
+            generator.setRootValueSeparator(null);
+            caseRepository.forEachCase(filter, exportedCase -> writeNdjson(generator, exportedCase));
+            generator.flush();
+        }
+        writer.flush();
+        if (gzip) {
+            ((GZIPOutputStream) target).finish();
+        }
+    }
+
+    private void writeNdjson(JsonGenerator generator, Case exportedCase) {
+        try {
+            caseWriter.writeValue(generator, exportedCase);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(Writer writer, Case exportedCase) {
+        try {
+            writer.write(Integer.toString(exportedCase.getId()));
+            writer.write(',');
+            writer.write(Integer.toString(exportedCase.getCaseNumber()));
+            writer.write(',');
+            writeCsvField(writer, exportedCase.getTitle());
+            writer.write(',');
+            writeCsvField(writer, exportedCase.getDescription());
+            writer.write(',');
+            if (exportedCase.getCreatedDate() != null) {
+                DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(exportedCase.getCreatedDate(), writer);
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // RFC 4180: quote fields containing a separator, quote or line break, doubling any quotes
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
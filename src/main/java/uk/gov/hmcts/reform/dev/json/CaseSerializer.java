@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.dev.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import uk.gov.hmcts.reform.dev.model.Case;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Writes a {@link Case} field by field, in the order and format of the bean serializer it replaces.
+ */
+class CaseSerializer extends StdSerializer<Case> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString CASE_NUMBER = new SerializedString("caseNumber");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString CREATED_DATE = new SerializedString("createdDate");
+    private static final SerializableString VERSION = new SerializedString("version");
+    private static final SerializableString UPDATED_DATE = new SerializedString("updatedDate");
+
+    CaseSerializer() {
+        super(Case.class);
+    }
+
+    @Override
+    public void serialize(Case value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(value);
+        generator.writeFieldName(ID);
+        generator.writeNumber(value.getId());
+        generator.writeFieldName(CASE_NUMBER);
+        generator.writeNumber(value.getCaseNumber());
+        generator.writeFieldName(TITLE);
+        generator.writeString(value.getTitle());
+        generator.writeFieldName(DESCRIPTION);
+        generator.writeString(value.getDescription());
+        generator.writeFieldName(CREATED_DATE);
+        writeDateTime(value.getCreatedDate(), generator, provider);
+        generator.writeFieldName(VERSION);
+        generator.writeNumber(value.getVersion());
+        generator.writeFieldName(UPDATED_DATE);
+        writeDateTime(value.getUpdatedDate(), generator, provider);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Write a date-time as the mapper would, through {@link IsoDateTimeFormat} unless the mapper writes dates as
+     * timestamps.
+     */
+    static void writeDateTime(LocalDateTime value, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeValue(value, generator);
+        } else {
+            IsoDateTimeFormat.write(value, generator);
+        }
+    }
+}
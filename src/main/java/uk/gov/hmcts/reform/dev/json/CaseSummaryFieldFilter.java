@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.json;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+
+import java.util.Set;
+
+/**
+ * The {@link CaseSummary#FIELDS_FILTER} filter that writes only the given fields of each summary.
+ * It filters both the bean serializer and {@link CaseJsonModule}'s summary serializer, which asks it directly
+ * which fields to write.
+ */
+public class CaseSummaryFieldFilter extends SimpleBeanPropertyFilter.FilterExceptFilter {
+
+    private static final long serialVersionUID = 1L;
+
+    public CaseSummaryFieldFilter(Set<String> fields) {
+        super(fields);
+    }
+
+    /**
+     * Whether a field is written.
+     * @param field the name of the field
+     * @return true if it is one of the fields asked for
+     */
+    public boolean includes(String field) {
+        return _propertiesToInclude.contains(field);
+    }
+}
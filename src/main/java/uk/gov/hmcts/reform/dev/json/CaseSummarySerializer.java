@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.dev.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link CaseSummary} field by field, in the order and format of the bean serializer it replaces.
+ * The {@code fields} request parameter still applies: when the write is filtered by a {@link CaseSummaryFieldFilter}
+ * only the fields it includes are written.
+ */
+class CaseSummarySerializer extends StdSerializer<CaseSummary> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString CASE_NUMBER = new SerializedString("caseNumber");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString CREATED_DATE = new SerializedString("createdDate");
+
+    CaseSummarySerializer() {
+        super(CaseSummary.class);
+    }
+
+    @Override
+    public void serialize(CaseSummary value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        CaseSummaryFieldFilter fields = fieldFilter(value, provider);
+        generator.writeStartObject(value);
+        if (fields == null || fields.includes("id")) {
+            generator.writeFieldName(ID);
+            generator.writeNumber(value.id());
+        }
+        if (fields == null || fields.includes("caseNumber")) {
+            generator.writeFieldName(CASE_NUMBER);
+            generator.writeNumber(value.caseNumber());
+        }
+        if (fields == null || fields.includes("title")) {
+            generator.writeFieldName(TITLE);
+            generator.writeString(value.title());
+        }
+        if (fields == null || fields.includes("createdDate")) {
+            generator.writeFieldName(CREATED_DATE);
+            CaseSerializer.writeDateTime(value.createdDate(), generator, provider);
+        }
+        generator.writeEndObject();
+    }
+
+    // Any other filter, including none, writes every field, as the default filter provider does
+    private static CaseSummaryFieldFilter fieldFilter(CaseSummary value, SerializerProvider provider) {
+        FilterProvider filters = provider.getFilterProvider();
+        if (filters == null) {
+            return null;
+        }
+        PropertyFilter filter = filters.findPropertyFilter(CaseSummary.FIELDS_FILTER, value);
+        return filter instanceof CaseSummaryFieldFilter fields ? fields : null;
+    }
+}
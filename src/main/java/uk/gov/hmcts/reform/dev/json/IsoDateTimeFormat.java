@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.dev.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes a {@link LocalDateTime} exactly as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} formats it, without going
+ * through the formatter.
+ *
+ * <p>The date part, {@code yyyy-MM-ddT}, is cached per day, as the dates of cases written together are mostly from
+ * the same few days; the time is written digit by digit. Nothing but the characters written is allocated.
+ */
+final class IsoDateTimeFormat {
+
+    // A power of two, so the slot is a mask of the epoch day; covers nearly three years without any day
+    // evicting another
+    private static final int CACHED_DAYS = 1024;
+    private static final int MAX_LENGTH = "yyyy-MM-ddTHH:mm:ss.nnnnnnnnn".length();
+    private static final int DATE_LENGTH = "yyyy-MM-ddT".length();
+
+    private static final DatePrefix[] DATE_PREFIXES = new DatePrefix[CACHED_DAYS];
+
+    private IsoDateTimeFormat() {
+    }
+
+    /**
+     * Write a date-time as a JSON string.
+     * @param value the date-time
+     * @param generator the generator to write to
+     * @throws IOException if it cannot be written
+     */
+    static void write(LocalDateTime value, JsonGenerator generator) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // Signed and expanded years are formatted differently, and no case has one
+            generator.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] chars = new char[MAX_LENGTH];
+        System.arraycopy(datePrefix(value.toLocalDate()), 0, chars, 0, DATE_LENGTH);
+        int length = DATE_LENGTH;
+        length = twoDigits(value.getHour(), chars, length);
+        chars[length++] = ':';
+        length = twoDigits(value.getMinute(), chars, length);
+        chars[length++] = ':';
+        length = twoDigits(value.getSecond(), chars, length);
+        int nano = value.getNano();
+        if (nano > 0) {
+            chars[length++] = '.';
+            // The formatter writes as few fraction digits as it can, dropping trailing zeros
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            for (int i = length + digits - 1; i >= length; i--) {
+                chars[i] = (char) ('0' + nano % 10);
+                nano /= 10;
+            }
+            length += digits;
+        }
+        generator.writeString(chars, 0, length);
+    }
+
+    private static char[] datePrefix(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        int slot = (int) (epochDay & (CACHED_DAYS - 1));
+        // Entries are immutable, so a slot read while another thread replaces it is either the old or the new one
+        DatePrefix cached = DATE_PREFIXES[slot];
+        if (cached != null && cached.epochDay() == epochDay) {
+            return cached.chars();
+        }
+        char[] chars = new char[DATE_LENGTH];
+        int year = date.getYear();
+        chars[0] = (char) ('0' + year / 1000);
+        chars[1] = (char) ('0' + year / 100 % 10);
+        twoDigits(year % 100, chars, 2);
+        chars[4] = '-';
+        twoDigits(date.getMonthValue(), chars, 5);
+        chars[7] = '-';
+        twoDigits(date.getDayOfMonth(), chars, 8);
+        chars[10] = 'T';
+        DATE_PREFIXES[slot] = new DatePrefix(epochDay, chars);
+        return chars;
+    }
+
+    private static int twoDigits(int value, char[] chars, int offset) {
+        chars[offset] = (char) ('0' + value / 10);
+        chars[offset + 1] = (char) ('0' + value % 10);
+        return offset + 2;
+    }
+
+    private record DatePrefix(long epochDay, char[] chars) {
+    }
+}
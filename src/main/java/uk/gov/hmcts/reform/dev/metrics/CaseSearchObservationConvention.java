@@ -0,0 +1,40 @@
+package uk.gov.hmcts.reform.dev.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Adds a {@code search} tag to the {@code http.server.requests} timer naming the search that a request ran.
+ * Requests that are not searches are tagged {@value #NO_SEARCH}, so every timer carries the same tag keys.
+ */
+@Component
+public class CaseSearchObservationConvention extends DefaultServerRequestObservationConvention {
+
+    static final String SEARCH_TAG = "search";
+    static final String NO_SEARCH = "none";
+
+    private static final String SEARCH_ATTRIBUTE = CaseSearchObservationConvention.class.getName() + ".search";
+
+    /**
+     * Record the search run by the current request, so it is tagged on the request timer.
+     * Does nothing outside a web request.
+     * @param search the name of the search
+     */
+    public static void recordSearch(String search) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(SEARCH_ATTRIBUTE, search, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        Object search = context.getCarrier().getAttribute(SEARCH_ATTRIBUTE);
+        return super.getLowCardinalityKeyValues(context)
+            .and(SEARCH_TAG, search == null ? NO_SEARCH : search.toString());
+    }
+}
@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.dev.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Records how many rows each {@link CaseRepository} method returns, as the {@value #METRIC_NAME} summary.
+ * It complements the {@code spring.data.repository.invocations} timer, which has the same
+ * {@code repository} and {@code method} tags: a slow query that returns many rows needs a different fix
+ * from one that returns a few.
+ * Rows handed to a {@link Consumer} argument are counted for methods that stream their results.
+ * Runs inside the cache advice, so cache hits are not counted.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class RepositoryRowCountAspect {
+
+    static final String METRIC_NAME = "cases.repository.rows";
+
+    private static final double MAXIMUM_EXPECTED_ROWS = 10_000;
+
+    private final MeterRegistry meterRegistry;
+
+    public RepositoryRowCountAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("this(uk.gov.hmcts.reform.dev.repository.CaseRepository)")
+    public Object recordRows(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        LongAdder streamedRows = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof Consumer<?> consumer) {
+                streamedRows = new LongAdder();
+                args[i] = counting(consumer, streamedRows);
+            }
+        }
+        Object result = joinPoint.proceed(args);
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        long rows = streamedRows != null ? streamedRows.sum() : countRows(signature.getReturnType(), result);
+        if (rows >= 0) {
+            DistributionSummary.builder(METRIC_NAME)
+                .description("Rows returned by a case repository method")
+                .baseUnit("rows")
+                .tag("repository", CaseRepository.class.getSimpleName())
+                .tag("method", signature.getName())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(MAXIMUM_EXPECTED_ROWS)
+                .register(meterRegistry)
+                .record(rows);
+        }
+        return result;
+    }
+
+    /**
+     * The number of rows in a repository result, or -1 if the method does not return rows.
+     */
+    static long countRows(Class<?> returnType, Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (Case.class.equals(returnType)) {
+            return result == null ? 0 : 1;
+        }
+        return -1;
+    }
+
+    private static <T> Consumer<T> counting(Consumer<T> consumer, LongAdder rows) {
+        return row -> {
+            rows.increment();
+            consumer.accept(row);
+        };
+    }
+}
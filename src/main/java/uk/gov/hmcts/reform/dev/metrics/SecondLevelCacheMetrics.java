@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.dev.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hits, misses and puts of each case region of Hibernate's second-level cache, as the {@value #REQUESTS} and
+ * {@value #PUTS} counters tagged with the {@code region}.
+ * Needs {@code hibernate.generate_statistics}; without it the counters stay at zero.
+ */
+@Component
+@ConditionalOnProperty(name = "cases.l2-cache.enabled", havingValue = "true")
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    static final String REQUESTS = "cases.l2cache.requests";
+    static final String PUTS = "cases.l2cache.puts";
+
+    private static final List<String> REGIONS = List.of(Case.CACHE_REGION, CaseRepository.SEARCHES_CACHE_REGION);
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : REGIONS) {
+            FunctionCounter.builder(REQUESTS, statistics, count(region, CacheRegionStatistics::getHitCount))
+                .description("Lookups in a region of the second-level cache")
+                .tags("region", region, "result", "hit")
+                .register(registry);
+            FunctionCounter.builder(REQUESTS, statistics, count(region, CacheRegionStatistics::getMissCount))
+                .description("Lookups in a region of the second-level cache")
+                .tags("region", region, "result", "miss")
+                .register(registry);
+            FunctionCounter.builder(PUTS, statistics, count(region, CacheRegionStatistics::getPutCount))
+                .description("Entries put in a region of the second-level cache")
+                .tag("region", region)
+                .register(registry);
+        }
+    }
+
+    // A query region only exists once a query has used it, so it is looked up on every read
+    private static ToDoubleFunction<Statistics> count(String region, ToLongFunction<CacheRegionStatistics> count) {
+        return statistics -> {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+        };
+    }
+}
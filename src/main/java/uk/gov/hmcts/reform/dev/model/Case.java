@@ -1,14 +1,22 @@
 package uk.gov.hmcts.reform.dev.model;
 
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
+import uk.gov.hmcts.reform.dev.storage.CaseDescriptionConverter;
 
 import java.time.LocalDateTime;
 
@@ -18,12 +26,28 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Case.CACHE_REGION)
 public class Case {
+    /**
+     * Region of the Hibernate second-level cache holding cases by ID.
+     */
+    public static final String CACHE_REGION = "case";
+
+    // A pooled sequence rather than IDENTITY, so Hibernate can batch inserts: IDENTITY needs a round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cases_id_seq")
+    @SequenceGenerator(name = "cases_id_seq", sequenceName = "cases_id_seq", allocationSize = 50)
     private int id;
     private int caseNumber;
     private String title;
+    // Stored as bytea, LZ4-compressed when large; see CaseDescriptionCodec
+    @Convert(converter = CaseDescriptionConverter.class)
     private String description;
     private LocalDateTime createdDate;
+    // Bumped by Hibernate on every update; backs the case ETag and rejects writes based on a stale read
+    @Version
+    private long version;
+    @UpdateTimestamp
+    private LocalDateTime updatedDate;
 }
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.dev.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One of the counters the {@code V009} triggers bump whenever a statement changes the cases table.
+ * Their sum is the version of the case collection, used to validate cached case lists without reading them again.
+ * Writers bump the counter of their database session, so concurrent writes rarely wait on the same row.
+ */
+@Entity
+@Table(name = "case_collection_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CaseCollectionVersion {
+    @Id
+    private int slot;
+    private long version;
+}
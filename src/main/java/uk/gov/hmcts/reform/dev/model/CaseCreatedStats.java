@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Counts of cases by when they were created, as returned by {@code /case/stats/created}.
+ *
+ * @param period the period cases are counted by
+ * @param from   the first day counted
+ * @param to     the day after the last day counted
+ * @param total  the number of cases created from {@code from} up to {@code to}
+ * @param counts the number of cases created in each period that has any, in date order
+ */
+public record CaseCreatedStats(CasePeriod period, LocalDate from, LocalDate to, long total,
+                               List<CasePeriodCount> counts) {
+}
@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.dev.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A row of the case change outbox, written in the same transaction as the change it records.
+ * The ID orders the feed and is the cursor consumers pass back. The ID of the writing transaction is set by the
+ * database, and tells the feed whether every event before this one has committed.
+ */
+@Entity
+@Table(name = "case_events", indexes = @Index(name = "case_events_case_id_idx", columnList = "caseId"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CaseEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+    private int caseId;
+    @Enumerated(EnumType.STRING)
+    private Type type;
+    private LocalDateTime occurred;
+    @Column(columnDefinition = "xid8 not null default pg_current_xact_id()", insertable = false, updatable = false)
+    private String transactionId;
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
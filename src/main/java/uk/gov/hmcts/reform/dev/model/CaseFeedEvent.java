@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change to a case as returned by the change feed.
+ *
+ * @param sequence the position of the change in the feed, to pass as {@code after} to read the changes after it
+ * @param caseId   the ID of the case that changed
+ * @param type     what happened to the case
+ * @param occurred when the change was made
+ * @param current  the case as it is now, absent if it has been deleted since
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CaseFeedEvent(long sequence, int caseId, CaseEvent.Type type, LocalDateTime occurred, Case current) {
+}
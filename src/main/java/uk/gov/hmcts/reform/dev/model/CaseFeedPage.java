@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.dev.model;
+
+import java.util.List;
+
+/**
+ * A page of the case change feed.
+ *
+ * @param events     the changes on this page, in feed order
+ * @param nextCursor the {@code after} to pass to read the following changes; unchanged when the page is empty
+ */
+public record CaseFeedPage(List<CaseFeedEvent> events, long nextCursor) {
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * The outcome of one item of a bulk case upload.
+ *
+ * @param index  the zero-based position of the item in the upload
+ * @param status what happened to the item
+ * @param id     the ID of the created case, if it was created
+ * @param error  why the item was not created, if it was not
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CaseIngestResult(int index, Status status, Integer id, String error) {
+
+    public enum Status {
+        CREATED,
+        REJECTED,
+        FAILED
+    }
+
+    public static CaseIngestResult created(int index, int id) {
+        return new CaseIngestResult(index, Status.CREATED, id, null);
+    }
+
+    public static CaseIngestResult rejected(int index, String error) {
+        return new CaseIngestResult(index, Status.REJECTED, null, error);
+    }
+
+    public static CaseIngestResult failed(int index, String error) {
+        return new CaseIngestResult(index, Status.FAILED, null, error);
+    }
+}
@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.dev.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The outcome of looking up one ID of a multi-get.
+ *
+ * @param id     the ID looked up
+ * @param status whether a case has the ID
+ * @param value  the case, if it was found
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CaseLookup(int id, Status status, @JsonProperty("case") Case value) {
+
+    public enum Status {
+        FOUND,
+        NOT_FOUND
+    }
+
+    public static CaseLookup found(Case value) {
+        return new CaseLookup(value.getId(), Status.FOUND, value);
+    }
+
+    public static CaseLookup notFound(int id) {
+        return new CaseLookup(id, Status.NOT_FOUND, null);
+    }
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.model;
+
+/**
+ * The number of cases with a case number.
+ *
+ * @param caseNumber the case number
+ * @param count      the number of cases with it
+ */
+public record CaseNumberCount(int caseNumber, long count) {
+}
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.dev.model;
+
+import java.util.List;
+
+/**
+ * A page of cases read in ID order.
+ *
+ * @param cases      the cases on this page
+ * @param nextCursor the {@code afterId} to pass to fetch the next page, or {@code null} on the last page
+ */
+public record CasePage(List<CaseSummary> cases, Integer nextCursor) {
+}
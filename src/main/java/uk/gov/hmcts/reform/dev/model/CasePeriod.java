@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.dev.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Periods cases can be counted by when they were created.
+ */
+public enum CasePeriod {
+    DAY,
+    /**
+     * An ISO week, starting on Monday.
+     */
+    WEEK;
+
+    /**
+     * The name of the period as PostgreSQL's {@code date_trunc} knows it.
+     * @return the lower case name
+     */
+    public String getField() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Get the first day of the period a day is in.
+     * @param day the day
+     * @return the day itself, or the Monday on or before it for a week
+     */
+    public LocalDate start(LocalDate day) {
+        return this == WEEK ? day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : day;
+    }
+
+    /**
+     * Get the first day of the period after the one a day is in.
+     * @param day the day
+     * @return the day after, or the Monday after it for a week
+     */
+    public LocalDate next(LocalDate day) {
+        return this == WEEK ? day.with(TemporalAdjusters.next(DayOfWeek.MONDAY)) : day.plusDays(1);
+    }
+
+    /**
+     * Look up a period by name, ignoring case.
+     * @param name the name, for example {@code week}
+     * @return the period, or empty if there is no such period
+     */
+    public static Optional<CasePeriod> fromName(String name) {
+        return Arrays.stream(values())
+            .filter(period -> period.name().equalsIgnoreCase(name))
+            .findFirst();
+    }
+}
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.dev.model;
+
+import java.time.LocalDate;
+
+/**
+ * The number of cases created in a day or week.
+ *
+ * @param start the first day of the period
+ * @param count the number of cases created in it
+ */
+public record CasePeriodCount(LocalDate start, long count) {
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The progress of a purge of cases running in the background.
+ *
+ * @param id        the ID of the job
+ * @param state     where the job is up to
+ * @param deleted   the number of cases deleted so far
+ * @param submitted when the job was submitted
+ * @param started   when the job started, if it has
+ * @param finished  when the job finished, if it has
+ * @param error     why the job failed, if it did
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CasePurgeJob(UUID id, State state, long deleted, Instant submitted, Instant started,
+                           Instant finished, String error) {
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.dev.model;
+
+import java.util.SortedMap;
+
+/**
+ * Counts of cases, as returned by {@code /case/stats}.
+ *
+ * @param total        the number of cases
+ * @param byCaseNumber the number of cases with each case number, in case number order
+ */
+public record CaseStats(long total, SortedMap<Integer, Long> byCaseNumber) {
+}
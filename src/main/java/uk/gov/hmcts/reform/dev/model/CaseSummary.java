@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.dev.model;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * The fields of a case shown in lists and search results.
+ * Lists select only these columns, so the unbounded description is never read for them;
+ * the full {@link Case} is returned by ID.
+ *
+ * @param id          the ID of the case
+ * @param caseNumber  the case number
+ * @param title       the title of the case
+ * @param createdDate when the case was created
+ */
+@JsonFilter(CaseSummary.FIELDS_FILTER)
+public record CaseSummary(int id, int caseNumber, String title, LocalDateTime createdDate) {
+
+    /**
+     * ID of the Jackson filter that selects which fields of a summary are written.
+     */
+    public static final String FIELDS_FILTER = "caseSummaryFields";
+
+    /**
+     * Names of the fields of a summary.
+     */
+    public static final Set<String> FIELDS = Set.of("id", "caseNumber", "title", "createdDate");
+}
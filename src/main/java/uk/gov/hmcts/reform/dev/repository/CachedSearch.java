@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+import uk.gov.hmcts.reform.dev.datasource.CachedRead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a search whose results are held in the {@value CaseRepository#SEARCHES_CACHE_REGION} region of Hibernate's
+ * query cache, keyed by the query, its arguments and the page, when the second-level cache is enabled.
+ * Hibernate drops the results of every search once a write through it to the cases table commits;
+ * writes made around it go through {@link CaseSecondLevelCache}. Read from the primary when replicas are
+ * configured, see {@link CachedRead}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@CachedRead
+@QueryHints({
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CaseRepository.SEARCHES_CACHE_REGION)
+})
+public @interface CachedSearch {
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import uk.gov.hmcts.reform.dev.model.Case;
+
+import java.util.List;
+
+/**
+ * Repository fragment for inserting new cases in JDBC batches.
+ */
+public interface CaseBatchRepository {
+
+    /**
+     * Insert new cases in a single transaction, sent to the database as JDBC batches.
+     * The cases are detached afterwards so that repeated calls do not grow the persistence context.
+     * New cases cannot be in the cases cache, so unlike {@code saveAll} this leaves the cache alone.
+     * A {@code CREATED} event is recorded for each case in the same transaction, and the cases are counted once
+     * it commits.
+     *
+     * @param cases the cases to insert, which are given their generated IDs
+     */
+    void insertAll(List<Case> cases);
+}
@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseEvent;
+import uk.gov.hmcts.reform.dev.stats.CaseCounts;
+
+import java.util.List;
+
+/**
+ * JPA implementation of {@link CaseBatchRepository}.
+ * Batching relies on {@code hibernate.jdbc.batch_size} and on case IDs coming from a pooled sequence.
+ */
+class CaseBatchRepositoryImpl implements CaseBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final CaseEventRepository caseEventRepository;
+    private final CaseCounts caseCounts;
+
+    CaseBatchRepositoryImpl(CaseEventRepository caseEventRepository, CaseCounts caseCounts) {
+        this.caseEventRepository = caseEventRepository;
+        this.caseCounts = caseCounts;
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<Case> cases) {
+        cases.forEach(entityManager::persist);
+        entityManager.flush();
+        caseEventRepository.append(CaseEvent.Type.CREATED, cases.stream().map(Case::getId).toList());
+        caseCounts.added(cases.stream().map(Case::getCaseNumber).toList());
+        entityManager.clear();
+    }
+}
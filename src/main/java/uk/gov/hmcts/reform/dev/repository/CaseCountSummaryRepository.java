@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import uk.gov.hmcts.reform.dev.model.CaseNumberCount;
+import uk.gov.hmcts.reform.dev.model.CasePeriod;
+import uk.gov.hmcts.reform.dev.model.CasePeriodCount;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository fragment reading case counts from the summary tables the {@code V008} migration creates, which
+ * triggers on the cases table keep up to date through a table of deltas. Counts read add the deltas not folded
+ * into the summaries yet, so they are exact however long ago the summaries were folded; folding only keeps the
+ * deltas read small.
+ */
+public interface CaseCountSummaryRepository {
+
+    /**
+     * Whether the summary tables exist. They do not until the migration has run, nor when Hibernate creates
+     * the schema.
+     *
+     * @return true if the summary tables exist
+     */
+    boolean hasCountSummaries();
+
+    /**
+     * Fold up to {@code limit} of the oldest deltas into the summary tables, in one transaction, and drop the
+     * summaries that reach zero.
+     *
+     * @param limit the maximum number of deltas to fold
+     * @return the number of deltas folded
+     */
+    int foldCountDeltas(int limit);
+
+    /**
+     * Count cases by case number from the summaries.
+     *
+     * @return the number of cases with each case number that has any
+     */
+    List<CaseNumberCount> findCaseNumberCountSummaries();
+
+    /**
+     * Count cases created in each period of a date range from the summaries.
+     *
+     * @param period the period to count by
+     * @param from   the first day to count
+     * @param to     the day after the last day to count
+     * @return the number of cases created in each period that has any, in date order
+     */
+    List<CasePeriodCount> findCreatedCountSummaries(CasePeriod period, LocalDate from, LocalDate to);
+
+    /**
+     * Count cases created in each period of a date range from the cases table, for when there are no summaries.
+     * Reads every case in the range.
+     *
+     * @param period the period to count by
+     * @param from   the first day to count
+     * @param to     the day after the last day to count
+     * @return the number of cases created in each period that has any, in date order
+     */
+    List<CasePeriodCount> findCreatedCounts(CasePeriod period, LocalDate from, LocalDate to);
+}
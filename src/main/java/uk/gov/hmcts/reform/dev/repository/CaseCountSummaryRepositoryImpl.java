@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.model.CaseNumberCount;
+import uk.gov.hmcts.reform.dev.model.CasePeriod;
+import uk.gov.hmcts.reform.dev.model.CasePeriodCount;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * JDBC implementation of {@link CaseCountSummaryRepository}.
+ */
+class CaseCountSummaryRepositoryImpl implements CaseCountSummaryRepository {
+
+    // The data-modifying parts run whether or not the final select reads them
+    private static final String FOLD = """
+        with folded as (
+          delete from case_count_deltas
+          where id in (select id from case_count_deltas order by id limit ?)
+          returning case_number, created_day, cases
+        ), case_numbers as (
+          insert into case_number_counts (case_number, cases)
+          select case_number, sum(cases) from folded where case_number is not null group by case_number
+          on conflict (case_number) do update set cases = case_number_counts.cases + excluded.cases
+        ), days as (
+          insert into case_day_counts (day, cases)
+          select created_day, sum(cases) from folded where created_day is not null group by created_day
+          on conflict (day) do update set cases = case_day_counts.cases + excluded.cases
+        )
+        select count(*) from folded""";
+
+    private static final String SELECT_CASE_NUMBER_COUNTS = """
+        select case_number, sum(cases) as cases from (
+          select case_number, cases from case_number_counts
+          union all
+          select case_number, cases from case_count_deltas where case_number is not null
+        ) counts
+        group by case_number
+        having sum(cases) > 0
+        order by case_number""";
+
+    private static final String SELECT_CREATED_COUNT_SUMMARIES = """
+        select date_trunc(?, day::timestamp)::date as start, sum(cases) as cases from (
+          select day, cases from case_day_counts where day >= ? and day < ?
+          union all
+          select created_day, cases from case_count_deltas where created_day >= ? and created_day < ?
+        ) counts
+        group by start
+        having sum(cases) > 0
+        order by start""";
+
+    private static final String SELECT_CREATED_COUNTS = """
+        select date_trunc(?, created_date)::date as start, count(*) as cases from cases
+        where created_date >= ? and created_date < ?
+        group by start
+        order by start""";
+
+    private static final RowMapper<CasePeriodCount> PERIOD_COUNT = (rs, rowNum) ->
+        new CasePeriodCount(rs.getDate("start").toLocalDate(), rs.getLong("cases"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    CaseCountSummaryRepositoryImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasCountSummaries() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "select to_regclass('case_count_deltas') is not null", Boolean.class
+        ));
+    }
+
+    @Override
+    @Transactional
+    public int foldCountDeltas(int limit) {
+        Integer folded = jdbcTemplate.queryForObject(FOLD, Integer.class, limit);
+        jdbcTemplate.update("delete from case_number_counts where cases = 0");
+        jdbcTemplate.update("delete from case_day_counts where cases = 0");
+        return folded == null ? 0 : folded;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CaseNumberCount> findCaseNumberCountSummaries() {
+        return jdbcTemplate.query(SELECT_CASE_NUMBER_COUNTS, (rs, rowNum) ->
+            new CaseNumberCount(rs.getInt("case_number"), rs.getLong("cases")));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CasePeriodCount> findCreatedCountSummaries(CasePeriod period, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(SELECT_CREATED_COUNT_SUMMARIES, PERIOD_COUNT,
+            period.getField(), Date.valueOf(from), Date.valueOf(to), Date.valueOf(from), Date.valueOf(to));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CasePeriodCount> findCreatedCounts(CasePeriod period, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(SELECT_CREATED_COUNTS, PERIOD_COUNT, period.getField(),
+            Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+    }
+}
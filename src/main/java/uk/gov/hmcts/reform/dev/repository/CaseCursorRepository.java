@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+
+import java.util.function.Consumer;
+
+/**
+ * Repository fragment for reading cases through a server-side JDBC cursor.
+ * Rows are handed to the caller one at a time and never collected, so memory use
+ * does not depend on the size of the cases table.
+ */
+public interface CaseCursorRepository {
+
+    /**
+     * Read every case matching the filter, in ascending ID order.
+     *
+     * @param filter the cases to read
+     * @param action callback invoked for each case as it is read from the cursor
+     */
+    void forEachCase(CaseFilter filter, Consumer<Case> action);
+
+    /**
+     * Read the summary of every case matching the filter, in ascending ID order.
+     * The description column is not read.
+     *
+     * @param filter the cases to read
+     * @param action callback invoked for each case summary as it is read from the cursor
+     */
+    void forEachCaseSummary(CaseFilter filter, Consumer<CaseSummary> action);
+}
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+import uk.gov.hmcts.reform.dev.storage.CaseDescriptionCodec;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of {@link CaseCursorRepository}.
+ * The PostgreSQL driver only uses a cursor when auto-commit is off and a fetch size is set,
+ * hence the read-only transaction around the query.
+ */
+class CaseCursorRepositoryImpl implements CaseCursorRepository {
+
+    private static final String CASE_COLUMNS =
+        "id, case_number, title, description, created_date, version, updated_date";
+    private static final String SUMMARY_COLUMNS = "id, case_number, title, created_date";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CaseRowMapper caseRowMapper;
+
+    CaseCursorRepositoryImpl(DataSource dataSource,
+                             CaseDescriptionCodec descriptionCodec,
+                             @Value("${cases.stream.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.caseRowMapper = new CaseRowMapper(descriptionCodec);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachCase(CaseFilter filter, Consumer<Case> action) {
+        query(CASE_COLUMNS, filter, rs -> action.accept(caseRowMapper.mapRow(rs, rs.getRow())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachCaseSummary(CaseFilter filter, Consumer<CaseSummary> action) {
+        query(SUMMARY_COLUMNS, filter, rs -> {
+            Timestamp createdDate = rs.getTimestamp("created_date");
+            action.accept(new CaseSummary(
+                rs.getInt("id"),
+                rs.getInt("case_number"),
+                rs.getString("title"),
+                createdDate == null ? null : createdDate.toLocalDateTime()
+            ));
+        });
+    }
+
+    private void query(String columns, CaseFilter filter, RowCallbackHandler handler) {
+        StringBuilder sql = new StringBuilder("select ").append(columns).append(" from cases where id > ?");
+        List<Object> args = new ArrayList<>();
+        args.add(filter.afterId());
+        if (filter.caseNumber() != null) {
+            sql.append(" and case_number = ?");
+            args.add(filter.caseNumber());
+        }
+        if (filter.createdFrom() != null) {
+            sql.append(" and created_date >= ?");
+            args.add(Timestamp.valueOf(filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            sql.append(" and created_date < ?");
+            args.add(Timestamp.valueOf(filter.createdTo()));
+        }
+        sql.append(" order by id");
+
+        jdbcTemplate.query(sql.toString(), handler, args.toArray());
+    }
+}
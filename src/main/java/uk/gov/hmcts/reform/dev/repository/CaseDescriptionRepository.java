@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+/**
+ * Repository fragment for compressing descriptions that were stored uncompressed, such as those written before
+ * compression was switched on. Only the stored form changes, so versions, update times, the change feed, list
+ * ETags and case counts are left alone.
+ */
+public interface CaseDescriptionRepository {
+
+    /**
+     * Compress the stored descriptions of up to {@code limit} cases after the given ID that are large enough to
+     * compress, in one transaction. A case that changes in the meantime is skipped, as its new description was
+     * encoded when it was written.
+     *
+     * @param afterId the ID to start after, {@code 0} to start from the first case
+     * @param limit   the maximum number of cases to look at
+     * @return the ID of the last case looked at, or {@code afterId} if there were none
+     */
+    int compressDescriptions(int afterId, int limit);
+}
@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.storage.CaseDescriptionCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * JDBC implementation of {@link CaseDescriptionRepository}.
+ * Updates match on the version read, so a concurrent update wins, and on the creation time, so each one only
+ * touches the partition the case is in.
+ */
+class CaseDescriptionRepositoryImpl implements CaseDescriptionRepository {
+
+    // Uncompressed descriptions start with a zero byte
+    private static final String SELECT_UNCOMPRESSED = """
+        select id, created_date, version, description from cases
+        where id > ? and get_byte(description, 0) = 0 and octet_length(description) > ?
+        order by id
+        limit ?""";
+
+    private static final String UPDATE = "update cases set description = ? "
+        + "where id = ? and created_date = ? and version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CaseDescriptionCodec descriptionCodec;
+
+    CaseDescriptionRepositoryImpl(DataSource dataSource, CaseDescriptionCodec descriptionCodec) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.descriptionCodec = descriptionCodec;
+    }
+
+    @Override
+    @Transactional
+    public int compressDescriptions(int afterId, int limit) {
+        List<Object[]> updates = new ArrayList<>();
+        int[] lastId = {afterId};
+        jdbcTemplate.query(SELECT_UNCOMPRESSED, rs -> {
+            lastId[0] = rs.getInt("id");
+            byte[] stored = rs.getBytes("description");
+            byte[] compressed = descriptionCodec.encode(descriptionCodec.decode(stored));
+            if (compressed.length < stored.length) {
+                updates.add(new Object[] {
+                    compressed, lastId[0], rs.getTimestamp("created_date"), rs.getLong("version")
+                });
+            }
+        }, afterId, descriptionCodec.getCompressThreshold(), limit);
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE, updates);
+        }
+        return lastId[0];
+    }
+}
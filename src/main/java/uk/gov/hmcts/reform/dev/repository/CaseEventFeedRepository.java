@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import uk.gov.hmcts.reform.dev.model.CaseEvent;
+import uk.gov.hmcts.reform.dev.model.CaseFeedEvent;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository fragment for writing and reading the case change outbox with plain JDBC.
+ */
+public interface CaseEventFeedRepository {
+
+    /**
+     * Record a change to each of the given cases.
+     * Joins the caller's transaction, so the events commit or roll back with the change itself.
+     *
+     * @param type    what happened to the cases
+     * @param caseIds the IDs of the cases
+     */
+    void append(CaseEvent.Type type, Collection<Integer> caseIds);
+
+    /**
+     * Read the settled changes after a cursor, in feed order, each with the current state of its case.
+     * Stops before the first event written by a transaction that could still be open, as an event still to commit
+     * could have a lower ID than those after it. Always reads from the primary.
+     *
+     * @param after the ID of the last event already read, {@code 0} to read from the start
+     * @param limit the maximum number of events to return
+     * @return the events
+     */
+    List<CaseFeedEvent> findAfter(long after, int limit);
+
+    /**
+     * Delete events made before the cutoff that have been superseded by a later event for the same case.
+     * Every case keeps its latest event, so a consumer reading from the start still sees every case that exists.
+     *
+     * @param before the cutoff
+     * @return the number of events deleted
+     */
+    int compact(LocalDateTime before);
+
+    /**
+     * Delete the events of deleted cases made before the cutoff.
+     *
+     * @param before the cutoff
+     * @return the number of events deleted
+     */
+    int deleteTombstones(LocalDateTime before);
+}
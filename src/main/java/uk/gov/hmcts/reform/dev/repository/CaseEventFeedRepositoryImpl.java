@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.model.CaseEvent;
+import uk.gov.hmcts.reform.dev.model.CaseFeedEvent;
+import uk.gov.hmcts.reform.dev.storage.CaseDescriptionCodec;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link CaseEventFeedRepository}.
+ * Appends are sent as one JDBC batch; reads join each event to the current row of its case.
+ * Events are timed by the database clock, so compaction holds whatever the instance clocks say.
+ */
+class CaseEventFeedRepositoryImpl implements CaseEventFeedRepository {
+
+    // Stamped by the database, so events written by every instance are timed by the one clock
+    private static final String INSERT =
+        "insert into case_events (case_id, type, occurred) values (?, ?, clock_timestamp()::timestamp)";
+
+    // Event columns are aliased so that the case columns keep the names CaseRowMapper reads. Every transaction
+    // older than the snapshot's xmin has finished, so none of them can still add an event. The running bool_and
+    // turns false at the first event of a newer transaction, and stays false for every event after it
+    private static final String SELECT_SETTLED_AFTER = """
+        select * from (
+          select e.id as event_id, e.case_id as event_case_id, e.type as event_type, e.occurred as event_occurred,
+                 c.id, c.case_number, c.title, c.description, c.created_date, c.version, c.updated_date,
+                 bool_and(e.transaction_id < pg_snapshot_xmin(pg_current_snapshot())) over (order by e.id) as settled
+          from case_events e
+          left join cases c on c.id = e.case_id and e.type <> 'DELETED'
+          where e.id > ?
+          order by e.id
+          limit ?
+        ) events
+        where settled
+        order by event_id""";
+
+    private static final String COMPACT = """
+        delete from case_events
+        where occurred < ?
+          and exists (select 1 from case_events later
+                      where later.case_id = case_events.case_id and later.id > case_events.id)""";
+
+    private static final String DELETE_TOMBSTONES = "delete from case_events where type = 'DELETED' and occurred < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CaseRowMapper caseRowMapper;
+
+    CaseEventFeedRepositoryImpl(DataSource dataSource, CaseDescriptionCodec descriptionCodec) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.caseRowMapper = new CaseRowMapper(descriptionCodec);
+    }
+
+    @Override
+    @Transactional
+    public void append(CaseEvent.Type type, Collection<Integer> caseIds) {
+        if (caseIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, caseIds, caseIds.size(), (ps, caseId) -> {
+            ps.setInt(1, caseId);
+            ps.setString(2, type.name());
+        });
+    }
+
+    // Not read-only, so it is never sent to a replica, whose snapshot does not show which transactions on the
+    // primary are still open
+    @Override
+    @Transactional
+    public List<CaseFeedEvent> findAfter(long after, int limit) {
+        return jdbcTemplate.query(SELECT_SETTLED_AFTER, (rs, rowNum) -> new CaseFeedEvent(
+            rs.getLong("event_id"),
+            rs.getInt("event_case_id"),
+            CaseEvent.Type.valueOf(rs.getString("event_type")),
+            rs.getTimestamp("event_occurred").toLocalDateTime(),
+            rs.getObject("id") == null ? null : caseRowMapper.mapRow(rs, rowNum)
+        ), after, limit);
+    }
+
+    @Override
+    @Transactional
+    public int compact(LocalDateTime before) {
+        return jdbcTemplate.update(COMPACT, Timestamp.valueOf(before));
+    }
+
+    @Override
+    @Transactional
+    public int deleteTombstones(LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_TOMBSTONES, Timestamp.valueOf(before));
+    }
+}
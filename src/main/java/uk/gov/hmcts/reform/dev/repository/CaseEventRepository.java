@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.model.CaseEvent;
+
+/**
+ * Repository for the case change outbox.
+ */
+@Repository
+public interface CaseEventRepository extends CrudRepository<CaseEvent, Long>, CaseEventFeedRepository {
+
+    /**
+     * Find the ID of the latest change, committed or not yet safe to read.
+     *
+     * @return the highest event ID, or {@code null} if there are no events
+     */
+    // Read from the primary, as the feed is, so waiting consumers are not woken late by a lagging replica
+    @Transactional
+    @Query("select max(e.id) from CaseEvent e")
+    Long findLatestId();
+}
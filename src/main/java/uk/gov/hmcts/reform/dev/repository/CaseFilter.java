@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criteria for reading cases through {@link CaseCursorRepository}. Null criteria are not applied.
+ *
+ * @param afterId     only cases with an ID greater than this
+ * @param caseNumber  only cases with this case number
+ * @param createdFrom only cases created at or after this time
+ * @param createdTo   only cases created before this time
+ */
+public record CaseFilter(int afterId, Integer caseNumber, LocalDateTime createdFrom, LocalDateTime createdTo) {
+
+    /**
+     * Every case with an ID greater than the given one.
+     *
+     * @param afterId the ID to start after, {@code 0} for every case
+     * @return the filter
+     */
+    public static CaseFilter afterId(int afterId) {
+        return new CaseFilter(afterId, null, null, null);
+    }
+}
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import uk.gov.hmcts.reform.dev.datasource.CachedRead;
+import uk.gov.hmcts.reform.dev.model.Case;
+
+import java.util.List;
+
+/**
+ * Repository fragment for looking up many cases by ID at once.
+ */
+public interface CaseLookupRepository {
+
+    /**
+     * Find cases by ID. Cases held in Hibernate's second-level cache are taken from it, and the rest are read
+     * {@code cases.lookup.chunk-size} IDs to a query. Unlike {@link CaseRepository#findCaseById} this does not go
+     * through the cases cache.
+     *
+     * @param ids the IDs of the cases, without duplicates
+     * @return the case with each ID, or {@code null} where there is none, in the order of {@code ids}
+     */
+    @CachedRead
+    List<Case> findCasesById(List<Integer> ids);
+}
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.model.Case;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA implementation of {@link CaseLookupRepository}, built on Hibernate's multi-load, which checks the
+ * second-level cache before reading the IDs it does not hold with one {@code id = any(?)} query.
+ */
+class CaseLookupRepositoryImpl implements CaseLookupRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int chunkSize;
+
+    CaseLookupRepositoryImpl(@Value("${cases.lookup.chunk-size:1000}") int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    // Read-only, so Hibernate keeps no snapshots of the cases loaded to check for changes. Multi-load only looks in
+    // the second-level cache when it is given a cache mode, so one is always passed
+    @Override
+    @Transactional(readOnly = true)
+    public List<Case> findCasesById(List<Integer> ids) {
+        Session session = entityManager.unwrap(Session.class);
+        List<Case> found = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            found.addAll(session.byMultipleIds(Case.class).with(CacheMode.NORMAL)
+                .multiLoad(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+        }
+        return found;
+    }
+}
@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Repository fragment for managing the monthly partitions of the cases table, which is range partitioned by
+ * {@code created_date} once the {@code V006} migration has run. Partitions are named {@code cases_yYYYYmMM}.
+ */
+public interface CasePartitionRepository {
+
+    /**
+     * Schema that archived partitions are moved to.
+     */
+    String ARCHIVE_SCHEMA = "cases_archive";
+
+    /**
+     * Whether the cases table is partitioned. It is not until the migration has run, nor when Hibernate creates it.
+     *
+     * @return true if the cases table is partitioned
+     */
+    boolean isPartitioned();
+
+    /**
+     * Find the months that have a partition, not counting the default partition.
+     *
+     * @return the months in ascending order
+     */
+    List<YearMonth> findPartitionMonths();
+
+    /**
+     * Create the partition for a month if it does not exist. Cases created in that month that landed in the default
+     * partition, as cases dated beyond the partitions made ahead do, are moved into it in the same transaction.
+     *
+     * @param month       the month
+     * @param lockTimeout how long to wait for the locks needed, so a long-running query cannot hold up every
+     *                    other query behind the waiting DDL
+     * @return the number of cases moved out of the default partition
+     */
+    int createPartition(YearMonth month, Duration lockTimeout);
+
+    /**
+     * Detach the partition for a month from the cases table and move it to the {@value #ARCHIVE_SCHEMA} schema.
+     * Its cases are no longer returned by any query nor counted, but stay in the database until the table is dropped.
+     *
+     * @param month       the month
+     * @param lockTimeout how long to wait for the locks needed
+     */
+    void archivePartition(YearMonth month, Duration lockTimeout);
+}
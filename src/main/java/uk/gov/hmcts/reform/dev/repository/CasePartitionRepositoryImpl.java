@@ -0,0 +1,113 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * JDBC implementation of {@link CasePartitionRepository}.
+ * Partition names are built from the month alone, so they are safe to put in DDL.
+ */
+class CasePartitionRepositoryImpl implements CasePartitionRepository {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'cases_y'uuuu'm'MM");
+    private static final String DEFAULT_PARTITION = "cases_default";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CaseSecondLevelCache secondLevelCache;
+
+    CasePartitionRepositoryImpl(DataSource dataSource, CaseSecondLevelCache secondLevelCache) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.secondLevelCache = secondLevelCache;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "select exists (select 1 from pg_partitioned_table where partrelid = to_regclass('cases'))", Boolean.class
+        ));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<YearMonth> findPartitionMonths() {
+        List<String> names = jdbcTemplate.queryForList(
+            "select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid "
+                + "where i.inhparent = to_regclass('cases') order by c.relname",
+            String.class
+        );
+        List<YearMonth> months = new ArrayList<>();
+        for (String name : names) {
+            try {
+                months.add(YearMonth.parse(name, PARTITION_NAME));
+            } catch (DateTimeParseException e) {
+                // The default partition, or one created by hand
+            }
+        }
+        return months;
+    }
+
+    @Override
+    @Transactional
+    public int createPartition(YearMonth month, Duration lockTimeout) {
+        String partition = month.format(PARTITION_NAME);
+        String create = "create table if not exists " + partition + " partition of cases for values from ('"
+            + month.atDay(1) + "') to ('" + month.plusMonths(1).atDay(1) + "')";
+        String inMonth = " where created_date >= '" + month.atDay(1) + "' and created_date < '"
+            + month.plusMonths(1).atDay(1) + "'";
+        setLockTimeout(lockTimeout);
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "select exists (select 1 from " + DEFAULT_PARTITION + inMonth + ")", Boolean.class))) {
+            jdbcTemplate.execute(create);
+            return 0;
+        }
+        // A partition cannot be created while the default partition holds rows in its range, so they are moved
+        // while the default partition is detached. They go straight into the new partition, so the statement
+        // triggers on cases, which counted them when they were first written, do not fire
+        jdbcTemplate.execute("alter table cases detach partition " + DEFAULT_PARTITION);
+        jdbcTemplate.execute(create);
+        int moved = jdbcTemplate.update("insert into " + partition + " select * from " + DEFAULT_PARTITION + inMonth);
+        jdbcTemplate.update("delete from " + DEFAULT_PARTITION + inMonth);
+        jdbcTemplate.execute("alter table cases attach partition " + DEFAULT_PARTITION + " default");
+        return moved;
+    }
+
+    @Override
+    @Transactional
+    public void archivePartition(YearMonth month, Duration lockTimeout) {
+        String partition = month.format(PARTITION_NAME);
+        setLockTimeout(lockTimeout);
+        jdbcTemplate.execute("alter table cases detach partition " + partition);
+        // Detaching deletes nothing, so the count triggers do not see the cases leave
+        if (hasCountSummaries()) {
+            jdbcTemplate.update("insert into case_count_deltas (case_number, created_day, cases) "
+                + "select case_number, created_date::date, -count(*) from " + partition
+                + " group by case_number, created_date::date");
+        }
+        // Nor does the collection version trigger, so cached lists holding the archived cases would stay current
+        jdbcTemplate.update("update case_collection_versions set version = version + 1 "
+            + "where slot = pg_backend_pid() % 16");
+        jdbcTemplate.execute("create schema if not exists " + ARCHIVE_SCHEMA);
+        jdbcTemplate.execute("alter table " + partition + " set schema " + ARCHIVE_SCHEMA);
+        secondLevelCache.evictAll();
+    }
+
+    private boolean hasCountSummaries() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "select to_regclass('case_count_deltas') is not null", Boolean.class
+        ));
+    }
+
+    private void setLockTimeout(Duration lockTimeout) {
+        // Applies until the end of the transaction
+        jdbcTemplate.execute("set local lock_timeout = " + lockTimeout.toMillis());
+    }
+}
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The cases a purge deletes. A case is deleted if it matches every criterion given.
+ *
+ * @param ids           only delete cases with these IDs
+ * @param caseNumber    only delete cases with this case number
+ * @param createdBefore only delete cases created before this time
+ */
+public record CasePurgeCriteria(List<Integer> ids, Integer caseNumber, LocalDateTime createdBefore) {
+
+    /**
+     * Whether at least one criterion is given, so a purge can never delete every case by accident.
+     * An empty ID list is not valid, rather than matching any ID.
+     *
+     * @return true if the criteria are valid
+     */
+    public boolean isValid() {
+        if (ids != null) {
+            return !ids.isEmpty();
+        }
+        return caseNumber != null || createdBefore != null;
+    }
+
+    /**
+     * The same criteria restricted to some of the IDs.
+     *
+     * @param chunk the IDs
+     * @return the criteria for those IDs
+     */
+    public CasePurgeCriteria withIds(List<Integer> chunk) {
+        return new CasePurgeCriteria(chunk, caseNumber, createdBefore);
+    }
+}
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.util.List;
+
+/**
+ * Repository fragment for deleting cases in bounded, set-based batches.
+ * Each batch is one delete statement in its own transaction, so row locks are held briefly
+ * and the write-ahead log grows in small steps rather than one large one.
+ */
+public interface CasePurgeRepository {
+
+    /**
+     * Delete up to {@code limit} cases matching the criteria in a single statement.
+     * This bypasses the cases cache, so the caller must evict the returned IDs.
+     * A {@code DELETED} event is recorded for each case in the same transaction, and the cases are no longer
+     * counted once it commits.
+     *
+     * @param criteria the cases to delete
+     * @param limit    the maximum number of cases to delete
+     * @return the IDs of the deleted cases
+     */
+    List<Integer> deleteBatch(CasePurgeCriteria criteria, int limit);
+}
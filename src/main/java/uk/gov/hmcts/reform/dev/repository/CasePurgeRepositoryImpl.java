@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.model.CaseEvent;
+import uk.gov.hmcts.reform.dev.stats.CaseCounts;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link CasePurgeRepository}.
+ * The sub-select bounds the batch, since PostgreSQL has no {@code delete ... limit}.
+ */
+class CasePurgeRepositoryImpl implements CasePurgeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CaseEventRepository caseEventRepository;
+    private final CaseCounts caseCounts;
+    private final CaseSecondLevelCache secondLevelCache;
+
+    CasePurgeRepositoryImpl(DataSource dataSource,
+                            CaseEventRepository caseEventRepository,
+                            CaseCounts caseCounts,
+                            CaseSecondLevelCache secondLevelCache) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.caseEventRepository = caseEventRepository;
+        this.caseCounts = caseCounts;
+        this.secondLevelCache = secondLevelCache;
+    }
+
+    @Override
+    @Transactional
+    public List<Integer> deleteBatch(CasePurgeCriteria criteria, int limit) {
+        StringBuilder sql = new StringBuilder("delete from cases where id in (select id from cases where true");
+        List<Object> args = new ArrayList<>();
+        if (criteria.ids() != null) {
+            sql.append(" and id in (").append(String.join(", ", Collections.nCopies(criteria.ids().size(), "?")))
+                .append(')');
+            args.addAll(criteria.ids());
+        }
+        if (criteria.caseNumber() != null) {
+            sql.append(" and case_number = ?");
+            args.add(criteria.caseNumber());
+        }
+        if (criteria.createdBefore() != null) {
+            sql.append(" and created_date < ?");
+            args.add(Timestamp.valueOf(criteria.createdBefore()));
+        }
+        sql.append(" limit ?) returning id, case_number");
+        args.add(limit);
+
+        List<Integer> deletedIds = new ArrayList<>();
+        List<Integer> caseNumbers = new ArrayList<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            deletedIds.add(rs.getInt("id"));
+            caseNumbers.add(rs.getInt("case_number"));
+        }, args.toArray());
+        caseEventRepository.append(CaseEvent.Type.DELETED, deletedIds);
+        caseCounts.removed(caseNumbers);
+        secondLevelCache.evict(deletedIds);
+        return deletedIds;
+    }
+}
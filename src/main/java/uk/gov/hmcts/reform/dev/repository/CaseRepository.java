@@ -1,30 +1,280 @@
 package uk.gov.hmcts.reform.dev.repository;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.coalescing.Coalesced;
+import uk.gov.hmcts.reform.dev.datasource.CachedRead;
 import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseCollectionVersion;
+import uk.gov.hmcts.reform.dev.model.CaseNumberCount;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
 
+import java.time.Duration;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Locale;
 
+/**
+ * Repository for cases.
+ * Reads run in read-only transactions, which are sent to a read replica when replicas are configured, except
+ * for {@link CachedRead} reads, whose results are cached.
+ * Concurrent identical reads marked {@link Coalesced} share one query.
+ */
 @Repository
-public interface CaseRepository extends CrudRepository<Case, Integer> {
+public interface CaseRepository extends CrudRepository<Case, Integer>, CaseCursorRepository,
+    CaseBatchRepository, CasePurgeRepository, CasePartitionRepository, CaseDescriptionRepository,
+    CaseCountSummaryRepository, CaseLookupRepository {
+
+    /**
+     * Name of the cache holding cases by ID. Every write path below keeps it in step with the table.
+     */
+    String CASES_CACHE = "cases";
+
+    /**
+     * Region of the Hibernate query cache holding search results; see {@link CachedSearch}.
+     */
+    String SEARCHES_CACHE_REGION = "case-searches";
+
+    /**
+     * Selects the summary columns of a case, leaving out the description.
+     */
+    String SELECT_SUMMARY = "select new uk.gov.hmcts.reform.dev.model.CaseSummary"
+        + "(c.id, c.caseNumber, c.title, c.createdDate) from Case c ";
+
+    /**
+     * Ranks exact title matches first, then titles starting with the term, then any other match.
+     */
+    String TITLE_RANK = """
+        case when lower(c.title) = :term then 0
+             when lower(c.title) like :prefix escape '\\' then 1
+             else 2 end""";
+
     /**
      * Find a case by its ID.
      *
      * @param id the ID of the case
      * @return the case with the specified ID
      */
+    @Cacheable(cacheNames = CASES_CACHE, key = "#p0", unless = "#result == null")
+    @CachedRead
+    @Coalesced(batchById = true)
+    @Transactional(readOnly = true)
     Case findCaseById(int id);
 
     /**
-     * Find all cases ordered by ID in ascending order.
+     * Find the version of a case without reading the rest of the row.
+     *
+     * @param id the ID of the case
+     * @return the version of the case, or {@code null} if it does not exist
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    @Query("select c.version from Case c where c.id = :id")
+    Long findVersionById(@Param("id") int id);
+
+    /**
+     * Read the version of the case collection, which any insert, update or delete of cases changes, bar updates
+     * of descriptions alone.
+     * Adds up the {@link CaseCollectionVersion} counters, so it reads the same few rows however many cases there are.
      *
-     * @return a list of cases ordered by ID
+     * @return the current version of the case collection, or {@code null} before the {@code V009} migration
      */
-    List<Case> findAllByOrderByIdAsc();
+    @Coalesced
+    @Transactional(readOnly = true)
+    @Query("select sum(v.version) from CaseCollectionVersion v")
+    Long findCollectionVersion();
+
+    /**
+     * Find the case number of a case without reading the rest of the row.
+     *
+     * @param id the ID of the case
+     * @return the case number, or {@code null} if the case does not exist
+     */
+    @Transactional(readOnly = true)
+    @Query("select c.caseNumber from Case c where c.id = :id")
+    Integer findCaseNumberById(@Param("id") int id);
+
+    /**
+     * Count the cases with each case number.
+     *
+     * @return the number of cases with each case number that has any
+     */
+    @Transactional(readOnly = true)
+    @Query("select new uk.gov.hmcts.reform.dev.model.CaseNumberCount(c.caseNumber, count(c)) "
+        + "from Case c where c.caseNumber is not null group by c.caseNumber")
+    List<CaseNumberCount> findCaseNumberCounts();
+
+    /**
+     * Find the IDs of the most recently updated cases, most recent first.
+     * Served by the index on {@code updated_date}.
+     *
+     * @param pageable the page to return
+     * @return the IDs of the cases
+     */
+    @Transactional(readOnly = true)
+    @Query("select c.id from Case c where c.updatedDate is not null order by c.updatedDate desc")
+    List<Integer> findRecentlyUpdatedIds(Pageable pageable);
+
+    @Override
+    @CachePut(cacheNames = CASES_CACHE, key = "#result.id")
+    <S extends Case> S save(S entity);
+
+    @Override
+    @CacheEvict(cacheNames = CASES_CACHE, allEntries = true)
+    <S extends Case> Iterable<S> saveAll(Iterable<S> entities);
+
+    @Override
+    @CacheEvict(cacheNames = CASES_CACHE, key = "#p0")
+    void deleteById(Integer id);
+
+    /**
+     * Delete a case by its ID in one statement, without loading it first as {@link #deleteById} does.
+     *
+     * @param id the ID of the case
+     * @return the number of cases deleted, 0 or 1
+     */
+    @Transactional
+    @Modifying
+    @CacheEvict(cacheNames = CASES_CACHE, key = "#p0")
+    @Query("delete from Case c where c.id = :id")
+    int deleteCaseById(@Param("id") int id);
+
+    /**
+     * Update a case in one statement if it is still at the expected version, bumping the version.
+     *
+     * @param id          the ID of the case
+     * @param version     the version the update was based on
+     * @param caseNumber  the new case number
+     * @param title       the new title
+     * @param description the new description
+     * @return the number of cases updated, 0 if the case does not exist or is at another version
+     */
+    @Transactional
+    @Modifying
+    @CacheEvict(cacheNames = CASES_CACHE, key = "#p0")
+    @Query("update Case c set c.caseNumber = :caseNumber, c.title = :title, c.description = :description, "
+        + "c.version = c.version + 1, c.updatedDate = local datetime "
+        + "where c.id = :id and c.version = :version")
+    int updateCase(@Param("id") int id,
+                   @Param("version") long version,
+                   @Param("caseNumber") int caseNumber,
+                   @Param("title") String title,
+                   @Param("description") String description);
+
+    @Override
+    @CacheEvict(cacheNames = CASES_CACHE, key = "#p0.id")
+    void delete(Case entity);
+
+    @Override
+    @CacheEvict(cacheNames = CASES_CACHE, allEntries = true)
+    void deleteAllById(Iterable<? extends Integer> ids);
+
+    @Override
+    @CacheEvict(cacheNames = CASES_CACHE, allEntries = true)
+    void deleteAll(Iterable<? extends Case> entities);
+
+    @Override
+    @CacheEvict(cacheNames = CASES_CACHE, allEntries = true)
+    void deleteAll();
+
+    @Override
+    @CacheEvict(cacheNames = CASES_CACHE, allEntries = true)
+    void archivePartition(YearMonth month, Duration lockTimeout);
+
+    /**
+     * Find a page of case summaries ordered by ID in ascending order.
+     *
+     * @param pageable the page to return
+     * @return a list of case summaries ordered by ID
+     */
+    @CachedSearch
+    @Coalesced
+    @Transactional(readOnly = true)
+    List<CaseSummary> findAllByOrderByIdAsc(Pageable pageable);
+
+    /**
+     * Find the next page of case summaries after the given ID, ordered by ID in ascending order.
+     * Served by the primary key index however deep the page is.
+     *
+     * @param afterId the ID of the last case on the previous page, {@code 0} for the first page
+     * @param limit   the maximum number of cases to return
+     * @return a list of case summaries ordered by ID
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    List<CaseSummary> findByIdGreaterThanOrderByIdAsc(int afterId, Limit limit);
+
+    /**
+     * Find a page of summaries of cases with the given case number, ordered by ID in ascending order.
+     *
+     * @param caseNumber the case number
+     * @param pageable   the page to return
+     * @return a list of case summaries ordered by ID
+     */
+    @CachedSearch
+    @Coalesced
+    @Transactional(readOnly = true)
+    List<CaseSummary> findCasesByCaseNumberOrderByIdAsc(int caseNumber, Pageable pageable);
+
+    /**
+     * Search case titles for a term, ignoring case, best matches first.
+     * Served by the trigram index on {@code lower(title)}.
+     *
+     * @param title    the term to look for anywhere in the title
+     * @param pageable the page to return
+     * @return a list of summaries of matching cases, ranked
+     */
+    default List<CaseSummary> searchByTitle(String title, Pageable pageable) {
+        String term = title.toLowerCase(Locale.ROOT);
+        return findByTitleRanked(term, escapeLike(term) + "%", "%" + escapeLike(term) + "%", pageable);
+    }
+
+    /**
+     * Search the titles of cases with the given case number for a term, ignoring case, best matches first.
+     *
+     * @param caseNumber the case number
+     * @param title      the term to look for anywhere in the title
+     * @param pageable   the page to return
+     * @return a list of summaries of matching cases, ranked
+     */
+    default List<CaseSummary> searchByCaseNumberAndTitle(int caseNumber, String title, Pageable pageable) {
+        String term = title.toLowerCase(Locale.ROOT);
+        return findByCaseNumberAndTitleRanked(
+            caseNumber, term, escapeLike(term) + "%", "%" + escapeLike(term) + "%", pageable
+        );
+    }
+
+    @CachedSearch
+    @Coalesced
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "where lower(c.title) like :contains escape '\\' "
+        + "order by " + TITLE_RANK + ", c.id")
+    List<CaseSummary> findByTitleRanked(@Param("term") String term,
+                                        @Param("prefix") String prefix,
+                                        @Param("contains") String contains,
+                                        Pageable pageable);
 
-    List<Case> findCasesByCaseNumberAndTitleContainingIgnoreCase(Integer caseNumber, String title);
+    @CachedSearch
+    @Coalesced
+    @Transactional(readOnly = true)
+    @Query(SELECT_SUMMARY + "where c.caseNumber = :caseNumber and lower(c.title) like :contains escape '\\' "
+        + "order by " + TITLE_RANK + ", c.id")
+    List<CaseSummary> findByCaseNumberAndTitleRanked(@Param("caseNumber") int caseNumber,
+                                                     @Param("term") String term,
+                                                     @Param("prefix") String prefix,
+                                                     @Param("contains") String contains,
+                                                     Pageable pageable);
 
-    List<Case> findCasesByCaseNumber(int caseNumber);
-    List<Case> findCasesByTitleContainingIgnoreCase(String title);
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
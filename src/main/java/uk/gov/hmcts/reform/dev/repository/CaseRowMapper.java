@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.jdbc.core.RowMapper;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.storage.CaseDescriptionCodec;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Maps a row of the cases table to a {@link Case}, decoding the stored description.
+ */
+final class CaseRowMapper implements RowMapper<Case> {
+
+    private final CaseDescriptionCodec descriptionCodec;
+
+    CaseRowMapper(CaseDescriptionCodec descriptionCodec) {
+        this.descriptionCodec = descriptionCodec;
+    }
+
+    @Override
+    public Case mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp createdDate = rs.getTimestamp("created_date");
+        Timestamp updatedDate = rs.getTimestamp("updated_date");
+        return Case.builder()
+            .id(rs.getInt("id"))
+            .caseNumber(rs.getInt("case_number"))
+            .title(rs.getString("title"))
+            .description(descriptionCodec.decode(rs.getBytes("description")))
+            .createdDate(createdDate == null ? null : createdDate.toLocalDateTime())
+            .version(rs.getLong("version"))
+            .updatedDate(updatedDate == null ? null : updatedDate.toLocalDateTime())
+            .build();
+    }
+}
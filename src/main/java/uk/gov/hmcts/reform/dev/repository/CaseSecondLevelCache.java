@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.model.Case;
+
+import java.util.Collection;
+
+/**
+ * Drops cases changed by JDBC or R2DBC from Hibernate's second-level cache, which only sees writes made through
+ * Hibernate. Does nothing when the cache is disabled.
+ * Inside a transaction the entries are dropped again once it commits, so a read that runs before then cannot leave
+ * the old values cached.
+ */
+@Component
+public class CaseSecondLevelCache {
+
+    private final Cache cache;
+
+    public CaseSecondLevelCache(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Drop changed or deleted cases, and all search results.
+     * @param ids the IDs of the cases
+     */
+    public void evict(Collection<Integer> ids) {
+        evictNowAndOnCommit(() -> {
+            ids.forEach(id -> cache.evictEntityData(Case.class, id));
+            cache.evictQueryRegion(CaseRepository.SEARCHES_CACHE_REGION);
+        });
+    }
+
+    /**
+     * Drop all search results, after cases are created.
+     */
+    public void evictSearches() {
+        evictNowAndOnCommit(() -> cache.evictQueryRegion(CaseRepository.SEARCHES_CACHE_REGION));
+    }
+
+    /**
+     * Drop every case and all search results.
+     */
+    public void evictAll() {
+        evictNowAndOnCommit(() -> {
+            cache.evictEntityData(Case.class);
+            cache.evictQueryRegion(CaseRepository.SEARCHES_CACHE_REGION);
+        });
+    }
+
+    private static void evictNowAndOnCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
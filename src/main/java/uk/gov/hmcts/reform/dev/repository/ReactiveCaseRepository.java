@@ -0,0 +1,408 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseEvent;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+import uk.gov.hmcts.reform.dev.storage.CaseDescriptionCodec;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Non-blocking access to the cases table and the case change outbox through R2DBC, for the reactive profile.
+ * Runs the same SQL as {@link CaseRepository}, mapping rows by hand so descriptions are decoded as
+ * {@link CaseDescriptionCodec} stores them. Nothing here goes through the cases cache.
+ *
+ * <p>Writes join the reactive transaction of the subscriber, if any. New IDs are taken from {@code cases_id_seq}
+ * in blocks of {@value #ID_BLOCK}, the same way the pooled generator of {@link Case} takes them, so both stacks can
+ * write to the same table at once without handing out the same ID.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCaseRepository {
+
+    static final int ID_BLOCK = 50;
+
+    private static final String CASE_COLUMNS =
+        "id, case_number, title, description, created_date, version, updated_date";
+    private static final String SELECT_SUMMARY = "select id, case_number, title, created_date from cases ";
+    private static final String TITLE_RANK = """
+        case when lower(title) = :term then 0
+             when lower(title) like :prefix escape '\\' then 1
+             else 2 end""";
+    private static final String PAGE = " limit :limit offset :offset";
+    private static final String INSERT = "insert into cases (" + CASE_COLUMNS + ") "
+        + "values ($1, $2, $3, $4, $5, 0, localtimestamp)";
+    private static final String INSERT_EVENTS = "insert into case_events (case_id, type, occurred) "
+        + "select unnest(:caseIds::integer[]), :type, clock_timestamp()::timestamp";
+
+    private final DatabaseClient databaseClient;
+    private final CaseDescriptionCodec descriptionCodec;
+    private final int fetchSize;
+    private final int lookupChunkSize;
+
+    // The unused part of the last block of IDs taken from the sequence
+    private int nextId;
+    private int lastId = -1;
+
+    public ReactiveCaseRepository(DatabaseClient databaseClient,
+                                  CaseDescriptionCodec descriptionCodec,
+                                  @Value("${cases.stream.fetch-size:500}") int fetchSize,
+                                  @Value("${cases.lookup.chunk-size:1000}") int lookupChunkSize) {
+        this.databaseClient = databaseClient;
+        this.descriptionCodec = descriptionCodec;
+        this.fetchSize = fetchSize;
+        this.lookupChunkSize = lookupChunkSize;
+    }
+
+    /**
+     * Stream summaries of every case after the given ID, in ID order.
+     * Rows are fetched {@code cases.stream.fetch-size} at a time as the subscriber asks for them.
+     *
+     * @param afterId only return cases with an ID greater than this
+     * @return the summaries
+     */
+    public Flux<CaseSummary> findSummariesAfter(int afterId) {
+        return databaseClient.sql(SELECT_SUMMARY + "where id > :afterId order by id")
+            .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
+            .bind("afterId", afterId)
+            .map(ReactiveCaseRepository::summary)
+            .all();
+    }
+
+    /**
+     * Find the next page of case summaries after the given ID, in ID order.
+     *
+     * @param afterId the ID of the last case on the previous page, {@code 0} for the first page
+     * @param limit   the maximum number of cases to return
+     * @return the summaries
+     */
+    public Flux<CaseSummary> findSummariesAfter(int afterId, int limit) {
+        return databaseClient.sql(SELECT_SUMMARY + "where id > :afterId order by id limit :limit")
+            .bind("afterId", afterId)
+            .bind("limit", limit)
+            .map(ReactiveCaseRepository::summary)
+            .all();
+    }
+
+    /**
+     * Find a case by its ID.
+     *
+     * @param id the ID of the case
+     * @return the case, or empty if it does not exist
+     */
+    public Mono<Case> findById(int id) {
+        return databaseClient.sql("select " + CASE_COLUMNS + " from cases where id = :id")
+            .bind("id", id)
+            .map(this::fullCase)
+            .one();
+    }
+
+    /**
+     * Find cases by ID, with a query for each {@code cases.lookup.chunk-size} IDs.
+     *
+     * @param ids the IDs of the cases, without duplicates
+     * @return the cases that exist, in no particular order
+     * @see CaseLookupRepository#findCasesById
+     */
+    public Flux<Case> findAllById(List<Integer> ids) {
+        return Flux.fromIterable(ids)
+            .buffer(lookupChunkSize)
+            .concatMap(chunk -> databaseClient.sql("select " + CASE_COLUMNS + " from cases where id = any(:ids)")
+                .bind("ids", chunk.toArray(Integer[]::new))
+                .map(this::fullCase)
+                .all());
+    }
+
+    /**
+     * Find the version of a case without reading the rest of the row.
+     *
+     * @param id the ID of the case
+     * @return the version, or empty if the case does not exist
+     */
+    public Mono<Long> findVersionById(int id) {
+        return databaseClient.sql("select version from cases where id = :id")
+            .bind("id", id)
+            .map(row -> row.get("version", Long.class))
+            .one();
+    }
+
+    /**
+     * Find the case number of a case without reading the rest of the row.
+     *
+     * @param id the ID of the case
+     * @return the case number, or empty if the case does not exist
+     */
+    public Mono<Integer> findCaseNumberById(int id) {
+        return databaseClient.sql("select case_number from cases where id = :id")
+            .bind("id", id)
+            .map(row -> row.get("case_number", Integer.class))
+            .one();
+    }
+
+    /**
+     * Read the version of the case collection, which any insert, update or delete of cases changes.
+     *
+     * @return the current version of the case collection, or empty before the {@code V009} migration
+     * @see CaseRepository#findCollectionVersion()
+     */
+    public Mono<Long> findCollectionVersion() {
+        return databaseClient.sql("select sum(version)::bigint as version from case_collection_versions "
+                                      + "having count(*) > 0")
+            .map(row -> row.get("version", Long.class))
+            .one();
+    }
+
+    /**
+     * Find a page of case summaries in ID order.
+     *
+     * @param pageable the page to return
+     * @return the summaries
+     */
+    public Flux<CaseSummary> findAll(Pageable pageable) {
+        return page(databaseClient.sql(SELECT_SUMMARY + "order by id" + PAGE), pageable)
+            .map(ReactiveCaseRepository::summary)
+            .all();
+    }
+
+    /**
+     * Find a page of summaries of cases with the given case number, in ID order.
+     *
+     * @param caseNumber the case number
+     * @param pageable   the page to return
+     * @return the summaries
+     */
+    public Flux<CaseSummary> findByCaseNumber(int caseNumber, Pageable pageable) {
+        return page(databaseClient.sql(SELECT_SUMMARY + "where case_number = :caseNumber order by id" + PAGE),
+                    pageable)
+            .bind("caseNumber", caseNumber)
+            .map(ReactiveCaseRepository::summary)
+            .all();
+    }
+
+    /**
+     * Search case titles for a term, ignoring case, best matches first.
+     *
+     * @param title    the term to look for anywhere in the title
+     * @param pageable the page to return
+     * @return the summaries of matching cases, ranked
+     * @see CaseRepository#searchByTitle(String, Pageable)
+     */
+    public Flux<CaseSummary> searchByTitle(String title, Pageable pageable) {
+        return titleSearch(SELECT_SUMMARY + "where lower(title) like :contains escape '\\' ", title, pageable)
+            .map(ReactiveCaseRepository::summary)
+            .all();
+    }
+
+    /**
+     * Search the titles of cases with the given case number for a term, ignoring case, best matches first.
+     *
+     * @param caseNumber the case number
+     * @param title      the term to look for anywhere in the title
+     * @param pageable   the page to return
+     * @return the summaries of matching cases, ranked
+     */
+    public Flux<CaseSummary> searchByCaseNumberAndTitle(int caseNumber, String title, Pageable pageable) {
+        return titleSearch(
+            SELECT_SUMMARY + "where case_number = :caseNumber and lower(title) like :contains escape '\\' ",
+            title, pageable
+        )
+            .bind("caseNumber", caseNumber)
+            .map(ReactiveCaseRepository::summary)
+            .all();
+    }
+
+    /**
+     * Insert new cases in one batch, setting the ID of each.
+     *
+     * @param cases the cases, with their created date set
+     * @return completes once every case is inserted
+     */
+    public Mono<Void> insertAll(List<Case> cases) {
+        if (cases.isEmpty()) {
+            return Mono.empty();
+        }
+        return nextIds(cases.size()).flatMap(ids -> databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT);
+            for (int i = 0; i < cases.size(); i++) {
+                Case newCase = cases.get(i);
+                newCase.setId(ids.get(i));
+                if (i > 0) {
+                    statement.add();
+                }
+                statement.bind("$1", newCase.getId())
+                    .bind("$2", newCase.getCaseNumber())
+                    .bind("$3", newCase.getTitle())
+                    .bind("$5", newCase.getCreatedDate());
+                byte[] description = descriptionCodec.encode(newCase.getDescription());
+                if (description == null) {
+                    statement.bindNull("$4", byte[].class);
+                } else {
+                    statement.bind("$4", description);
+                }
+            }
+            return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated);
+        }).then());
+    }
+
+    /**
+     * Update a case if it is still at the expected version, bumping the version.
+     *
+     * @param id      the ID of the case
+     * @param version the version the update was based on
+     * @param changes the new case number, title and description
+     * @return the number of cases updated, 0 if the case does not exist or is at another version
+     * @see CaseRepository#updateCase
+     */
+    public Mono<Long> update(int id, long version, Case changes) {
+        return bindDescription(
+            databaseClient.sql("update cases set case_number = :caseNumber, title = :title, "
+                                   + "description = :description, version = version + 1, "
+                                   + "updated_date = localtimestamp where id = :id and version = :version"),
+            changes.getDescription()
+        )
+            .bind("caseNumber", changes.getCaseNumber())
+            .bind("title", changes.getTitle())
+            .bind("id", id)
+            .bind("version", version)
+            .fetch()
+            .rowsUpdated();
+    }
+
+    /**
+     * Overwrite every field of a case if it is still at the version it carries, bumping the version,
+     * as saving a case read earlier does.
+     *
+     * @param existing the case, with the version it was read at
+     * @return the number of cases updated, 0 if the case does not exist or is at another version
+     */
+    public Mono<Long> replace(Case existing) {
+        return bindDescription(
+            databaseClient.sql("update cases set case_number = :caseNumber, title = :title, "
+                                   + "description = :description, created_date = :createdDate, "
+                                   + "version = version + 1, updated_date = localtimestamp "
+                                   + "where id = :id and version = :version"),
+            existing.getDescription()
+        )
+            .bind("caseNumber", existing.getCaseNumber())
+            .bind("title", existing.getTitle())
+            .bind("createdDate", existing.getCreatedDate())
+            .bind("id", existing.getId())
+            .bind("version", existing.getVersion())
+            .fetch()
+            .rowsUpdated();
+    }
+
+    /**
+     * Delete a case by its ID.
+     *
+     * @param id the ID of the case
+     * @return the number of cases deleted, 0 or 1
+     */
+    public Mono<Long> deleteById(int id) {
+        return databaseClient.sql("delete from cases where id = :id")
+            .bind("id", id)
+            .fetch()
+            .rowsUpdated();
+    }
+
+    /**
+     * Record a change to each of the given cases in the outbox, in the subscriber's transaction.
+     *
+     * @param type    what happened to the cases
+     * @param caseIds the IDs of the cases
+     * @return completes once the events are written
+     * @see CaseEventFeedRepository#append
+     */
+    public Mono<Void> appendEvents(CaseEvent.Type type, List<Integer> caseIds) {
+        if (caseIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.sql(INSERT_EVENTS)
+            .bind("caseIds", caseIds.toArray(Integer[]::new))
+            .bind("type", type.name())
+            .then();
+    }
+
+    private Mono<List<Integer>> nextIds(int count) {
+        List<Integer> ids = new ArrayList<>(count);
+        synchronized (this) {
+            while (ids.size() < count && nextId <= lastId) {
+                ids.add(nextId++);
+            }
+        }
+        if (ids.size() == count) {
+            return Mono.just(ids);
+        }
+        return databaseClient.sql("select nextval('cases_id_seq') as id")
+            .map(row -> row.get("id", Long.class))
+            .one()
+            .flatMap(blockEnd -> {
+                synchronized (this) {
+                    // Each sequence value ends a block of IDs, as for the pooled generator
+                    nextId = (int) Math.max(1, blockEnd - ID_BLOCK + 1);
+                    lastId = blockEnd.intValue();
+                }
+                return nextIds(count - ids.size());
+            })
+            .map(rest -> {
+                ids.addAll(rest);
+                return ids;
+            });
+    }
+
+    private DatabaseClient.GenericExecuteSpec titleSearch(String sql, String title, Pageable pageable) {
+        String term = title.toLowerCase(Locale.ROOT);
+        return page(databaseClient.sql(sql + "order by " + TITLE_RANK + ", id" + PAGE), pageable)
+            .bind("term", term)
+            .bind("prefix", escapeLike(term) + "%")
+            .bind("contains", "%" + escapeLike(term) + "%");
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindDescription(DatabaseClient.GenericExecuteSpec spec,
+                                                              String description) {
+        byte[] stored = descriptionCodec.encode(description);
+        return stored == null ? spec.bindNull("description", byte[].class) : spec.bind("description", stored);
+    }
+
+    private Case fullCase(Readable row) {
+        return Case.builder()
+            .id(row.get("id", Integer.class))
+            .caseNumber(row.get("case_number", Integer.class))
+            .title(row.get("title", String.class))
+            .description(descriptionCodec.decode(row.get("description", byte[].class)))
+            .createdDate(row.get("created_date", LocalDateTime.class))
+            .version(row.get("version", Long.class))
+            .updatedDate(row.get("updated_date", LocalDateTime.class))
+            .build();
+    }
+
+    private static CaseSummary summary(Readable row) {
+        return new CaseSummary(
+            row.get("id", Integer.class),
+            row.get("case_number", Integer.class),
+            row.get("title", String.class),
+            row.get("created_date", LocalDateTime.class)
+        );
+    }
+
+    private static DatabaseClient.GenericExecuteSpec page(DatabaseClient.GenericExecuteSpec spec, Pageable pageable) {
+        return spec.bind("limit", pageable.getPageSize()).bind("offset", pageable.getOffset());
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+import uk.gov.hmcts.reform.dev.storage.CaseDescriptionCodec;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compresses descriptions that were stored uncompressed, such as every description the {@code V007} migration
+ * converted, so they take up the same space as ones written since.
+ *
+ * <p>After startup it walks the cases table once in ID order, {@code cases.descriptions.backfill.batch-size} cases
+ * per transaction with a pause of {@code cases.descriptions.backfill.pause} between batches to leave room for
+ * other work. A failed batch is retried after {@code cases.descriptions.backfill.retry-interval}. Each instance
+ * walks the table on its own; once one has finished, the others find nothing left to compress.
+ *
+ * <p>Does nothing while {@code cases.descriptions.compression} is {@code none}.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "cases.descriptions.backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class CaseDescriptionBackfillService {
+
+    private final CaseRepository caseRepository;
+    private final CaseDescriptionCodec descriptionCodec;
+    private final int batchSize;
+    private final Duration pause;
+    private final Duration retryInterval;
+    private final ScheduledExecutorService scheduler;
+
+    private int lastId;
+
+    @Autowired
+    public CaseDescriptionBackfillService(CaseRepository caseRepository,
+                                          CaseDescriptionCodec descriptionCodec,
+                                          @Value("${cases.descriptions.backfill.batch-size:500}") int batchSize,
+                                          @Value("${cases.descriptions.backfill.pause:100ms}") Duration pause,
+                                          @Value("${cases.descriptions.backfill.retry-interval:1m}")
+                                          Duration retryInterval) {
+        this(caseRepository, descriptionCodec, batchSize, pause, retryInterval,
+            Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("case-description-backfill").daemon().factory()
+            ));
+    }
+
+    CaseDescriptionBackfillService(CaseRepository caseRepository,
+                                   CaseDescriptionCodec descriptionCodec,
+                                   int batchSize,
+                                   Duration pause,
+                                   Duration retryInterval,
+                                   ScheduledExecutorService scheduler) {
+        this.caseRepository = caseRepository;
+        this.descriptionCodec = descriptionCodec;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.retryInterval = retryInterval;
+        this.scheduler = scheduler;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (descriptionCodec.isCompressing()) {
+            scheduler.execute(this::compressNextBatch);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    void compressNextBatch() {
+        try {
+            int last = caseRepository.compressDescriptions(lastId, batchSize);
+            if (last == lastId) {
+                log.info("Finished compressing stored case descriptions");
+                return;
+            }
+            lastId = last;
+            scheduler.schedule(this::compressNextBatch, pause.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.warn("Compressing case descriptions after case {} failed, will retry in {}", lastId, retryInterval, e);
+            scheduler.schedule(this::compressNextBatch, retryInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.model.CaseFeedEvent;
+import uk.gov.hmcts.reform.dev.model.CaseFeedPage;
+import uk.gov.hmcts.reform.dev.repository.CaseEventRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves the case change feed from the case event outbox.
+ *
+ * <p>Event IDs are allocated when a change is written but become visible when it commits, which can be out of order.
+ * A page therefore stops at the first event whose transaction is not older than every transaction still open, so a
+ * cursor never moves past an event that is still to commit, however long its transaction takes. While a long
+ * transaction is open, such as a bulk ingest, the feed holds back the events written after it started.
+ * The outbox is read from the primary, as only its snapshot shows which transactions are open.
+ *
+ * <p>One poller checks the outbox every {@code cases.events.poll-interval} on behalf of every long-poll and stream,
+ * so waiting consumers cost no queries until there is something new. The same scheduler compacts the outbox to the
+ * latest event of each case once events are {@code cases.events.compact-after} old, and drops the events of deleted
+ * cases after {@code cases.events.tombstone-retention}; consumers must read at least that often to see every delete.
+ */
+@Service
+@Slf4j
+public class CaseFeedService {
+
+    static final int STREAM_PAGE_SIZE = 500;
+
+    private final CaseEventRepository caseEventRepository;
+    private final Duration pollInterval;
+    private final Duration maxWait;
+    private final Duration compactAfter;
+    private final Duration tombstoneRetention;
+    private final Duration maintenanceInterval;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService streamExecutor;
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public CaseFeedService(CaseEventRepository caseEventRepository,
+                           @Value("${cases.events.poll-interval:500ms}") Duration pollInterval,
+                           @Value("${cases.events.max-wait:20s}") Duration maxWait,
+                           @Value("${cases.events.compact-after:1h}") Duration compactAfter,
+                           @Value("${cases.events.tombstone-retention:7d}") Duration tombstoneRetention,
+                           @Value("${cases.events.maintenance-interval:5m}") Duration maintenanceInterval) {
+        this(caseEventRepository, pollInterval, maxWait, compactAfter, tombstoneRetention, maintenanceInterval,
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("case-feed").daemon().factory()),
+            // Each stream is written on its own thread, so a slow consumer only holds up itself
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("case-feed-stream-", 0).factory()));
+    }
+
+    CaseFeedService(CaseEventRepository caseEventRepository,
+                    Duration pollInterval,
+                    Duration maxWait,
+                    Duration compactAfter,
+                    Duration tombstoneRetention,
+                    Duration maintenanceInterval,
+                    ScheduledExecutorService scheduler,
+                    ExecutorService streamExecutor) {
+        this.caseEventRepository = caseEventRepository;
+        this.pollInterval = pollInterval;
+        this.maxWait = maxWait;
+        this.compactAfter = compactAfter;
+        this.tombstoneRetention = tombstoneRetention;
+        this.maintenanceInterval = maintenanceInterval;
+        this.scheduler = scheduler;
+        this.streamExecutor = streamExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        scheduler.scheduleWithFixedDelay(
+            this::notifyConsumers, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS
+        );
+        scheduler.scheduleWithFixedDelay(
+            this::maintain, maintenanceInterval.toMillis(), maintenanceInterval.toMillis(), TimeUnit.MILLISECONDS
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        streamExecutor.shutdownNow();
+        waiters.forEach(waiter -> waiter.future.complete(empty(waiter.after)));
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * Read the settled changes after a cursor.
+     * @param after the {@code nextCursor} of the previous page, or 0 to read from the start
+     * @param limit the maximum number of changes to return
+     * @return the page of changes, which is empty if there are none yet
+     */
+    public CaseFeedPage read(long after, int limit) {
+        List<CaseFeedEvent> events = caseEventRepository.findAfter(after, limit);
+        if (events.isEmpty()) {
+            return empty(after);
+        }
+        return new CaseFeedPage(List.copyOf(events), events.getLast().sequence());
+    }
+
+    /**
+     * Read the settled changes after a cursor, waiting for some if there are none yet.
+     * @param after the {@code nextCursor} of the previous page, or 0 to read from the start
+     * @param limit the maximum number of changes to return
+     * @param wait how long to wait for changes, at most {@code cases.events.max-wait}
+     * @return the page of changes, completed as soon as there are any, or empty when the wait is over
+     */
+    public CompletableFuture<CaseFeedPage> poll(long after, int limit, Duration wait) {
+        CaseFeedPage page = read(after, limit);
+        if (!page.events().isEmpty() || wait.isZero()) {
+            return CompletableFuture.completedFuture(page);
+        }
+        Duration boundedWait = wait.compareTo(maxWait) > 0 ? maxWait : wait;
+        Waiter waiter = new Waiter(after, limit, new CompletableFuture<>());
+        waiters.add(waiter);
+        return waiter.future
+            .completeOnTimeout(empty(after), boundedWait.toMillis(), TimeUnit.MILLISECONDS)
+            .whenComplete((result, error) -> waiters.remove(waiter));
+    }
+
+    /**
+     * Stream the changes after a cursor as server-sent events, each with its sequence as the event ID.
+     * @param after the sequence of the last change already read, or 0 to stream from the start
+     * @param timeout how long to keep the stream open; the consumer reconnects with {@code Last-Event-ID} after
+     * @return the stream
+     */
+    public SseEmitter subscribe(long after, Duration timeout) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, after);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        return emitter;
+    }
+
+    // Runs on the scheduler, so must not throw or later runs are cancelled
+    void notifyConsumers() {
+        if (waiters.isEmpty() && subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            Long latest = caseEventRepository.findLatestId();
+            if (latest == null) {
+                return;
+            }
+            for (Waiter waiter : waiters) {
+                if (waiter.after < latest) {
+                    CaseFeedPage page = read(waiter.after, waiter.limit);
+                    if (!page.events().isEmpty()) {
+                        waiter.future.complete(page);
+                    }
+                }
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.cursor < latest && subscriber.busy.compareAndSet(false, true)) {
+                    streamExecutor.execute(() -> deliver(subscriber));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to check for case events", e);
+        }
+    }
+
+    // Runs on the scheduler, so must not throw or later runs are cancelled
+    void maintain() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int compacted = caseEventRepository.compact(now.minus(compactAfter));
+            int expired = caseEventRepository.deleteTombstones(now.minus(tombstoneRetention));
+            if (compacted > 0 || expired > 0) {
+                log.info("Compacted {} case events and removed {} expired tombstones", compacted, expired);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to compact case events", e);
+        }
+    }
+
+    private void deliver(Subscriber subscriber) {
+        try {
+            CaseFeedPage page;
+            do {
+                page = read(subscriber.cursor, STREAM_PAGE_SIZE);
+                for (CaseFeedEvent event : page.events()) {
+                    subscriber.emitter.send(SseEmitter.event().id(Long.toString(event.sequence())).data(event));
+                }
+                subscriber.cursor = page.nextCursor();
+            } while (page.events().size() == STREAM_PAGE_SIZE);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Closing case event stream", e);
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.busy.set(false);
+        }
+    }
+
+    private static CaseFeedPage empty(long after) {
+        return new CaseFeedPage(List.of(), after);
+    }
+
+    private record Waiter(long after, int limit, CompletableFuture<CaseFeedPage> future) {
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean busy = new AtomicBoolean();
+        private volatile long cursor;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseIngestResult;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Creates cases in bulk from a JSON array or a stream of newline-delimited JSON objects.
+ * Items are read one at a time, checked with the same rules as a single case, and inserted
+ * in batches of {@code cases.ingest.batch-size}.
+ */
+@Service
+@Slf4j
+public class CaseIngestService {
+
+    static final String INVALID_CASE = "caseNumber and title are required";
+
+    private final CaseRepository caseRepository;
+    private final ObjectReader caseReader;
+    private final int batchSize;
+
+    public CaseIngestService(CaseRepository caseRepository,
+                             ObjectMapper objectMapper,
+                             @Value("${cases.ingest.batch-size:500}") int batchSize) {
+        this.caseRepository = caseRepository;
+        this.caseReader = objectMapper.readerFor(Case.class);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Create every valid case in the input.
+     * Reading stops at the first item that is not a well-formed case, which is reported as rejected.
+     * @param json a JSON array of cases, or cases as newline-delimited JSON
+     * @return the outcome of each item, in input order
+     * @throws IOException if the input cannot be read
+     */
+    public List<CaseIngestResult> ingest(InputStream json) throws IOException {
+        List<CaseIngestResult> results = new ArrayList<>();
+        Batch batch = new Batch();
+        int index = 0;
+        try (MappingIterator<Case> items = caseReader.readValues(json)) {
+            while (items.hasNextValue()) {
+                Case newCase = items.nextValue();
+                if (!CaseRules.isValid(newCase)) {
+                    results.add(CaseIngestResult.rejected(index++, INVALID_CASE));
+                    continue;
+                }
+                CaseRules.applyDefaults(newCase);
+                // Bulk upload only creates cases, so any ID sent is ignored
+                newCase.setId(0);
+                batch.add(index++, newCase);
+                if (batch.size() == batchSize) {
+                    batch.insert(results);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            results.add(CaseIngestResult.rejected(index, "Malformed case: " + e.getOriginalMessage()));
+        } finally {
+            batch.insert(results);
+            results.sort(Comparator.comparingInt(CaseIngestResult::index));
+        }
+        return results;
+    }
+
+    /**
+     * Cases waiting to be inserted, with their positions in the input.
+     */
+    private final class Batch {
+
+        private final List<Integer> indexes = new ArrayList<>(batchSize);
+        private final List<Case> cases = new ArrayList<>(batchSize);
+
+        void add(int index, Case newCase) {
+            indexes.add(index);
+            cases.add(newCase);
+        }
+
+        int size() {
+            return cases.size();
+        }
+
+        void insert(List<CaseIngestResult> results) {
+            if (cases.isEmpty()) {
+                return;
+            }
+            try {
+                caseRepository.insertAll(cases);
+                for (int i = 0; i < cases.size(); i++) {
+                    results.add(CaseIngestResult.created(indexes.get(i), cases.get(i).getId()));
+                }
+            } catch (DataAccessException e) {
+                log.warn("Batch of {} cases failed, retrying one at a time", cases.size(), e);
+                insertOneByOne(results);
+            }
+            indexes.clear();
+            cases.clear();
+        }
+
+        // Pins a failed batch down to the items that caused it, so the rest are still created
+        private void insertOneByOne(List<CaseIngestResult> results) {
+            for (int i = 0; i < cases.size(); i++) {
+                Case newCase = cases.get(i);
+                newCase.setId(0);
+                try {
+                    caseRepository.insertAll(singletonList(newCase));
+                    results.add(CaseIngestResult.created(indexes.get(i), newCase.getId()));
+                } catch (DataAccessException e) {
+                    results.add(CaseIngestResult.failed(indexes.get(i), e.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseLookup;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static uk.gov.hmcts.reform.dev.repository.CaseRepository.CASES_CACHE;
+
+/**
+ * Looks up many cases by ID in one call.
+ * Each distinct ID is looked up once: first in the cases cache, then in Hibernate's second-level cache, and only
+ * then in the table, with a query for each {@code cases.lookup.chunk-size} IDs.
+ */
+@Service
+public class CaseLookupService {
+
+    private final CaseRepository caseRepository;
+    private final CacheManager cacheManager;
+
+    public CaseLookupService(CaseRepository caseRepository, CacheManager cacheManager) {
+        this.caseRepository = caseRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Look up cases by ID.
+     * Cases read from the table are not added to the cases cache, as an update committing in the meantime could
+     * leave a stale copy there; the second-level cache holds them safely.
+     * @param ids the IDs, which may repeat
+     * @return the outcome for each ID, in the order of {@code ids}
+     */
+    public List<CaseLookup> lookUp(List<Integer> ids) {
+        Cache cache = cacheManager.getCache(CASES_CACHE);
+        Map<Integer, Case> found = new HashMap<>();
+        List<Integer> uncached = new ArrayList<>();
+        for (Integer id : new LinkedHashSet<>(ids)) {
+            Case cached = cache == null ? null : cache.get(id, Case.class);
+            if (cached == null) {
+                uncached.add(id);
+            } else {
+                found.put(id, cached);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            for (Case loaded : caseRepository.findCasesById(uncached)) {
+                if (loaded != null) {
+                    found.put(loaded.getId(), loaded);
+                }
+            }
+        }
+        return ids.stream()
+            .map(id -> found.containsKey(id) ? CaseLookup.found(found.get(id)) : CaseLookup.notFound(id))
+            .toList();
+    }
+}
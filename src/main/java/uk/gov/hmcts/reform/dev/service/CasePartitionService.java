@@ -0,0 +1,133 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the monthly partitions of the cases table ahead of the calendar and archives old ones.
+ *
+ * <p>At startup and then every {@code cases.partitions.maintenance-interval}, it creates the partitions for this
+ * month and the next {@code cases.partitions.premake} months, so new cases never land in the default partition.
+ * If {@code cases.partitions.retention} is set, months that ended longer ago than that are detached and moved
+ * to the archive schema, which takes them out of every query and out of vacuum's way without deleting anything.
+ * DDL waits at most {@code cases.partitions.lock-timeout} for its locks. Each month is created or archived on its
+ * own, so one that fails, for instance on a lock timeout, holds up no other and is retried on the next run.
+ *
+ * <p>Does nothing while the cases table is not partitioned, as before the {@code V006} migration has run.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "cases.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class CasePartitionService {
+
+    private final CaseRepository caseRepository;
+    private final int premake;
+    private final Period retention;
+    private final Duration lockTimeout;
+    private final Duration maintenanceInterval;
+    private final ScheduledExecutorService scheduler;
+
+    @Autowired
+    public CasePartitionService(CaseRepository caseRepository,
+                                @Value("${cases.partitions.premake:3}") int premake,
+                                @Value("${cases.partitions.retention:0d}") Period retention,
+                                @Value("${cases.partitions.lock-timeout:5s}") Duration lockTimeout,
+                                @Value("${cases.partitions.maintenance-interval:1h}") Duration maintenanceInterval) {
+        this(caseRepository, premake, retention, lockTimeout, maintenanceInterval,
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("case-partitions").daemon().factory()));
+    }
+
+    CasePartitionService(CaseRepository caseRepository,
+                         int premake,
+                         Period retention,
+                         Duration lockTimeout,
+                         Duration maintenanceInterval,
+                         ScheduledExecutorService scheduler) {
+        this.caseRepository = caseRepository;
+        this.premake = premake;
+        this.retention = retention;
+        this.lockTimeout = lockTimeout;
+        this.maintenanceInterval = maintenanceInterval;
+        this.scheduler = scheduler;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        scheduler.scheduleWithFixedDelay(
+            this::maintain, 0, maintenanceInterval.toMillis(), TimeUnit.MILLISECONDS
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    void maintain() {
+        maintain(LocalDate.now());
+    }
+
+    void maintain(LocalDate today) {
+        List<YearMonth> existing;
+        try {
+            if (!caseRepository.isPartitioned()) {
+                log.debug("Cases table is not partitioned, skipping partition maintenance");
+                return;
+            }
+            existing = caseRepository.findPartitionMonths();
+        } catch (RuntimeException e) {
+            log.warn("Case partition maintenance failed, will retry in {}", maintenanceInterval, e);
+            return;
+        }
+        YearMonth current = YearMonth.from(today);
+        for (int i = 0; i <= premake; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(month)) {
+                createPartition(month);
+            }
+        }
+        if (!retention.isZero()) {
+            LocalDate cutoff = today.minus(retention);
+            for (YearMonth month : existing) {
+                if (!month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+                    archivePartition(month);
+                }
+            }
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        try {
+            int moved = caseRepository.createPartition(month, lockTimeout);
+            log.info("Created cases partition for {}, moving {} cases into it from the default partition",
+                month, moved);
+        } catch (RuntimeException e) {
+            log.warn("Creating the cases partition for {} failed, will retry in {}", month, maintenanceInterval, e);
+        }
+    }
+
+    private void archivePartition(YearMonth month) {
+        try {
+            caseRepository.archivePartition(month, lockTimeout);
+            log.info("Archived cases partition for {}", month);
+        } catch (RuntimeException e) {
+            log.warn("Archiving the cases partition for {} failed, will retry in {}", month, maintenanceInterval, e);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.model.CasePurgeJob;
+import uk.gov.hmcts.reform.dev.model.CasePurgeJob.State;
+import uk.gov.hmcts.reform.dev.repository.CasePurgeCriteria;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.dev.repository.CaseRepository.CASES_CACHE;
+
+/**
+ * Runs purges of cases in the background, one job at a time.
+ * Each job deletes in batches of {@code cases.purge.batch-size} and is paced to at most
+ * {@code cases.purge.max-rows-per-second}, so a large purge does not starve live traffic of
+ * connections, locks or I/O. Finished jobs are kept for {@code cases.purge.retention}.
+ */
+@Service
+@Slf4j
+public class CasePurgeService {
+
+    private final CaseRepository caseRepository;
+    private final Cache cache;
+    private final int batchSize;
+    private final int maxRowsPerSecond;
+    private final Duration retention;
+    private final ExecutorService executor;
+    private final Map<UUID, Job> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CasePurgeService(CaseRepository caseRepository,
+                            CacheManager cacheManager,
+                            @Value("${cases.purge.batch-size:1000}") int batchSize,
+                            @Value("${cases.purge.max-rows-per-second:5000}") int maxRowsPerSecond,
+                            @Value("${cases.purge.retention:1h}") Duration retention) {
+        this(caseRepository, cacheManager, batchSize, maxRowsPerSecond, retention,
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("case-purge").daemon().factory()));
+    }
+
+    CasePurgeService(CaseRepository caseRepository,
+                     CacheManager cacheManager,
+                     int batchSize,
+                     int maxRowsPerSecond,
+                     Duration retention,
+                     ExecutorService executor) {
+        this.caseRepository = caseRepository;
+        this.cache = cacheManager.getCache(CASES_CACHE);
+        this.batchSize = batchSize;
+        this.maxRowsPerSecond = maxRowsPerSecond;
+        this.retention = retention;
+        this.executor = executor;
+    }
+
+    /**
+     * Queue a purge of the cases matching the criteria.
+     * @param criteria the cases to delete, which must be valid
+     * @return the queued job
+     */
+    public CasePurgeJob submit(CasePurgeCriteria criteria) {
+        removeExpiredJobs();
+        Job job = new Job(criteria);
+        jobs.put(job.id, job);
+        CasePurgeJob queued = job.status();
+        executor.execute(() -> run(job));
+        return queued;
+    }
+
+    /**
+     * Get the progress of a purge.
+     * @param id the ID of the job
+     * @return the job, or empty if there is no such job or it finished more than the retention period ago
+     */
+    public Optional<CasePurgeJob> getJob(UUID id) {
+        return Optional.ofNullable(jobs.get(id)).map(Job::status);
+    }
+
+    /**
+     * Get the progress of every purge still held, most recently submitted first.
+     * @return the jobs
+     */
+    public List<CasePurgeJob> getJobs() {
+        return jobs.values().stream()
+            .map(Job::status)
+            .sorted(Comparator.comparing(CasePurgeJob::submitted).reversed())
+            .toList();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job) {
+        job.start();
+        long startNanos = System.nanoTime();
+        try {
+            List<Integer> ids = job.criteria.ids();
+            if (ids != null) {
+                for (int from = 0; from < ids.size(); from += batchSize) {
+                    List<Integer> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+                    deleteBatch(job, job.criteria.withIds(chunk));
+                    pace(job.deleted, startNanos);
+                }
+            } else {
+                int deleted;
+                do {
+                    deleted = deleteBatch(job, job.criteria);
+                    pace(job.deleted, startNanos);
+                } while (deleted == batchSize);
+            }
+            log.info("Purge {} deleted {} cases", job.id, job.deleted);
+            job.finish(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish("Interrupted after deleting " + job.deleted + " cases");
+        } catch (RuntimeException e) {
+            log.error("Purge {} failed after deleting {} cases", job.id, job.deleted, e);
+            job.finish(e.getMessage());
+        }
+    }
+
+    private int deleteBatch(Job job, CasePurgeCriteria criteria) {
+        List<Integer> deletedIds = caseRepository.deleteBatch(criteria, batchSize);
+        deletedIds.forEach(cache::evict);
+        job.deleted += deletedIds.size();
+        return deletedIds.size();
+    }
+
+    // Sleeps until deleting this many rows since the start no longer exceeds the rate limit
+    private void pace(long deleted, long startNanos) throws InterruptedException {
+        if (maxRowsPerSecond <= 0) {
+            return;
+        }
+        long dueNanos = startNanos + deleted * TimeUnit.SECONDS.toNanos(1) / maxRowsPerSecond;
+        long waitNanos = dueNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void removeExpiredJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> job.finished != null && job.finished.isBefore(cutoff));
+    }
+
+    private static final class Job {
+
+        private final UUID id = UUID.randomUUID();
+        private final Instant submitted = Instant.now();
+        private final CasePurgeCriteria criteria;
+        private volatile State state = State.QUEUED;
+        private volatile long deleted;
+        private volatile Instant started;
+        private volatile Instant finished;
+        private volatile String error;
+
+        private Job(CasePurgeCriteria criteria) {
+            this.criteria = criteria;
+        }
+
+        private void start() {
+            started = Instant.now();
+            state = State.RUNNING;
+        }
+
+        private void finish(String failure) {
+            error = failure;
+            finished = Instant.now();
+            state = failure == null ? State.COMPLETED : State.FAILED;
+        }
+
+        private CasePurgeJob status() {
+            return new CasePurgeJob(id, state, deleted, submitted, started, finished, error);
+        }
+    }
+}
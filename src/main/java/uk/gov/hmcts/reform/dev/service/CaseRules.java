@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import uk.gov.hmcts.reform.dev.model.Case;
+
+import java.time.LocalDateTime;
+
+import static org.apache.commons.lang3.ObjectUtils.isEmpty;
+
+/**
+ * Validation and defaulting applied to every case before it is stored, however it arrives.
+ */
+public final class CaseRules {
+
+    private CaseRules() {
+    }
+
+    /**
+     * Check a case has the fields needed to store it.
+     * @param newCase the case to check
+     * @return true if the case has a case number and a title
+     */
+    public static boolean isValid(Case newCase) {
+        return !isEmpty(newCase) && !isEmpty(newCase.getCaseNumber()) && !isEmpty(newCase.getTitle());
+    }
+
+    /**
+     * Fill in the fields that have defaults.
+     * @param newCase the case to update
+     */
+    public static void applyDefaults(Case newCase) {
+        if (isEmpty(newCase.getCreatedDate())) {
+            newCase.setCreatedDate(LocalDateTime.now());
+        }
+    }
+}
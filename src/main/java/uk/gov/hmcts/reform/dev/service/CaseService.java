@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseEvent;
+import uk.gov.hmcts.reform.dev.repository.CaseEventRepository;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+import uk.gov.hmcts.reform.dev.stats.CaseCounts;
+
+import java.util.List;
+
+/**
+ * Writes single cases, recording each change in the case event outbox in the same transaction,
+ * so the change feed has exactly the changes that were committed, and keeping the case counts in step.
+ */
+@Service
+public class CaseService {
+
+    private final CaseRepository caseRepository;
+    private final CaseEventRepository caseEventRepository;
+    private final CaseCounts caseCounts;
+
+    public CaseService(CaseRepository caseRepository,
+                       CaseEventRepository caseEventRepository,
+                       CaseCounts caseCounts) {
+        this.caseRepository = caseRepository;
+        this.caseEventRepository = caseEventRepository;
+        this.caseCounts = caseCounts;
+    }
+
+    /**
+     * Save a case, creating it if it has no ID.
+     * @param newCase the case to save
+     * @return the saved case
+     */
+    @Transactional
+    public Case save(Case newCase) {
+        if (newCase.getId() == 0) {
+            Case savedCase = caseRepository.save(newCase);
+            caseEventRepository.append(CaseEvent.Type.CREATED, List.of(savedCase.getId()));
+            caseCounts.added(List.of(savedCase.getCaseNumber()));
+            return savedCase;
+        }
+        Integer previousCaseNumber = caseRepository.findCaseNumberById(newCase.getId());
+        Case savedCase = caseRepository.save(newCase);
+        caseEventRepository.append(CaseEvent.Type.UPDATED, List.of(savedCase.getId()));
+        if (previousCaseNumber != null) {
+            caseCounts.moved(previousCaseNumber, savedCase.getCaseNumber());
+        }
+        return savedCase;
+    }
+
+    /**
+     * Update a case if it is still at the expected version.
+     * @param id the ID of the case
+     * @param version the version the update was based on
+     * @param changes the new case number, title and description
+     * @return true if the case was updated, false if it does not exist or is at another version
+     */
+    @Transactional
+    public boolean update(int id, long version, Case changes) {
+        Integer previousCaseNumber = caseRepository.findCaseNumberById(id);
+        if (previousCaseNumber == null) {
+            return false;
+        }
+        int updated = caseRepository.updateCase(
+            id, version, changes.getCaseNumber(), changes.getTitle(), changes.getDescription()
+        );
+        if (updated == 0) {
+            return false;
+        }
+        caseEventRepository.append(CaseEvent.Type.UPDATED, List.of(id));
+        caseCounts.moved(previousCaseNumber, changes.getCaseNumber());
+        return true;
+    }
+
+    /**
+     * Delete a case.
+     * @param id the ID of the case
+     * @return true if the case was deleted, false if it does not exist
+     */
+    @Transactional
+    public boolean delete(int id) {
+        Integer caseNumber = caseRepository.findCaseNumberById(id);
+        if (caseNumber == null || caseRepository.deleteCaseById(id) == 0) {
+            return false;
+        }
+        caseEventRepository.append(CaseEvent.Type.DELETED, List.of(id));
+        caseCounts.removed(List.of(caseNumber));
+        return true;
+    }
+}
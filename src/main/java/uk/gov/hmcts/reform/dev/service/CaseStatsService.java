@@ -0,0 +1,154 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.dev.model.CaseCreatedStats;
+import uk.gov.hmcts.reform.dev.model.CasePeriod;
+import uk.gov.hmcts.reform.dev.model.CasePeriodCount;
+import uk.gov.hmcts.reform.dev.model.CaseStats;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+import uk.gov.hmcts.reform.dev.stats.CaseCounts;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves case counts from {@link CaseCounts} rather than counting the table on every request.
+ *
+ * <p>The counts are loaded at startup by {@code CaseWarmUp}, or by the first request if warm-up is off, and are
+ * reloaded from the table every {@code cases.stats.resync-interval} to take in writes made by other instances and
+ * correct any drift.
+ *
+ * <p>Once the {@code V008} migration has run, counts are reloaded from its summary tables instead, and counts by
+ * day or week created are read from them too, so neither reads the cases table. At startup and then every
+ * {@code cases.stats.summaries.refresh-interval}, the deltas the triggers have recorded since are folded into the
+ * summaries, {@code cases.stats.summaries.fold-batch-size} at a time. Until the migration has run, counts by
+ * period are counted from the cases table.
+ */
+@Service
+@Slf4j
+public class CaseStatsService {
+
+    private final CaseRepository caseRepository;
+    private final CaseCounts caseCounts;
+    private final Duration resyncInterval;
+    private final Duration refreshInterval;
+    private final int foldBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean summarised;
+
+    @Autowired
+    public CaseStatsService(CaseRepository caseRepository,
+                            CaseCounts caseCounts,
+                            @Value("${cases.stats.resync-interval:10m}") Duration resyncInterval,
+                            @Value("${cases.stats.summaries.refresh-interval:1m}") Duration refreshInterval,
+                            @Value("${cases.stats.summaries.fold-batch-size:10000}") int foldBatchSize) {
+        this(caseRepository, caseCounts, resyncInterval, refreshInterval, foldBatchSize,
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("case-stats").daemon().factory()));
+    }
+
+    CaseStatsService(CaseRepository caseRepository,
+                     CaseCounts caseCounts,
+                     Duration resyncInterval,
+                     Duration refreshInterval,
+                     int foldBatchSize,
+                     ScheduledExecutorService scheduler) {
+        this.caseRepository = caseRepository;
+        this.caseCounts = caseCounts;
+        this.resyncInterval = resyncInterval;
+        this.refreshInterval = refreshInterval;
+        this.foldBatchSize = foldBatchSize;
+        this.scheduler = scheduler;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        scheduler.scheduleWithFixedDelay(
+            this::resync, resyncInterval.toMillis(), resyncInterval.toMillis(), TimeUnit.MILLISECONDS
+        );
+        scheduler.scheduleWithFixedDelay(
+            this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Reload the counts from the summary tables, or from the cases table if there are none.
+     */
+    public void reload() {
+        summarised = caseRepository.hasCountSummaries();
+        caseCounts.reset(
+            summarised ? caseRepository.findCaseNumberCountSummaries() : caseRepository.findCaseNumberCounts()
+        );
+    }
+
+    /**
+     * Get the number of cases, in total and for each case number.
+     * @return the counts, loading them first if they have not been yet
+     */
+    public CaseStats stats() {
+        if (!caseCounts.isLoaded()) {
+            synchronized (this) {
+                if (!caseCounts.isLoaded()) {
+                    reload();
+                }
+            }
+        }
+        return caseCounts.snapshot();
+    }
+
+    /**
+     * Count the cases created in each day or week of a date range. The range is widened to whole weeks when
+     * counting by week.
+     * @param period the period to count by
+     * @param from   the first day to count
+     * @param to     the day after the last day to count, after {@code from}
+     * @return the counts, with the range they cover
+     */
+    public CaseCreatedStats created(CasePeriod period, LocalDate from, LocalDate to) {
+        LocalDate start = period.start(from);
+        LocalDate end = period.start(to).equals(to) ? to : period.next(to);
+        List<CasePeriodCount> counts = summarised
+            ? caseRepository.findCreatedCountSummaries(period, start, end)
+            : caseRepository.findCreatedCounts(period, start, end);
+        long total = counts.stream().mapToLong(CasePeriodCount::count).sum();
+        return new CaseCreatedStats(period, start, end, total, counts);
+    }
+
+    void refresh() {
+        try {
+            summarised = caseRepository.hasCountSummaries();
+            if (!summarised) {
+                log.debug("There are no case count summaries, skipping refresh");
+                return;
+            }
+            int folded;
+            do {
+                folded = caseRepository.foldCountDeltas(foldBatchSize);
+            } while (folded == foldBatchSize);
+        } catch (RuntimeException e) {
+            log.warn("Case count summary refresh failed, retrying in {}", refreshInterval, e);
+        }
+    }
+
+    void resync() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Case count resync failed, retrying in {}", resyncInterval, e);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.codec.CodecException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseEvent;
+import uk.gov.hmcts.reform.dev.model.CaseIngestResult;
+import uk.gov.hmcts.reform.dev.repository.CaseSecondLevelCache;
+import uk.gov.hmcts.reform.dev.repository.ReactiveCaseRepository;
+import uk.gov.hmcts.reform.dev.stats.CaseCounts;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static uk.gov.hmcts.reform.dev.repository.CaseRepository.CASES_CACHE;
+
+/**
+ * The reactive counterpart of {@link CaseService} and {@link CaseIngestService}: writes cases through
+ * {@link ReactiveCaseRepository}, recording each change in the case event outbox in the same transaction and
+ * adjusting the case counts and the caches once it commits.
+ */
+@Service
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCaseService {
+
+    private final ReactiveCaseRepository caseRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final CaseCounts caseCounts;
+    private final CacheManager cacheManager;
+    private final CaseSecondLevelCache secondLevelCache;
+    private final int batchSize;
+
+    public ReactiveCaseService(ReactiveCaseRepository caseRepository,
+                               TransactionalOperator transactionalOperator,
+                               CaseCounts caseCounts,
+                               CacheManager cacheManager,
+                               CaseSecondLevelCache secondLevelCache,
+                               @Value("${cases.ingest.batch-size:500}") int batchSize) {
+        this.caseRepository = caseRepository;
+        this.transactionalOperator = transactionalOperator;
+        this.caseCounts = caseCounts;
+        this.cacheManager = cacheManager;
+        this.secondLevelCache = secondLevelCache;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Create a case, or overwrite one if it has an ID.
+     * @param newCase the case, with its created date set
+     * @return the saved case
+     * @throws OptimisticLockingFailureException through the Mono if the case has an ID and was changed or deleted
+     *     since it was read
+     */
+    public Mono<Case> save(Case newCase) {
+        if (newCase.getId() == 0) {
+            return transactionalOperator.transactional(
+                // The ID is only known once the insert has run
+                caseRepository.insertAll(List.of(newCase)).then(Mono.defer(
+                    () -> caseRepository.appendEvents(CaseEvent.Type.CREATED, List.of(newCase.getId()))
+                        .then(caseRepository.findById(newCase.getId()))
+                ))
+            ).doOnSuccess(saved -> {
+                secondLevelCache.evictSearches();
+                caseCounts.added(List.of(saved.getCaseNumber()));
+            });
+        }
+        return transactionalOperator.transactional(
+            caseRepository.findCaseNumberById(newCase.getId())
+                .flatMap(previousCaseNumber -> caseRepository.replace(newCase)
+                    .filter(updated -> updated > 0)
+                    .flatMap(updated -> caseRepository.appendEvents(CaseEvent.Type.UPDATED, List.of(newCase.getId()))
+                        .then(caseRepository.findById(newCase.getId())))
+                    .map(saved -> new Saved(previousCaseNumber, saved)))
+                .switchIfEmpty(Mono.error(() -> new OptimisticLockingFailureException(
+                    "Case " + newCase.getId() + " has changed or been deleted since it was read"
+                )))
+        ).map(saved -> {
+            evict(newCase.getId());
+            caseCounts.moved(saved.previousCaseNumber(), saved.value().getCaseNumber());
+            return saved.value();
+        });
+    }
+
+    /**
+     * Update the case number, title and description of a case if it is still at the expected version.
+     * @param id      the ID of the case
+     * @param version the version the changes were based on
+     * @param changes the new values
+     * @return true if the case was updated, false if it does not exist or is at another version
+     */
+    public Mono<Boolean> update(int id, long version, Case changes) {
+        return transactionalOperator.transactional(
+            caseRepository.findCaseNumberById(id)
+                .flatMap(previousCaseNumber -> caseRepository.update(id, version, changes)
+                    .filter(updated -> updated > 0)
+                    .flatMap(updated -> caseRepository.appendEvents(CaseEvent.Type.UPDATED, List.of(id))
+                        .thenReturn(previousCaseNumber)))
+        ).map(previousCaseNumber -> {
+            evict(id);
+            caseCounts.moved(previousCaseNumber, changes.getCaseNumber());
+            return true;
+        }).defaultIfEmpty(false);
+    }
+
+    /**
+     * Delete a case by its ID.
+     * @param id the ID of the case
+     * @return true if the case was deleted, false if it does not exist
+     */
+    public Mono<Boolean> delete(int id) {
+        return transactionalOperator.transactional(
+            caseRepository.findCaseNumberById(id)
+                .flatMap(caseNumber -> caseRepository.deleteById(id)
+                    .filter(deleted -> deleted > 0)
+                    .flatMap(deleted -> caseRepository.appendEvents(CaseEvent.Type.DELETED, List.of(id))
+                        .thenReturn(caseNumber)))
+        ).map(caseNumber -> {
+            evict(id);
+            caseCounts.removed(List.of(caseNumber));
+            return true;
+        }).defaultIfEmpty(false);
+    }
+
+    /**
+     * Create every valid case in a stream, with the same outcomes as {@link CaseIngestService#ingest}.
+     * Cases are inserted in batches of {@code cases.ingest.batch-size} as they arrive, each in its own transaction.
+     * Reading stops at the first item that cannot be decoded, which is reported as rejected.
+     * @param cases the cases, as decoded from the request
+     * @return the outcome of each item, in input order
+     */
+    public Mono<List<CaseIngestResult>> ingest(Flux<Case> cases) {
+        AtomicInteger read = new AtomicInteger();
+        return cases
+            .map(newCase -> new Item(read.getAndIncrement(), newCase, null))
+            .onErrorResume(CodecException.class, e -> Mono.just(new Item(read.get(), null, malformed(e))))
+            .buffer(batchSize)
+            .concatMap(this::insertBatch)
+            .collectSortedList(Comparator.comparingInt(CaseIngestResult::index));
+    }
+
+    private Flux<CaseIngestResult> insertBatch(List<Item> items) {
+        List<Item> valid = items.stream().filter(item -> item.error() == null && CaseRules.isValid(item.value()))
+            .toList();
+        Flux<CaseIngestResult> rejected = Flux.fromIterable(items)
+            .filter(item -> !valid.contains(item))
+            .map(item -> CaseIngestResult.rejected(
+                item.index(), item.error() == null ? CaseIngestService.INVALID_CASE : item.error()
+            ));
+        valid.forEach(item -> {
+            CaseRules.applyDefaults(item.value());
+            // Bulk upload only creates cases, so any ID sent is ignored
+            item.value().setId(0);
+        });
+        Flux<CaseIngestResult> created = insert(valid)
+            .onErrorResume(DataAccessException.class, e -> {
+                log.warn("Batch of {} cases failed, retrying one at a time", valid.size(), e);
+                // Pins a failed batch down to the items that caused it, so the rest are still created
+                return Flux.fromIterable(valid).concatMap(item -> {
+                    item.value().setId(0);
+                    return insert(List.of(item)).onErrorResume(DataAccessException.class, failed -> Mono.just(
+                        CaseIngestResult.failed(item.index(), failed.getMostSpecificCause().getMessage())
+                    ));
+                });
+            });
+        return Flux.concat(rejected, created);
+    }
+
+    private Flux<CaseIngestResult> insert(List<Item> items) {
+        if (items.isEmpty()) {
+            return Flux.empty();
+        }
+        List<Case> batch = items.stream().map(Item::value).toList();
+        return transactionalOperator.transactional(
+            caseRepository.insertAll(batch).then(Mono.defer(() -> caseRepository.appendEvents(
+                CaseEvent.Type.CREATED, batch.stream().map(Case::getId).toList()
+            )))
+        ).thenMany(Flux.defer(() -> {
+            secondLevelCache.evictSearches();
+            caseCounts.added(batch.stream().map(Case::getCaseNumber).toList());
+            return Flux.fromIterable(items).map(item -> CaseIngestResult.created(item.index(), item.value().getId()));
+        }));
+    }
+
+    // Cases read through CaseRepository on this instance are cached, so a change made here must drop the cached copies
+    private void evict(int id) {
+        Cache cache = cacheManager.getCache(CASES_CACHE);
+        if (cache != null) {
+            cache.evict(id);
+        }
+        secondLevelCache.evict(List.of(id));
+    }
+
+    private static String malformed(CodecException e) {
+        Throwable cause = e.getMostSpecificCause();
+        String message = cause instanceof JsonProcessingException json ? json.getOriginalMessage() : cause.getMessage();
+        return "Malformed case: " + message;
+    }
+
+    /**
+     * An item of a bulk upload with its position, and why it could not be read if it could not.
+     */
+    private record Item(int index, Case value, String error) {
+    }
+
+    private record Saved(int previousCaseNumber, Case value) {
+    }
+}
@@ -0,0 +1,136 @@
+package uk.gov.hmcts.reform.dev.stats;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.model.CaseNumberCount;
+import uk.gov.hmcts.reform.dev.model.CaseStats;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Case counts held in memory, so reading them never runs a {@code count(*)}.
+ *
+ * <p>Counts are loaded from the table with {@link #reset} and then adjusted by every write path as cases are added,
+ * deleted or move to another case number. Adjustments made in a transaction are applied once it commits, so
+ * rolled back writes are never counted. Each instance only sees its own writes, so the counts are reloaded
+ * periodically to take in those of other instances; see {@code CaseStatsService}.
+ */
+@Component
+public class CaseCounts {
+
+    private volatile Counts counts = new Counts();
+    private volatile boolean loaded;
+
+    /**
+     * Count cases as added.
+     * @param caseNumbers the case number of each case added
+     */
+    public void added(Collection<Integer> caseNumbers) {
+        adjust(deltas(caseNumbers, 1));
+    }
+
+    /**
+     * Count cases as deleted.
+     * @param caseNumbers the case number of each case deleted
+     */
+    public void removed(Collection<Integer> caseNumbers) {
+        adjust(deltas(caseNumbers, -1));
+    }
+
+    /**
+     * Count a case as having moved from one case number to another.
+     * @param from the case number it had
+     * @param to   the case number it has now
+     */
+    public void moved(int from, int to) {
+        if (from != to) {
+            adjust(Map.of(from, -1L, to, 1L));
+        }
+    }
+
+    /**
+     * Replace the counts with ones read from the table.
+     * Adjustments that commit while the counts are being read may be lost or counted twice until the next reset.
+     * @param caseNumberCounts the number of cases with each case number
+     */
+    public void reset(List<CaseNumberCount> caseNumberCounts) {
+        Counts reloaded = new Counts();
+        for (CaseNumberCount count : caseNumberCounts) {
+            reloaded.add(count.caseNumber(), count.count());
+        }
+        counts = reloaded;
+        loaded = true;
+    }
+
+    /**
+     * Whether the counts have been loaded from the table yet.
+     * @return true once {@link #reset} has been called
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Take a copy of the current counts.
+     * @return the total and the count of each case number that has any cases
+     */
+    public CaseStats snapshot() {
+        Counts current = counts;
+        SortedMap<Integer, Long> byCaseNumber = new TreeMap<>();
+        current.byCaseNumber.forEach((caseNumber, count) -> {
+            long value = count.sum();
+            if (value > 0) {
+                byCaseNumber.put(caseNumber, value);
+            }
+        });
+        return new CaseStats(current.total.sum(), byCaseNumber);
+    }
+
+    private void adjust(Map<Integer, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(deltas);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(deltas);
+            }
+        });
+    }
+
+    private void apply(Map<Integer, Long> deltas) {
+        Counts current = counts;
+        deltas.forEach(current::add);
+    }
+
+    private static Map<Integer, Long> deltas(Collection<Integer> caseNumbers, long delta) {
+        Map<Integer, Long> deltas = new HashMap<>();
+        for (Integer caseNumber : caseNumbers) {
+            deltas.merge(caseNumber, delta, Long::sum);
+        }
+        return deltas;
+    }
+
+    private static final class Counts {
+
+        private final LongAdder total = new LongAdder();
+        private final Map<Integer, LongAdder> byCaseNumber = new ConcurrentHashMap<>();
+
+        void add(int caseNumber, long delta) {
+            total.add(delta);
+            byCaseNumber.computeIfAbsent(caseNumber, key -> new LongAdder()).add(delta);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package uk.gov.hmcts.reform.dev.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes case descriptions for the {@code description} column, compressing large ones.
+ *
+ * <p>The first byte of a stored description says how the rest is encoded: {@link #RAW} for UTF-8 text, or
+ * {@link #LZ4} for the length of the UTF-8 text as four bytes followed by an LZ4 block of it. Descriptions of at
+ * least {@code cases.descriptions.compress-threshold} bytes are compressed when {@code cases.descriptions.compression}
+ * is {@code lz4} and compressing makes them smaller. Every encoding can always be read, so compression can be
+ * switched off, or back on, at any time.
+ *
+ * <p>The {@value #BYTES_METRIC} counters add up the size of descriptions written before and after encoding, by how
+ * they were compressed; original over stored bytes is the compression ratio. The {@value #CODEC_METRIC} timer records
+ * the time spent encoding and decoding.
+ */
+@Component
+public class CaseDescriptionCodec {
+
+    static final String BYTES_METRIC = "cases.descriptions.bytes";
+    static final String CODEC_METRIC = "cases.descriptions.codec";
+
+    static final byte RAW = 0;
+    static final byte LZ4 = 1;
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    /**
+     * How new descriptions are compressed.
+     */
+    public enum Compression {
+        NONE,
+        LZ4
+    }
+
+    private final Compression compression;
+    private final int compressThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+    private final Counter rawOriginalBytes;
+    private final Counter rawStoredBytes;
+    private final Counter lz4OriginalBytes;
+    private final Counter lz4StoredBytes;
+    private final Timer encodeTimer;
+    private final Timer decodeTimer;
+
+    @Autowired
+    public CaseDescriptionCodec(MeterRegistry meterRegistry,
+                                @Value("${cases.descriptions.compression:lz4}") Compression compression,
+                                @Value("${cases.descriptions.compress-threshold:256}") int compressThreshold) {
+        this.compression = compression;
+        this.compressThreshold = compressThreshold;
+        LZ4Factory lz4 = LZ4Factory.fastestInstance();
+        this.compressor = lz4.fastCompressor();
+        // Bounds-checked, so a corrupt value fails rather than reading past its end
+        this.decompressor = lz4.safeDecompressor();
+        this.rawOriginalBytes = bytesCounter(meterRegistry, "original", "none");
+        this.rawStoredBytes = bytesCounter(meterRegistry, "stored", "none");
+        this.lz4OriginalBytes = bytesCounter(meterRegistry, "original", "lz4");
+        this.lz4StoredBytes = bytesCounter(meterRegistry, "stored", "lz4");
+        this.encodeTimer = codecTimer(meterRegistry, "encode");
+        this.decodeTimer = codecTimer(meterRegistry, "decode");
+    }
+
+    /**
+     * Encode a description for storage.
+     * @param description the description, may be null
+     * @return the stored form, or null for a null description
+     */
+    public byte[] encode(String description) {
+        if (description == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        byte[] text = description.getBytes(StandardCharsets.UTF_8);
+        byte[] stored = null;
+        if (compression == Compression.LZ4 && text.length >= compressThreshold) {
+            stored = compress(text);
+        }
+        if (stored == null) {
+            stored = new byte[1 + text.length];
+            stored[0] = RAW;
+            System.arraycopy(text, 0, stored, 1, text.length);
+            rawOriginalBytes.increment(text.length);
+            rawStoredBytes.increment(stored.length);
+        } else {
+            lz4OriginalBytes.increment(text.length);
+            lz4StoredBytes.increment(stored.length);
+        }
+        encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return stored;
+    }
+
+    /**
+     * Decode a stored description.
+     * @param stored the stored form, may be null
+     * @return the description, or null if none is stored
+     * @throws IllegalStateException if the stored form is corrupt
+     */
+    public String decode(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            if (stored.length == 0) {
+                throw new IllegalStateException("Stored description has no encoding byte");
+            }
+            return switch (stored[0]) {
+                case RAW -> new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+                case LZ4 -> new String(decompress(stored), StandardCharsets.UTF_8);
+                default -> throw new IllegalStateException("Unknown description encoding " + stored[0]);
+            };
+        } finally {
+            decodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * The size in bytes from which descriptions are compressed.
+     * @return the threshold
+     */
+    public int getCompressThreshold() {
+        return compressThreshold;
+    }
+
+    /**
+     * Whether new descriptions are compressed at all.
+     * @return true if descriptions of at least the threshold are compressed
+     */
+    public boolean isCompressing() {
+        return compression != Compression.NONE;
+    }
+
+    private byte[] compress(byte[] text) {
+        int headerLength = 1 + LENGTH_BYTES;
+        byte[] buffer = new byte[headerLength + compressor.maxCompressedLength(text.length)];
+        int compressedLength = compressor.compress(text, 0, text.length, buffer, headerLength);
+        if (headerLength + compressedLength >= 1 + text.length) {
+            // Not worth it, as for short or already dense text
+            return null;
+        }
+        buffer[0] = LZ4;
+        ByteBuffer.wrap(buffer, 1, LENGTH_BYTES).putInt(text.length);
+        return Arrays.copyOf(buffer, headerLength + compressedLength);
+    }
+
+    private byte[] decompress(byte[] stored) {
+        int headerLength = 1 + LENGTH_BYTES;
+        if (stored.length < headerLength) {
+            throw new IllegalStateException("Stored description is truncated");
+        }
+        int length = ByteBuffer.wrap(stored, 1, LENGTH_BYTES).getInt();
+        if (length < 0) {
+            throw new IllegalStateException("Stored description has a negative length");
+        }
+        byte[] text = new byte[length];
+        try {
+            int decompressed = decompressor.decompress(stored, headerLength, stored.length - headerLength, text, 0);
+            if (decompressed != length) {
+                throw new IllegalStateException("Stored description is " + decompressed + " bytes, not " + length);
+            }
+        } catch (LZ4Exception e) {
+            throw new IllegalStateException("Stored description is corrupt", e);
+        }
+        return text;
+    }
+
+    private static Counter bytesCounter(MeterRegistry meterRegistry, String form, String compression) {
+        return Counter.builder(BYTES_METRIC)
+            .description("Size of case descriptions written, before encoding and as stored, by compression")
+            .baseUnit("bytes")
+            .tag("form", form)
+            .tag("compression", compression)
+            .register(meterRegistry);
+    }
+
+    private static Timer codecTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(CODEC_METRIC)
+            .description("Time spent encoding and decoding case descriptions")
+            .tag("operation", operation)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.dev.storage;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores {@code Case.description} in the form {@link CaseDescriptionCodec} encodes it. Hibernate gets the
+ * converter from Spring, so it shares the codec's settings and metrics with the JDBC repositories.
+ */
+@Component
+@Converter
+public class CaseDescriptionConverter implements AttributeConverter<String, byte[]> {
+
+    private final CaseDescriptionCodec codec;
+
+    public CaseDescriptionConverter(CaseDescriptionCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(String description) {
+        return codec.encode(description);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        return codec.decode(stored);
+    }
+}
@@ -0,0 +1,190 @@
+package uk.gov.hmcts.reform.dev.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+import uk.gov.hmcts.reform.dev.service.CaseStatsService;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static uk.gov.hmcts.reform.dev.repository.CaseRepository.CASES_CACHE;
+
+/**
+ * Warms an instance up before it takes traffic, so the first requests after a deploy are not the ones to pay for
+ * an empty connection pool, empty caches and code that has not been compiled yet.
+ *
+ * <p>Application runners finish before the application reports itself ready, so while this runs the readiness
+ * group, which includes {@code readinessState}, is down and no traffic is routed to the instance. In turn it:
+ * <ol>
+ *     <li>opens {@code cases.warm-up.connections} pool connections, which should be at most the pool size</li>
+ *     <li>loads the case counts served by {@code /case/stats}</li>
+ *     <li>reads the {@code cases.warm-up.hot-cases} most recently updated cases into the cases cache</li>
+ *     <li>calls each case endpoint {@code cases.warm-up.requests} times over HTTP, stopping once
+ *     {@code cases.warm-up.timeout} has passed; writes are sent invalid, so nothing is changed</li>
+ * </ol>
+ * A step that fails is logged and skipped, as an instance that is slow to start is better than one that does not.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "cases.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class CaseWarmUp implements ApplicationRunner {
+
+    private final DataSource dataSource;
+    private final CaseRepository caseRepository;
+    private final CaseStatsService caseStatsService;
+    private final CacheManager cacheManager;
+    private final Environment environment;
+    private final int connections;
+    private final int hotCases;
+    private final int requests;
+    private final Duration timeout;
+
+    public CaseWarmUp(DataSource dataSource,
+                      CaseRepository caseRepository,
+                      CaseStatsService caseStatsService,
+                      CacheManager cacheManager,
+                      Environment environment,
+                      @Value("${cases.warm-up.connections:10}") int connections,
+                      @Value("${cases.warm-up.hot-cases:1000}") int hotCases,
+                      @Value("${cases.warm-up.requests:20}") int requests,
+                      @Value("${cases.warm-up.timeout:30s}") Duration timeout) {
+        this.dataSource = dataSource;
+        this.caseRepository = caseRepository;
+        this.caseStatsService = caseStatsService;
+        this.cacheManager = cacheManager;
+        this.environment = environment;
+        this.connections = connections;
+        this.hotCases = hotCases;
+        this.requests = requests;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        warmUp();
+        log.info("Warm-up finished in {} ms", Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    private void warmUp() {
+        step("connection pool", this::openConnections);
+        step("case counts", caseStatsService::reload);
+        List<Integer> hotIds = new ArrayList<>();
+        step("hot cases", () -> hotIds.addAll(preloadHotCases()));
+        step("endpoints", () -> callEndpoints(hotIds.isEmpty() ? 0 : hotIds.getFirst()));
+    }
+
+    void openConnections() throws SQLException {
+        List<Connection> opened = new ArrayList<>();
+        try {
+            // Holding each connection until all are open makes the pool open a new one for every request
+            for (int i = 0; i < connections; i++) {
+                Connection connection = dataSource.getConnection();
+                opened.add(connection);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("select 1");
+                }
+            }
+        } finally {
+            for (Connection connection : opened) {
+                connection.close();
+            }
+        }
+    }
+
+    List<Integer> preloadHotCases() {
+        if (hotCases < 1) {
+            return List.of();
+        }
+        List<Integer> ids = caseRepository.findRecentlyUpdatedIds(PageRequest.of(0, hotCases));
+        Cache cache = cacheManager.getCache(CASES_CACHE);
+        if (cache != null) {
+            for (Case hotCase : caseRepository.findAllById(ids)) {
+                cache.put(hotCase.getId(), hotCase);
+            }
+        }
+        return ids;
+    }
+
+    void callEndpoints(int hotId) throws IOException, InterruptedException {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null) {
+            log.debug("No web server running, skipping endpoint warm-up");
+            return;
+        }
+        String base = "http://localhost:" + port + "/case";
+        List<HttpRequest> calls = List.of(
+            get(base + "/" + hotId).build(),
+            get(base + "/" + hotId).header(HttpHeaders.IF_NONE_MATCH, "\"0\"").build(),
+            get(base + "/getAllCases?limit=20").build(),
+            get(base + "/getAllCases?afterId=" + Integer.MAX_VALUE).build(),
+            get(base + "/searchCases?caseNumber=1&size=20").build(),
+            get(base + "/searchCases?title=case&size=20").build(),
+            get(base + "/stats").build(),
+            get(base + "/stats/created?period=week").build(),
+            send(base + "/getCases").POST(HttpRequest.BodyPublishers.ofString("[" + hotId + ",0]")).build(),
+            send(base + "/addCase").POST(HttpRequest.BodyPublishers.ofString("{}")).build(),
+            send(base + "/0").PUT(HttpRequest.BodyPublishers.ofString("{}")).build(),
+            send(base + "/0").DELETE().build()
+        );
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(timeout).build()) {
+            for (int i = 0; i < requests; i++) {
+                for (HttpRequest call : calls) {
+                    if (System.nanoTime() > deadline) {
+                        log.info("Endpoint warm-up stopped after {}, {} of {} rounds done", timeout, i, requests);
+                        return;
+                    }
+                    client.send(call, HttpResponse.BodyHandlers.discarding());
+                }
+            }
+        }
+    }
+
+    private HttpRequest.Builder get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(timeout);
+    }
+
+    private HttpRequest.Builder send(String uri) {
+        return get(uri).header(HttpHeaders.CONTENT_TYPE, "application/json");
+    }
+
+    private static void step(String name, Step step) {
+        long started = System.nanoTime();
+        try {
+            step.run();
+            log.info("Warmed up {} in {} ms", name, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Warm-up of {} interrupted", name);
+        } catch (Exception e) {
+            log.warn("Warm-up of {} failed, continuing without it", name, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,14 @@
+-- =============================================
+-- Create date: 17-OCT-2026
+-- Description:	Indexes backing case search. The trigram index serves
+--              lower(title) like '%term%', which a B-tree index cannot.
+-- VERSION	  :	17-OCT-2026		1.0  - Initial creation
+-- =============================================
+
+create extension if not exists pg_trgm;
+
+create index if not exists cases_title_trgm_idx
+  on cases using gin (lower(title) gin_trgm_ops);
+
+create index if not exists cases_case_number_idx
+  on cases (case_number);
@@ -0,0 +1,11 @@
+-- =============================================
+-- Create date: 17-OCT-2026
+-- Description:	Let the application allocate case IDs from the identity
+--              sequence in blocks of 50, so inserts can be batched.
+--              Must match allocationSize on Case.id.
+-- VERSION	  :	17-OCT-2026		1.0  - Initial creation
+-- =============================================
+
+alter table cases alter column id set generated by default;
+
+alter table cases alter column id set increment by 50;
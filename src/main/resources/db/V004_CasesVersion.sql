@@ -0,0 +1,14 @@
+-- =============================================
+-- Create date: 17-OCT-2026
+-- Description:	Version and last-updated columns for optimistic locking
+--              and ETags. The updated_date index keeps max(updated_date)
+--              cheap for the collection validator.
+-- VERSION	  :	17-OCT-2026		1.0  - Initial creation
+-- =============================================
+
+alter table cases add column if not exists version bigint not null default 0;
+
+alter table cases add column if not exists updated_date timestamp default now();
+
+create index if not exists cases_updated_date_idx
+  on cases (updated_date);
@@ -0,0 +1,26 @@
+-- =============================================
+-- Create date: 17-OCT-2026
+-- Description:	Outbox of case changes behind the /case/events feed,
+--              written in the same transaction as each change.
+--              Existing cases are seeded as created, so a consumer
+--              reading from the start sees every case.
+-- VERSION	  :	17-OCT-2026		1.0  - Initial creation
+-- =============================================
+
+create table if not exists case_events
+(
+  id       bigint generated by default as identity
+    constraint case_events_pk
+      primary key,
+  case_id  integer      not null,
+  type     varchar(255) not null,
+  occurred timestamp    not null
+);
+
+create index if not exists case_events_case_id_idx
+  on case_events (case_id);
+
+insert into case_events (case_id, type, occurred)
+select id, 'CREATED', coalesce(created_date, now())
+from cases
+order by id;
@@ -0,0 +1,87 @@
+-- =============================================
+-- Create date: 17-OCT-2026
+-- Description:	Rebuild cases as a table range partitioned by month of
+--              created_date, so scans with a created_date range only
+--              read the months they need, each month is vacuumed on
+--              its own, and old months can be detached whole.
+--              Partitions are named cases_yYYYYmMM. This creates one
+--              for each month from the oldest case to three months
+--              ahead; CasePartitionService keeps creating them ahead
+--              and archives old ones. Rows outside every partition
+--              land in cases_default.
+--              The primary key must include the partition key, so it
+--              is (id, created_date); IDs stay unique because they all
+--              come from cases_id_seq. Identity columns are not
+--              supported on partitioned tables before PostgreSQL 17,
+--              so the ID default is a plain sequence.
+-- VERSION	  :	17-OCT-2026		1.0  - Initial creation
+-- =============================================
+
+alter table cases rename to cases_unpartitioned;
+
+alter table cases_unpartitioned rename constraint cases_pk to cases_unpartitioned_pk;
+
+alter index cases_title_trgm_idx rename to cases_unpartitioned_title_trgm_idx;
+
+alter index cases_case_number_idx rename to cases_unpartitioned_case_number_idx;
+
+alter index cases_updated_date_idx rename to cases_unpartitioned_updated_date_idx;
+
+alter sequence cases_id_seq rename to cases_unpartitioned_id_seq;
+
+create sequence cases_id_seq increment by 50;
+
+create table cases
+(
+  id           integer   not null default nextval('cases_id_seq'),
+  case_number  integer,
+  title        varchar   not null,
+  description  varchar,
+  created_date timestamp not null default now(),
+  version      bigint    not null default 0,
+  updated_date timestamp default now(),
+  constraint cases_pk
+    primary key (id, created_date)
+) partition by range (created_date);
+
+alter sequence cases_id_seq owned by cases.id;
+
+create table cases_default partition of cases default;
+
+do $$
+declare
+  month date := coalesce(
+    (select date_trunc('month', min(created_date)) from cases_unpartitioned),
+    date_trunc('month', now())
+  );
+begin
+  while month <= date_trunc('month', now()) + interval '3 months' loop
+    execute format(
+      'create table %I partition of cases for values from (%L) to (%L)',
+      to_char(month, '"cases_y"YYYY"m"MM'), month, month + interval '1 month'
+    );
+    month := month + interval '1 month';
+  end loop;
+end
+$$;
+
+insert into cases (id, case_number, title, description, created_date, version, updated_date)
+select id, case_number, title, description, coalesce(created_date, updated_date, now()), version, updated_date
+from cases_unpartitioned;
+
+-- The pooled ID generator hands out the 50 IDs up to each sequence value
+select setval('cases_id_seq', coalesce(max(id), 0) + 50, false)
+from cases;
+
+drop table cases_unpartitioned;
+
+create index cases_title_trgm_idx
+  on cases using gin (lower(title) gin_trgm_ops);
+
+create index cases_case_number_idx
+  on cases (case_number);
+
+create index cases_updated_date_idx
+  on cases (updated_date);
+
+analyze cases;
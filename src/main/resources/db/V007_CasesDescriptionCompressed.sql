@@ -0,0 +1,22 @@
+-- =============================================
+-- Create date: 17-OCT-2026
+-- Description:	Store case descriptions as bytea encoded by the
+--              application, which compresses large ones with LZ4; see
+--              CaseDescriptionCodec. PostgreSQL only compresses a row
+--              once it is over about 2kB, so the long free-text
+--              descriptions most cases have were stored as they are.
+--              The first byte says how the rest is encoded; existing
+--              descriptions become 0 (uncompressed) followed by their
+--              UTF-8 text, and CaseDescriptionBackfillService compresses
+--              them in the background.
+--              Storage external keeps large values out of line in the
+--              TOAST table, so scans of the other columns stay small,
+--              without PostgreSQL compressing them a second time.
+-- VERSION	  :	17-OCT-2026		1.0  - Initial creation
+-- =============================================
+
+alter table cases
+  alter column description type bytea using '\x00'::bytea || convert_to(description, 'UTF8');
+
+alter table cases
+  alter column description set storage external;
@@ -0,0 +1,141 @@
+-- =============================================
+-- Create date: 17-OCT-2026
+-- Description:	Summary tables behind /case/stats, so counting cases
+--              by case number or by day created reads a row per case
+--              number or per day rather than the whole cases table.
+--              Triggers on cases record every change in count as a
+--              row of case_count_deltas, one per case number and day
+--              touched by each insert or delete statement, and two per
+--              case whose case number or day an update changes, in the
+--              same transaction as the change; CaseStatsService folds
+--              the deltas into case_number_counts and case_day_counts
+--              every cases.stats.summaries.refresh-interval. Readers
+--              add the deltas not folded yet to the summaries, so
+--              counts are always exact. Writers only ever insert
+--              deltas, so concurrent writes never wait on the same
+--              summary row.
+--              Cases whose partition is archived are taken out of the
+--              counts by CasePartitionRepository.
+--              The triggers are created before the summaries are
+--              seeded; creating them blocks writes to cases until the
+--              migration commits, so no change is missed or counted
+--              twice.
+-- VERSION	  :	17-OCT-2026		1.0  - Initial creation
+-- =============================================
+
+create table if not exists case_count_deltas
+(
+  id          bigint generated always as identity
+    constraint case_count_deltas_pk
+      primary key,
+  case_number integer,
+  created_day date,
+  cases       bigint not null
+);
+
+create table if not exists case_number_counts
+(
+  case_number integer not null
+    constraint case_number_counts_pk
+      primary key,
+  cases       bigint  not null
+);
+
+create table if not exists case_day_counts
+(
+  day   date   not null
+    constraint case_day_counts_pk
+      primary key,
+  cases bigint not null
+);
+
+create or replace function case_count_deltas_inserted() returns trigger
+  language plpgsql as
+$$
+begin
+  insert into case_count_deltas (case_number, created_day, cases)
+  select case_number, created_date::date, count(*)
+  from inserted_cases
+  group by case_number, created_date::date;
+  return null;
+end
+$$;
+
+-- A row trigger, as transition tables cannot be limited to columns: a statement trigger would copy every row of
+-- every update, the description backfill's included, to record nothing
+create or replace function case_count_deltas_updated() returns trigger
+  language plpgsql as
+$$
+begin
+  insert into case_count_deltas (case_number, created_day, cases)
+  values (old.case_number, old.created_date::date, -1),
+         (new.case_number, new.created_date::date, 1);
+  return new;
+end
+$$;
+
+create or replace function case_count_deltas_deleted() returns trigger
+  language plpgsql as
+$$
+begin
+  insert into case_count_deltas (case_number, created_day, cases)
+  select case_number, created_date::date, -count(*)
+  from deleted_cases
+  group by case_number, created_date::date;
+  return null;
+end
+$$;
+
+create or replace function case_count_summaries_truncated() returns trigger
+  language plpgsql as
+$$
+begin
+  truncate case_count_deltas, case_number_counts, case_day_counts;
+  return null;
+end
+$$;
+
+drop trigger if exists cases_count_inserted on cases;
+
+create trigger cases_count_inserted
+  after insert on cases
+  referencing new table as inserted_cases
+  for each statement execute function case_count_deltas_inserted();
+
+drop trigger if exists cases_count_updated on cases;
+
+-- Before rather than after, as an update moving a case to another month's partition runs as a delete and an
+-- insert, which fire no after update row triggers
+create trigger cases_count_updated
+  before update of case_number, created_date on cases
+  for each row
+  when (old.case_number is distinct from new.case_number
+    or old.created_date::date is distinct from new.created_date::date)
+  execute function case_count_deltas_updated();
+
+drop trigger if exists cases_count_deleted on cases;
+
+create trigger cases_count_deleted
+  after delete on cases
+  referencing old table as deleted_cases
+  for each statement execute function case_count_deltas_deleted();
+
+drop trigger if exists cases_count_truncated on cases;
+
+create trigger cases_count_truncated
+  after truncate on cases
+  for each statement execute function case_count_summaries_truncated();
+
+truncate case_count_deltas, case_number_counts, case_day_counts;
+
+insert into case_number_counts (case_number, cases)
+select case_number, count(*)
+from cases
+where case_number is not null
+group by case_number;
+
+insert into case_day_counts (day, cases)
+select created_date::date, count(*)
+from cases
+where created_date is not null
+group by created_date::date;
@@ -0,0 +1,47 @@
+-- =============================================
+-- Create date: 17-OCT-2026
+-- Description:	Version of the cases table as a whole, behind the weak
+--              ETag of case lists and searches. A statement trigger on
+--              cases bumps one of 16 counters in the same transaction
+--              as every insert, update, delete or truncate, so the sum
+--              of the counters changes with each committed change and
+--              is read without touching cases. Updates of descriptions
+--              alone, such as the backfill storing them compressed,
+--              change nothing a list shows and are left out. Each
+--              session bumps the counter picked by its backend PID, so
+--              concurrent writers rarely wait on the same row.
+--              Detaching a partition deletes nothing, so
+--              CasePartitionRepository bumps a counter itself when it
+--              archives one.
+--              Until this has run lists and searches are not tagged.
+-- VERSION	  :	17-OCT-2026		1.0  - Initial creation
+-- =============================================
+
+create table if not exists case_collection_versions
+(
+  slot    integer not null
+    constraint case_collection_versions_pk
+      primary key,
+  version bigint  not null
+);
+
+insert into case_collection_versions (slot, version)
+select slot, 0
+from generate_series(0, 15) as slot
+on conflict (slot) do nothing;
+
+create or replace function case_collection_changed() returns trigger
+  language plpgsql as
+$$
+begin
+  update case_collection_versions set version = version + 1
+  where slot = pg_backend_pid() % 16;
+  return null;
+end
+$$;
+
+drop trigger if exists cases_collection_changed on cases;
+
+create trigger cases_collection_changed
+  after insert or delete or truncate or update of id, case_number, title, created_date, version on cases
+  for each statement execute function case_collection_changed();
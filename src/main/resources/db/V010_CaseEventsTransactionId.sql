@@ -0,0 +1,13 @@
+-- =============================================
+-- Create date: 17-OCT-2026
+-- Description:	ID of the transaction that wrote each case event, so
+--              the /case/events feed can stop at the first event of a
+--              transaction that could still be open, rather than at
+--              events written within a settle time. Existing events
+--              get the ID of this migration, which has committed by
+--              the time they are read.
+-- VERSION	  :	17-OCT-2026		1.0  - Initial creation
+-- =============================================
+
+alter table case_events
+  add column if not exists transaction_id xid8 not null default pg_current_xact_id();
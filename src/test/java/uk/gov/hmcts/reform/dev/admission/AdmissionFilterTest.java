@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.dev.admission.AdmissionFilter.REQUESTS_METRIC;
+
+class AdmissionFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdmissionLimiters limiters = new AdmissionLimiters(properties(), meterRegistry);
+    private final AdmissionFilter filter = new AdmissionFilter(limiters, Duration.ofMillis(1500), meterRegistry);
+    private final FilterChain ok = (request, response) -> { };
+
+    @Test
+    void workloadsAreTakenFromMethodAndPath() {
+        assertThat(Workload.of("GET", "/case/12")).isEqualTo(Workload.LOOKUP);
+        assertThat(Workload.of("GET", "/case/purge/0b5d")).isEqualTo(Workload.LOOKUP);
+        assertThat(Workload.of("PUT", "/case/12")).isEqualTo(Workload.WRITE);
+        assertThat(Workload.of("POST", "/case/addCase")).isEqualTo(Workload.WRITE);
+        assertThat(Workload.of("POST", "/case/addCases")).isEqualTo(Workload.SCAN);
+        assertThat(Workload.of("GET", "/case/searchCases")).isEqualTo(Workload.SCAN);
+        assertThat(Workload.of("GET", "/case/getAllCases")).isEqualTo(Workload.SCAN);
+        assertThat(Workload.of("POST", "/case/getCases")).isEqualTo(Workload.SCAN);
+        assertThat(Workload.of("GET", "/case/events")).isNull();
+        assertThat(Workload.of("GET", "/health")).isNull();
+    }
+
+    @Test
+    void requestUnderLimitIsAdmittedAndReleased() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/case/1"), response, ok);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(limiters.get(Workload.LOOKUP).getInFlight()).isZero();
+        assertThat(requests(Workload.LOOKUP, "admitted")).isEqualTo(1);
+    }
+
+    @Test
+    void requestOverLimitIsRejectedWithRetryAfter() throws Exception {
+        limiters.get(Workload.WRITE).tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean[] called = {false};
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/case/addCase"), response, (req, res) -> called[0] = true);
+
+        assertThat(called[0]).isFalse();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(requests(Workload.WRITE, "rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void scanIsRejectedWhileLookupsAreAtTheirLimit() throws Exception {
+        limiters.get(Workload.LOOKUP).tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/case/searchCases"), response, ok);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(limiters.get(Workload.SCAN).getInFlight()).isZero();
+    }
+
+    @Test
+    void unlimitedRequestsPassThrough() throws Exception {
+        limiters.get(Workload.LOOKUP).tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/case/events"), response, ok);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void serverErrorCutsTheLimit() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/case/searchCases"), new MockHttpServletResponse(),
+            (request, response) -> ((HttpServletResponse) response).setStatus(500));
+
+        assertThat(limiters.get(Workload.SCAN).getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void slowScanCutsTheLimit() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/case/searchCases"), new MockHttpServletResponse(), ok);
+
+        assertThat(limiters.get(Workload.SCAN).getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void slowBulkIngestLeavesTheLimit() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("POST", "/case/addCases"), new MockHttpServletResponse(), ok);
+
+        assertThat(limiters.get(Workload.SCAN).getInFlight()).isZero();
+        assertThat(limiters.get(Workload.SCAN).getLimit()).isEqualTo(4);
+        assertThat(limiters.get(Workload.WRITE).getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void asyncRequestHoldsItsPlaceUntilComplete() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/case/getAllCases");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+
+        assertThat(limiters.get(Workload.SCAN).getInFlight()).isEqualTo(1);
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onComplete(new AsyncEvent(asyncContext));
+        }
+        assertThat(limiters.get(Workload.SCAN).getInFlight()).isZero();
+        assertThat(limiters.get(Workload.SCAN).getLimit()).isEqualTo(4);
+    }
+
+    private double requests(Workload workload, String outcome) {
+        return meterRegistry.get(REQUESTS_METRIC).tag("workload", workload.tag()).tag("outcome", outcome)
+            .counter().count();
+    }
+
+    private static AdmissionProperties properties() {
+        return new Binder(new MapConfigurationPropertySource(Map.of(
+            "cases.admission.lookup.initial-limit", "1",
+            "cases.admission.lookup.min-limit", "1",
+            "cases.admission.write.initial-limit", "1",
+            "cases.admission.write.min-limit", "1",
+            "cases.admission.scan.initial-limit", "4",
+            "cases.admission.scan.backoff-ratio", "0.5",
+            // Every scan that is timed is too slow
+            "cases.admission.scan.latency-threshold", "0ns"
+        ))).bindOrCreate("cases.admission", Bindable.of(AdmissionProperties.class));
+    }
+}
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.dev.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AimdLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private final AimdLimiter limiter = new AimdLimiter(4, 2, 6, Duration.ofSeconds(1), 0.5);
+
+    @Test
+    void tryAcquire_turnsAwayRequestsOverLimit() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.isSaturated()).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+    }
+
+    @Test
+    void release_raisesLimitWhileFastAndBusy() {
+        acquire(2);
+
+        limiter.release(FAST, false);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        // Only one of five in use
+        limiter.release(FAST, false);
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        acquire(5);
+        for (int i = 0; i < 5; i++) {
+            limiter.release(FAST, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(6);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void release_keepsLimitWhenLittleIsInUse() {
+        acquire(1);
+
+        limiter.release(FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void release_cutsLimitForSlowOrFailedRequests() {
+        acquire(3);
+
+        limiter.release(SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.release(FAST, true);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void release_withoutLatencyOnlyCountsFailures() {
+        acquire(4);
+
+        limiter.release(-1, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isEqualTo(3);
+    }
+
+    private void acquire(int requests) {
+        for (int i = 0; i < requests; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package uk.gov.hmcts.reform.dev.coalescing;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import uk.gov.hmcts.reform.dev.datasource.PrimaryReads;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.dev.coalescing.CaseBatchLoader.METRIC_NAME;
+
+class CaseBatchLoaderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CaseRepository caseRepository = mock(CaseRepository.class);
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final ExecutorService queryExecutor = mock(ExecutorService.class);
+    private final List<Runnable> flushes = new ArrayList<>();
+    private final List<Boolean> primaryReads = new ArrayList<>();
+
+    private CaseBatchLoader loader;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<CaseRepository> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(caseRepository);
+        doAnswer(invocation -> {
+            flushes.add(invocation.getArgument(0));
+            return null;
+        }).when(scheduler).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS));
+        // Queries run on the calling thread, so each test controls when a batch is sent
+        doAnswer(invocation -> {
+            Runnable query = invocation.getArgument(0);
+            query.run();
+            return null;
+        }).when(queryExecutor).execute(any(Runnable.class));
+        when(caseRepository.findAllById(any())).thenAnswer(invocation -> {
+            primaryReads.add(PrimaryReads.isRequired());
+            Iterable<Integer> ids = invocation.getArgument(0);
+            List<Case> found = new ArrayList<>();
+            // Even IDs exist
+            ids.forEach(id -> {
+                if (id % 2 == 0) {
+                    found.add(Case.builder().id(id).title("Case" + id).build());
+                }
+            });
+            return found;
+        });
+        loader = new CaseBatchLoader(provider, meterRegistry, Duration.ofMillis(2), 3, scheduler, queryExecutor);
+    }
+
+    @Test
+    void foldsLookupsInWindowIntoOneQuery() {
+        CompletableFuture<Case> first = loader.load(2);
+        CompletableFuture<Case> second = loader.load(4);
+        CompletableFuture<Case> again = loader.load(2);
+
+        assertThat(List.of(first, second, again)).noneMatch(CompletableFuture::isDone);
+        flushes.forEach(Runnable::run);
+
+        assertThat(first.join().getTitle()).isEqualTo("Case2");
+        assertThat(second.join().getTitle()).isEqualTo("Case4");
+        assertThat(again.join()).isSameAs(first.join());
+        verify(caseRepository).findAllById(Set.of(2, 4));
+        DistributionSummary batchSize = meterRegistry.get(METRIC_NAME).summary();
+        assertThat(batchSize.count()).isEqualTo(1);
+        assertThat(batchSize.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void missingCasesCompleteWithNull() {
+        CompletableFuture<Case> missing = loader.load(3);
+        flushes.forEach(Runnable::run);
+
+        assertThat(missing.join()).isNull();
+    }
+
+    @Test
+    void fullBatchIsSentWithoutWaitingForWindow() {
+        CompletableFuture<Case> first = loader.load(2);
+        loader.load(4);
+        loader.load(6);
+
+        assertThat(first).isDone();
+        assertThat(flushes).hasSize(1);
+        // The window closing afterwards does not send the batch again
+        flushes.forEach(Runnable::run);
+        verify(caseRepository).findAllById(Set.of(2, 4, 6));
+        assertThat(meterRegistry.get(METRIC_NAME).summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    void primaryReadsAreBatchedSeparately() {
+        CompletableFuture<Case> replica = loader.load(2);
+        CompletableFuture<Case> primary = loadFromPrimary(2);
+        flushes.forEach(Runnable::run);
+
+        assertThat(replica.join()).isNotSameAs(primary.join());
+        assertThat(primaryReads).containsExactlyInAnyOrder(false, true);
+        assertThat(PrimaryReads.isRequired()).isFalse();
+    }
+
+    @Test
+    void failureCompletesEveryLookupInBatch() {
+        doThrow(new IllegalStateException("database down")).when(caseRepository).findAllById(any());
+        CompletableFuture<Case> first = loader.load(2);
+        CompletableFuture<Case> second = loader.load(4);
+        flushes.forEach(Runnable::run);
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+    }
+
+    private CompletableFuture<Case> loadFromPrimary(int id) {
+        PrimaryReads.setRequired(true);
+        try {
+            return loader.load(id);
+        } finally {
+            PrimaryReads.setRequired(false);
+        }
+    }
+}
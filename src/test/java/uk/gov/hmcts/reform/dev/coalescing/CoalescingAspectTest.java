@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.dev.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.dev.coalescing.CoalescingAspect.METRIC_NAME;
+
+class CoalescingAspectTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private CaseRepository target;
+    private CaseBatchLoader batchLoader;
+    private CaseRepository caseRepository;
+
+    @BeforeEach
+    void setUp() {
+        target = mock(CaseRepository.class);
+        batchLoader = mock(CaseBatchLoader.class);
+        caseRepository = proxy(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalCallsShareOneQuery() throws Exception {
+        Case found = Case.builder().id(1).build();
+        when(target.findCaseById(1)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return found;
+        });
+
+        List<Future<Case>> results = callConcurrently(() -> caseRepository.findCaseById(1));
+        release.countDown();
+
+        for (Future<Case> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(found);
+        }
+        verify(target, times(1)).findCaseById(1);
+        assertThat(reads("findCaseById", "queried")).isEqualTo(1);
+        assertThat(reads("findCaseById", "shared")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void callsWithDifferentArgumentsAreNotShared() {
+        when(target.findByIdGreaterThanOrderByIdAsc(0, Limit.of(10)))
+            .thenReturn(List.of(new CaseSummary(1, 1, "Case1", null)));
+
+        caseRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(10));
+        caseRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(20));
+
+        verify(target).findByIdGreaterThanOrderByIdAsc(0, Limit.of(10));
+        verify(target).findByIdGreaterThanOrderByIdAsc(0, Limit.of(20));
+    }
+
+    @Test
+    void sequentialCallsEachQuery() {
+        caseRepository.findCaseById(1);
+        caseRepository.findCaseById(1);
+
+        verify(target, times(2)).findCaseById(1);
+        assertThat(reads("findCaseById", "shared")).isZero();
+    }
+
+    @Test
+    void failureIsPassedToEveryWaitingCaller() throws Exception {
+        when(target.findCaseById(1)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("database down");
+        });
+
+        List<Future<Case>> results = callConcurrently(() -> caseRepository.findCaseById(1));
+        release.countDown();
+
+        for (Future<Case> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        }
+        verify(target, times(1)).findCaseById(1);
+    }
+
+    @Test
+    void callsInsideTransactionAreNotCoalesced() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            caseRepository.findCaseById(1);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(target).findCaseById(1);
+        assertThat(meterRegistry.find(METRIC_NAME).meters()).isEmpty();
+    }
+
+    @Test
+    void methodsNotMarkedCoalescedAreNotCounted() {
+        caseRepository.count();
+
+        verify(target).count();
+        assertThat(meterRegistry.find(METRIC_NAME).meters()).isEmpty();
+    }
+
+    @Test
+    void lookupsByIdAreBatchedWhenEnabled() {
+        Case found = Case.builder().id(1).build();
+        when(batchLoader.load(1)).thenReturn(CompletableFuture.completedFuture(found));
+        caseRepository = proxy(batchLoader);
+
+        assertThat(caseRepository.findCaseById(1)).isSameAs(found);
+
+        verify(target, times(0)).findCaseById(1);
+        assertThat(reads("findCaseById", "batched")).isEqualTo(1);
+    }
+
+    @Test
+    void batchFailureIsRethrown() {
+        when(batchLoader.load(1)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")));
+        caseRepository = proxy(batchLoader);
+
+        assertThatThrownBy(() -> caseRepository.findCaseById(1)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private CaseRepository proxy(CaseBatchLoader loader) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new CoalescingAspect(meterRegistry, loader));
+        return proxyFactory.getProxy();
+    }
+
+    private <T> List<Future<T>> callConcurrently(Callable<T> call) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(CALLERS);
+        List<Future<T>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(callers.submit(() -> {
+                started.countDown();
+                return call.call();
+            }));
+        }
+        started.await(5, TimeUnit.SECONDS);
+        // Give every caller time to reach the aspect before the first query is allowed to return
+        Thread.sleep(200);
+        return results;
+    }
+
+    private double reads(String method, String result) {
+        Counter counter = meterRegistry.find(METRIC_NAME).tag("method", method).tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
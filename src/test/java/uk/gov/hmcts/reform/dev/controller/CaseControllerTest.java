@@ -1,56 +1,193 @@
 package uk.gov.hmcts.reform.dev.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.hmcts.reform.dev.controllers.CaseController;
 import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CasePage;
+import uk.gov.hmcts.reform.dev.model.CaseIngestResult;
+import uk.gov.hmcts.reform.dev.model.CaseLookup;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+import uk.gov.hmcts.reform.dev.repository.CaseEventRepository;
+import uk.gov.hmcts.reform.dev.repository.CaseFilter;
 import uk.gov.hmcts.reform.dev.repository.CaseRepository;
-
+import uk.gov.hmcts.reform.dev.service.CaseIngestService;
+import uk.gov.hmcts.reform.dev.service.CaseLookupService;
+import uk.gov.hmcts.reform.dev.service.CaseService;
+import uk.gov.hmcts.reform.dev.stats.CaseCounts;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.function.Consumer;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.dev.repository.CaseRepository.CASES_CACHE;
 
 class CaseControllerTest {
 
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private static final long COLLECTION_VERSION = 2;
+
     private CaseRepository caseRepository;
+    private CaseEventRepository caseEventRepository;
+    private CaseIngestService caseIngestService;
     private CaseController controller;
 
     @BeforeEach
     void setUp() {
         caseRepository = mock(CaseRepository.class);
-        controller = new CaseController(caseRepository);
+        caseIngestService = mock(CaseIngestService.class);
+        caseEventRepository = mock(CaseEventRepository.class);
+        controller = new CaseController(
+            caseRepository,
+            new CaseService(caseRepository, caseEventRepository, new CaseCounts()),
+            caseIngestService,
+            new CaseLookupService(caseRepository, new ConcurrentMapCacheManager(CASES_CACHE)),
+            new Jackson2ObjectMapperBuilder()
+        );
+        when(caseRepository.findCollectionVersion()).thenReturn(COLLECTION_VERSION);
+        when(caseRepository.save(any(Case.class))).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
-    void getAllCases_returnsCases() {
-        Case exampleCaseOne = Case.builder()
-            .id(1)
-            .title("Case1")
-            .build();
-        Case exampleCaseTwo = Case.builder()
-            .id(2)
-            .title("Case2")
-            .build();
+    @SuppressWarnings("unchecked")
+    void getAllCases_streamsCases() throws Exception {
+        CaseSummary exampleCaseOne = new CaseSummary(1, 0, "Case1", null);
+        CaseSummary exampleCaseTwo = new CaseSummary(2, 0, "Case2", null);
+
+        doAnswer(invocation -> {
+            Consumer<CaseSummary> action = invocation.getArgument(1);
+            action.accept(exampleCaseOne);
+            action.accept(exampleCaseTwo);
+            return null;
+        }).when(caseRepository).forEachCaseSummary(eq(CaseFilter.afterId(0)), any(Consumer.class));
+
+        CaseSummary[] streamed = objectMapper.readValue(
+            stream(controller.getAllCases(0, null, webRequest())), CaseSummary[].class
+        );
+
+        assertThat(streamed).containsExactly(exampleCaseOne, exampleCaseTwo);
+    }
 
-        when(caseRepository.findAllByOrderByIdAsc()).thenReturn(Arrays.asList(exampleCaseOne, exampleCaseTwo));
-        ResponseEntity<Iterable<Case>> response = controller.getAllCases();
-        assertThat(response.getBody()).containsExactly(exampleCaseOne, exampleCaseTwo);
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllCases_acceptingBinaryFormats_streamsThePreferredOne() throws Exception {
+        CaseSummary exampleCase = new CaseSummary(1, 0, "Case1", null);
+        doAnswer(invocation -> {
+            Consumer<CaseSummary> action = invocation.getArgument(1);
+            action.accept(exampleCase);
+            return null;
+        }).when(caseRepository).forEachCaseSummary(eq(CaseFilter.afterId(0)), any(Consumer.class));
+
+        ResponseEntity<StreamingResponseBody> cbor = controller.getAllCases(
+            0, null, webRequest(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor")
+        );
+        ResponseEntity<StreamingResponseBody> smile = controller.getAllCases(
+            0, null, webRequest(HttpHeaders.ACCEPT, "application/x-jackson-smile")
+        );
+
+        assertThat(cbor.getHeaders().getContentType()).hasToString("application/cbor");
+        assertThat(cbor.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+        assertThat(Jackson2ObjectMapperBuilder.cbor().build().readValue(bytes(cbor), CaseSummary[].class))
+            .containsExactly(exampleCase);
+        assertThat(smile.getHeaders().getContentType()).hasToString("application/x-jackson-smile");
+        assertThat(Jackson2ObjectMapperBuilder.smile().build().readValue(bytes(smile), CaseSummary[].class))
+            .containsExactly(exampleCase);
+        assertThat(controller.getAllCases(0, null, webRequest(HttpHeaders.ACCEPT, "*/*")).getHeaders()
+            .getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
     }
 
     @Test
-    void getAllCases_noCases() {
-        when(caseRepository.findAll()).thenReturn(emptyList());
-        ResponseEntity<Iterable<Case>> response = controller.getAllCases();
-        assertThat(response.getBody()).isNull();
+    void getAllCases_noCases() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = controller.getAllCases(0, null, webRequest());
 
+        assertThat(stream(response)).isEqualTo("[]");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllCases_withFields_writesOnlyThoseFields() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<CaseSummary> action = invocation.getArgument(1);
+            action.accept(new CaseSummary(1, 1234, "Case1", null));
+            return null;
+        }).when(caseRepository).forEachCaseSummary(eq(CaseFilter.afterId(0)), any(Consumer.class));
+
+        assertThat(stream(controller.getAllCases(0, "id, title", webRequest())))
+            .isEqualTo("[{\"id\":1,\"title\":\"Case1\"}]");
+    }
+
+    @Test
+    void listEndpoints_invalidFields_returnBadRequest() {
+        assertThat(controller.getAllCases(0, "description", webRequest()).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(controller.getCasePage(0, 10, "", webRequest()).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(controller.searchCases(null, null, 0, 10, "id,unknown", webRequest()).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void getCasePage_returnsCursorWhenMoreCasesExist() {
+        CaseSummary exampleCaseOne = new CaseSummary(3, 0, "Case3", null);
+        CaseSummary exampleCaseTwo = new CaseSummary(4, 0, "Case4", null);
+
+        when(caseRepository.findByIdGreaterThanOrderByIdAsc(2, Limit.of(2)))
+            .thenReturn(Arrays.asList(exampleCaseOne, exampleCaseTwo));
+
+        ResponseEntity<CasePage> response = controller.getCasePage(2, 1, null, webRequest());
+
+        assertThat(response.getBody().cases()).containsExactly(exampleCaseOne);
+        assertThat(response.getBody().nextCursor()).isEqualTo(3);
+    }
+
+    @Test
+    void getCasePage_lastPageHasNoCursor() {
+        CaseSummary exampleCaseOne = new CaseSummary(3, 0, "Case3", null);
+
+        when(caseRepository.findByIdGreaterThanOrderByIdAsc(2, Limit.of(11)))
+            .thenReturn(Collections.singletonList(exampleCaseOne));
+
+        ResponseEntity<CasePage> response = controller.getCasePage(2, 10, null, webRequest());
+
+        assertThat(response.getBody().cases()).containsExactly(exampleCaseOne);
+        assertThat(response.getBody().nextCursor()).isNull();
+    }
+
+    @Test
+    void getCasePage_invalidLimit_returnsBadRequest() {
+        assertThat(controller.getCasePage(0, 0, null, webRequest()).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(controller.getCasePage(0, 1001, null, webRequest()).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
     @Test
@@ -75,6 +212,50 @@ class CaseControllerTest {
         assertThat(response.getBody()).isNull();
     }
 
+    @Test
+    void addCase_defaultsCreatedDate() {
+        Case caseOne = Case.builder()
+            .title("Case1")
+            .caseNumber(12345)
+            .build();
+
+        controller.addCase(caseOne);
+
+        assertThat(caseOne.getCreatedDate()).isNotNull();
+    }
+
+    @Test
+    void addCases_returnsIngestResults() throws Exception {
+        InputStream body = new ByteArrayInputStream("[]".getBytes());
+        List<CaseIngestResult> results = List.of(CaseIngestResult.created(0, 1));
+        when(caseIngestService.ingest(body)).thenReturn(results);
+
+        ResponseEntity<List<CaseIngestResult>> response = controller.addCases(body);
+
+        assertThat(response.getBody()).isEqualTo(results);
+    }
+
+    @Test
+    void getCases_returnsEachIdInRequestOrder() {
+        Case caseTwo = Case.builder().id(2).title("Case2").build();
+        when(caseRepository.findCasesById(List.of(2, 9))).thenReturn(Arrays.asList(caseTwo, null));
+
+        ResponseEntity<List<CaseLookup>> response = controller.getCases(List.of(2, 9, 2));
+
+        assertThat(response.getBody()).containsExactly(
+            CaseLookup.found(caseTwo), CaseLookup.notFound(9), CaseLookup.found(caseTwo)
+        );
+    }
+
+    @Test
+    void getCases_tooManyOrNullIds_returnsBadRequest() {
+        List<Integer> tooMany = Collections.nCopies(5001, 1);
+
+        assertThat(controller.getCases(tooMany).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(controller.getCases(Arrays.asList(1, null)).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(caseRepository, never()).findCasesById(any());
+    }
+
     @Test
     void getCaseById_returnsCase() {
         Case exampleCaseOne = Case.builder()
@@ -83,95 +264,251 @@ class CaseControllerTest {
             .build();
         when(caseRepository.findCaseById(1)).thenReturn(exampleCaseOne);
 
-        ResponseEntity<Case> response = controller.getCaseById(1);
+        ResponseEntity<Case> response = controller.getCaseById(1, webRequest());
+
+        assertThat(response.getBody()).isEqualTo(exampleCaseOne);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"0\"");
+    }
+
+    @Test
+    void getCaseById_currentETag_returnsNotModifiedWithoutReadingCase() {
+        when(caseRepository.findVersionById(1)).thenReturn(3L);
+
+        ResponseEntity<Case> response = controller.getCaseById(1, webRequest(HttpHeaders.IF_NONE_MATCH, "\"3\""));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verify(caseRepository, never()).findCaseById(1);
+    }
+
+    @Test
+    void getCaseById_staleETag_returnsCase() {
+        Case exampleCaseOne = Case.builder().id(1).title("Case1").version(4).build();
+        when(caseRepository.findVersionById(1)).thenReturn(4L);
+        when(caseRepository.findCaseById(1)).thenReturn(exampleCaseOne);
+
+        ResponseEntity<Case> response = controller.getCaseById(1, webRequest(HttpHeaders.IF_NONE_MATCH, "\"3\""));
 
         assertThat(response.getBody()).isEqualTo(exampleCaseOne);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"4\"");
+    }
+
+    @Test
+    void getCaseById_binaryFormat_tagsEachFormatApart() {
+        Case exampleCaseOne = Case.builder().id(1).title("Case1").version(4).build();
+        when(caseRepository.findVersionById(1)).thenReturn(4L);
+        when(caseRepository.findCaseById(1)).thenReturn(exampleCaseOne);
+
+        ResponseEntity<Case> response = controller.getCaseById(
+            1, webRequest(HttpHeaders.ACCEPT, "application/cbor", HttpHeaders.IF_NONE_MATCH, "\"4\"")
+        );
+
+        assertThat(response.getBody()).isEqualTo(exampleCaseOne);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"4-cbor\"");
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+        assertThat(controller.getCaseById(
+            1, webRequest(HttpHeaders.ACCEPT, "application/cbor", HttpHeaders.IF_NONE_MATCH, "\"4-cbor\"")
+        ).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void listEndpoints_currentCollectionETag_returnNotModified() {
+        ServletWebRequest first = webRequest();
+        controller.getCasePage(0, 10, null, first);
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(etag).startsWith("W/");
+        assertThat(controller.getAllCases(0, null, webRequest(HttpHeaders.IF_NONE_MATCH, etag)).getStatusCode())
+            .isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(controller.getCasePage(0, 10, null, webRequest(HttpHeaders.IF_NONE_MATCH, etag)).getStatusCode())
+            .isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(controller.searchCases(1, null, 0, 10, null, webRequest(HttpHeaders.IF_NONE_MATCH, etag))
+                       .getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verify(caseRepository, times(1)).findByIdGreaterThanOrderByIdAsc(eq(0), any(Limit.class));
+    }
+
+    @Test
+    void listEndpoints_collectionChanged_returnCases() {
+        ServletWebRequest first = webRequest();
+        controller.getCasePage(0, 10, null, first);
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        when(caseRepository.findCollectionVersion()).thenReturn(COLLECTION_VERSION + 1);
+
+        assertThat(controller.getCasePage(0, 10, null, webRequest(HttpHeaders.IF_NONE_MATCH, etag)).getStatusCode())
+            .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void listEndpoints_noCollectionVersion_returnCasesUntagged() {
+        when(caseRepository.findCollectionVersion()).thenReturn(null);
+        ServletWebRequest request = webRequest(HttpHeaders.IF_NONE_MATCH, "W/\"cases-2\"");
+
+        assertThat(controller.getCasePage(0, 10, null, request).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(request.getResponse().getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    void updateCase_matchingIfMatch_updatesCase() {
+        Case changes = Case.builder().caseNumber(7).title("Updated").build();
+        Case updated = Case.builder().id(1).caseNumber(7).title("Updated").version(4).build();
+        when(caseRepository.updateCase(1, 3, 7, "Updated", null)).thenReturn(1);
+        when(caseRepository.findCaseById(1)).thenReturn(updated);
+
+        ResponseEntity<Case> response = controller.updateCase(1, changes, webRequest(HttpHeaders.IF_MATCH, "\"3\""));
+
+        assertThat(response.getBody()).isEqualTo(updated);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"4\"");
+    }
+
+    @Test
+    void updateCase_ifMatchFromBinaryFormat_updatesCase() {
+        Case changes = Case.builder().caseNumber(7).title("Updated").build();
+        when(caseRepository.updateCase(1, 3, 7, "Updated", null)).thenReturn(1);
+        when(caseRepository.findCaseById(1)).thenReturn(Case.builder().id(1).version(4).build());
+
+        ResponseEntity<Case> response = controller.updateCase(
+            1, changes, webRequest(HttpHeaders.IF_MATCH, "\"3-smile\"")
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void updateCase_staleIfMatch_returnsPreconditionFailed() {
+        Case changes = Case.builder().caseNumber(7).title("Updated").build();
+        when(caseRepository.findVersionById(1)).thenReturn(4L);
+
+        ResponseEntity<Case> response = controller.updateCase(1, changes, webRequest(HttpHeaders.IF_MATCH, "\"3\""));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @Test
+    void updateCase_staleBodyVersion_returnsConflict() {
+        Case changes = Case.builder().caseNumber(7).title("Updated").version(3).build();
+        when(caseRepository.findVersionById(1)).thenReturn(4L);
+
+        ResponseEntity<Case> response = controller.updateCase(1, changes, webRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        verify(caseRepository).updateCase(1, 3, 7, "Updated", null);
+    }
+
+    @Test
+    void updateCase_missingCase_returnsNotFound() {
+        Case changes = Case.builder().caseNumber(7).title("Updated").build();
+        when(caseRepository.findVersionById(1)).thenReturn(null);
+
+        assertThat(controller.updateCase(1, changes, webRequest(HttpHeaders.IF_MATCH, "*")).getStatusCode())
+            .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(controller.updateCase(1, changes, webRequest()).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void updateCase_invalidCase_returnsBadRequest() {
+        Case changes = Case.builder().caseNumber(7).build();
+
+        assertThat(controller.updateCase(1, changes, webRequest()).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(caseRepository, never()).updateCase(anyInt(), anyLong(), anyInt(), any(), any());
     }
 
     @Test
     void deleteCaseById_deletesCase() {
         ResponseEntity<Case> response = controller.deleteCaseById(1);
 
-        verify(caseRepository).deleteById(1);
+        verify(caseRepository).deleteCaseById(1);
         assertThat(response.getBody()).isNull();
     }
 
     @Test
     void searchCases_withCaseNumberAndTitle_returnsFilteredCases() {
-        Case exampleCaseOne = Case.builder()
-            .id(1)
-            .title("Case1")
-            .caseNumber(12345)
-            .build();
+        CaseSummary exampleCaseOne = new CaseSummary(1, 12345, "Case1", null);
 
-        when(caseRepository.findCasesByCaseNumberAndTitleContainingIgnoreCase(12345, "Case1"))
+        when(caseRepository.searchByCaseNumberAndTitle(12345, "Case1", PageRequest.of(0, 100)))
             .thenReturn(Collections.singletonList(exampleCaseOne));
 
-        ResponseEntity<Iterable<Case>> response = controller.searchCases(12345, "Case1");
+        ResponseEntity<Iterable<CaseSummary>> response =
+            controller.searchCases(12345, "Case1", 0, 100, null, webRequest());
 
         assertThat(response.getBody()).containsExactly(exampleCaseOne);
     }
 
     @Test
     void searchCases_withOnlyCaseNumber_returnsFilteredCases() {
-        Case exampleCaseOne = Case.builder()
-            .id(1)
-            .title("Case1")
-            .caseNumber(12345)
-            .build();
+        CaseSummary exampleCaseOne = new CaseSummary(1, 12345, "Case1", null);
 
-        when(caseRepository.findCasesByCaseNumber(12345))
+        when(caseRepository.findCasesByCaseNumberOrderByIdAsc(12345, PageRequest.of(0, 100)))
             .thenReturn(Collections.singletonList(exampleCaseOne));
 
-        ResponseEntity<Iterable<Case>> response = controller.searchCases(12345, null);
+        ResponseEntity<Iterable<CaseSummary>> response =
+            controller.searchCases(12345, null, 0, 100, null, webRequest());
 
         assertThat(response.getBody()).containsExactly(exampleCaseOne);
     }
 
     @Test
     void searchCases_withOnlyTitle_returnsFilteredCases() {
-        Case exampleCaseOne = Case.builder()
-            .id(1)
-            .title("Case1")
-            .caseNumber(12345)
-            .build();
+        CaseSummary exampleCaseOne = new CaseSummary(1, 12345, "Case1", null);
 
-        when(caseRepository.findCasesByTitleContainingIgnoreCase("Case1"))
+        when(caseRepository.searchByTitle("Case1", PageRequest.of(2, 10)))
             .thenReturn(Collections.singletonList(exampleCaseOne));
 
-        ResponseEntity<Iterable<Case>> response = controller.searchCases(null, "Case1");
+        ResponseEntity<Iterable<CaseSummary>> response =
+            controller.searchCases(null, "Case1", 2, 10, null, webRequest());
 
         assertThat(response.getBody()).containsExactly(exampleCaseOne);
     }
 
     @Test
     void searchCases_noSearchCriteria_returnsAllCases() {
-        Case exampleCaseOne = Case.builder()
-            .id(1)
-            .title("Case1")
-            .caseNumber(12345)
-            .build();
-        Case exampleCaseTwo = Case.builder()
-            .id(2)
-            .title("Case2")
-            .caseNumber(67890)
-            .build();
+        CaseSummary exampleCaseOne = new CaseSummary(1, 12345, "Case1", null);
+        CaseSummary exampleCaseTwo = new CaseSummary(2, 67890, "Case2", null);
 
-        when(caseRepository.findAllByOrderByIdAsc()).thenReturn(Arrays.asList(exampleCaseOne, exampleCaseTwo));
+        when(caseRepository.findAllByOrderByIdAsc(PageRequest.of(0, 100)))
+            .thenReturn(Arrays.asList(exampleCaseOne, exampleCaseTwo));
 
-        ResponseEntity<Iterable<Case>> response = controller.searchCases(null, null);
+        ResponseEntity<Iterable<CaseSummary>> response =
+            controller.searchCases(null, null, 0, 100, null, webRequest());
 
         assertThat(response.getBody()).containsExactly(exampleCaseOne, exampleCaseTwo);
     }
 
     @Test
     void searchCases_noResults_returnsEmptyList() {
-        when(caseRepository.findCasesByCaseNumberAndTitleContainingIgnoreCase(12345, "NonExistent"))
+        when(caseRepository.searchByCaseNumberAndTitle(12345, "NonExistent", PageRequest.of(0, 100)))
             .thenReturn(emptyList());
 
-        ResponseEntity<Iterable<Case>> response = controller.searchCases(12345, "NonExistent");
+        ResponseEntity<Iterable<CaseSummary>> response =
+            controller.searchCases(12345, "NonExistent", 0, 100, null, webRequest());
 
         assertThat(response.getBody()).isEmpty();
     }
 
+    @Test
+    void searchCases_pageOutOfRange_returnsBadRequest() {
+        assertThat(controller.searchCases(null, "Case1", -1, 100, null, webRequest()).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(controller.searchCases(null, "Case1", 0, 1001, null, webRequest()).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private static ServletWebRequest webRequest(String... headers) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/case");
+        for (int i = 0; i < headers.length; i += 2) {
+            request.addHeader(headers[i], headers[i + 1]);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    private static byte[] bytes(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toByteArray();
+    }
+
+    private String stream(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString();
+    }
+
 }
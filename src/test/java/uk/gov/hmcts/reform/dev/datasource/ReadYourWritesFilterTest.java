@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.dev.datasource.ReadYourWritesFilter.COOKIE;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final AtomicBoolean primaryRequired = new AtomicBoolean();
+    private final FilterChain chain = (request, response) -> primaryRequired.set(PrimaryReads.isRequired());
+
+    @Test
+    void writeSetsCookieAndReadsFromPrimary() throws Exception {
+        final long before = System.currentTimeMillis();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/case/addCase"), response, chain);
+
+        assertThat(primaryRequired).isTrue();
+        Cookie cookie = response.getCookie(COOKIE);
+        assertThat(cookie).isNotNull();
+        assertThat(Long.parseLong(cookie.getValue())).isGreaterThanOrEqualTo(before + 5000);
+        assertThat(PrimaryReads.isRequired()).isFalse();
+    }
+
+    @Test
+    void readWithUnexpiredCookieReadsFromPrimary() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/case/1");
+        request.setCookies(new Cookie(COOKIE, String.valueOf(System.currentTimeMillis() + 5000)));
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(primaryRequired).isTrue();
+        assertThat(response.getCookie(COOKIE)).isNull();
+    }
+
+    @Test
+    void readWithExpiredCookieMayUseReplica() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/case/1");
+        request.setCookies(new Cookie(COOKIE, String.valueOf(System.currentTimeMillis() - 1)));
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(primaryRequired).isFalse();
+    }
+
+    @Test
+    void readWithoutCookieMayUseReplica() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/case/1"), response, chain);
+
+        assertThat(primaryRequired).isFalse();
+    }
+}
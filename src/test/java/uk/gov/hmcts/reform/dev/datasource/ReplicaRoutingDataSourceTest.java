@@ -0,0 +1,103 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.datasource.ReplicaProperties.Selection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+
+    private Replica first;
+    private Replica second;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        first = new Replica("replica-1", mock(DataSource.class));
+        second = new Replica("replica-2", mock(DataSource.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        PrimaryReads.setRequired(false);
+    }
+
+    @Test
+    void roundRobinAlternatesBetweenHealthyReplicas() {
+        first.setHealthy(true);
+        second.setHealthy(true);
+        ReplicaRoutingDataSource routing = routing(Selection.ROUND_ROBIN);
+
+        assertThat(List.of(routing.select(), routing.select(), routing.select()))
+            .containsExactly(first, second, first);
+    }
+
+    @Test
+    void skipsUnhealthyReplicas() {
+        second.setHealthy(true);
+        ReplicaRoutingDataSource routing = routing(Selection.ROUND_ROBIN);
+
+        assertThat(List.of(routing.select(), routing.select())).containsExactly(second, second);
+    }
+
+    @Test
+    void readsFromPrimaryWhenNoReplicaIsHealthy() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(Selection.ROUND_ROBIN);
+
+        assertThat(routing.select()).isNull();
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void readsFromPrimaryWhenClientMustReadItsOwnWrites() throws SQLException {
+        first.setHealthy(true);
+        PrimaryReads.setRequired(true);
+
+        assertThat(routing(Selection.ROUND_ROBIN).getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void fallsBackToPrimaryAndTakesReplicaOutWhenItRefusesConnections() throws SQLException {
+        first.setHealthy(true);
+        when(first.dataSource().getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        assertThat(routing(Selection.ROUND_ROBIN).getConnection()).isSameAs(primaryConnection);
+        assertThat(first.isHealthy()).isFalse();
+    }
+
+    @Test
+    void healthCheckTakesUnreachableReplicaOut() throws SQLException {
+        first.setHealthy(true);
+        when(first.dataSource().getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        routing(Selection.ROUND_ROBIN).checkReplicas();
+
+        assertThat(first.isHealthy()).isFalse();
+    }
+
+    @Test
+    void leastLoadedUsesFirstReplicaWhenLoadIsEqual() {
+        first.setHealthy(true);
+        second.setHealthy(true);
+        ReplicaRoutingDataSource routing = routing(Selection.LEAST_LOADED);
+
+        assertThat(List.of(routing.select(), routing.select())).containsExactly(first, first);
+    }
+
+    private ReplicaRoutingDataSource routing(Selection selection) {
+        return new ReplicaRoutingDataSource(primary, List.of(first, second), selection, Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.dev.export;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseFilter;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class CaseExporterTest {
+
+    private static final CaseFilter FILTER = new CaseFilter(0, 12345, null, null);
+
+    private CaseExporter exporter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        CaseRepository caseRepository = mock(CaseRepository.class);
+        // Configured like Spring Boot's ObjectMapper
+        exporter = new CaseExporter(
+            caseRepository,
+            JsonMapper.builder().findAndAddModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build()
+        );
+
+        Case exampleCaseOne = Case.builder()
+            .id(1)
+            .caseNumber(12345)
+            .title("Plain title")
+            .createdDate(LocalDateTime.of(2025, 5, 30, 9, 15, 0))
+            .build();
+        Case exampleCaseTwo = Case.builder()
+            .id(2)
+            .caseNumber(12345)
+            .title("Smith, \"J\"")
+            .description("Line one\nLine two")
+            .build();
+        doAnswer(invocation -> {
+            Consumer<Case> action = invocation.getArgument(1);
+            action.accept(exampleCaseOne);
+            action.accept(exampleCaseTwo);
+            return null;
+        }).when(caseRepository).forEachCase(eq(FILTER), any(Consumer.class));
+    }
+
+    @Test
+    void export_ndjson_writesOneCasePerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exporter.export(FILTER, CaseExportFormat.NDJSON, false, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "{\"id\":1,\"caseNumber\":12345,\"title\":\"Plain title\",\"description\":null,"
+                + "\"createdDate\":\"2025-05-30T09:15:00\",\"version\":0,\"updatedDate\":null}\n"
+                + "{\"id\":2,\"caseNumber\":12345,\"title\":\"Smith, \\\"J\\\"\","
+                + "\"description\":\"Line one\\nLine two\",\"createdDate\":null,\"version\":0,\"updatedDate\":null}\n"
+        );
+    }
+
+    @Test
+    void export_csv_quotesFieldsThatNeedIt() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exporter.export(FILTER, CaseExportFormat.CSV, false, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+            CaseExporter.CSV_HEADER
+                + "1,12345,Plain title,,2025-05-30T09:15:00\r\n"
+                + "2,12345,\"Smith, \"\"J\"\"\",\"Line one\nLine two\",\r\n"
+        );
+    }
+
+    @Test
+    void export_gzip_compressesOutput() throws Exception {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+
+        exporter.export(FILTER, CaseExportFormat.CSV, false, plain);
+        exporter.export(FILTER, CaseExportFormat.CSV, true, gzipped);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.toByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.toByteArray());
+        }
+    }
+
+    @Test
+    void fromExtension_ignoresCaseAndRejectsUnknownFormats() {
+        assertThat(CaseExportFormat.fromExtension("CSV")).contains(CaseExportFormat.CSV);
+        assertThat(CaseExportFormat.fromExtension("xml")).isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.dev.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaseJsonModuleTest {
+
+    private static final List<Case> CASES = List.of(
+        new Case(1, 1234, "Case1", "A \"quoted\" description\n", LocalDateTime.of(2026, 10, 17, 9, 30), 3,
+                 LocalDateTime.of(2026, 10, 17, 9, 30, 15, 120_000_000)),
+        new Case(2, 0, "Ünïcode ✓", null, LocalDateTime.of(1999, 1, 1, 0, 0, 0, 1), 0, null),
+        new Case()
+    );
+
+    private static final List<CaseSummary> SUMMARIES = List.of(
+        new CaseSummary(1, 1234, "Case1", LocalDateTime.of(2026, 10, 17, 9, 30, 5)),
+        new CaseSummary(2, 0, null, null)
+    );
+
+    // As Spring Boot and JacksonConfiguration set it up, without the module
+    private final ObjectMapper reflective = new Jackson2ObjectMapperBuilder()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+        .build();
+
+    private final ObjectMapper handWritten = reflective.copy().registerModule(new CaseJsonModule());
+
+    @Test
+    void writesCasesAsTheBeanSerializerDoes() throws Exception {
+        assertThat(handWritten.writeValueAsString(CASES)).isEqualTo(reflective.writeValueAsString(CASES));
+    }
+
+    @Test
+    void writesSummariesAsTheBeanSerializerDoes() throws Exception {
+        assertThat(handWritten.writeValueAsString(SUMMARIES)).isEqualTo(reflective.writeValueAsString(SUMMARIES));
+    }
+
+    @Test
+    void writesOnlyTheFieldsOfTheSummaryFilter() throws Exception {
+        SimpleFilterProvider filters = new SimpleFilterProvider()
+            .addFilter(CaseSummary.FIELDS_FILTER, new CaseSummaryFieldFilter(Set.of("createdDate", "id")));
+
+        String written = handWritten.writer(filters).writeValueAsString(SUMMARIES);
+
+        assertThat(written).isEqualTo(reflective.writer(filters).writeValueAsString(SUMMARIES))
+            .isEqualTo("[{\"id\":1,\"createdDate\":\"2026-10-17T09:30:05\"},{\"id\":2,\"createdDate\":null}]");
+    }
+
+    @Test
+    void writesDatesAsTimestampsWhenTheMapperDoes() throws Exception {
+        ObjectMapper timestamps = reflective.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        assertThat(timestamps.copy().registerModule(new CaseJsonModule()).writeValueAsString(CASES))
+            .isEqualTo(timestamps.writeValueAsString(CASES));
+    }
+
+    @Test
+    void roundTripsThroughBinaryFormats() throws Exception {
+        for (Jackson2ObjectMapperBuilder builder : List.of(Jackson2ObjectMapperBuilder.cbor(),
+                                                           Jackson2ObjectMapperBuilder.smile())) {
+            ObjectMapper binary = builder.modulesToInstall(new CaseJsonModule()).build();
+            byte[] written = binary.writeValueAsBytes(CASES);
+
+            assertThat(Arrays.asList(binary.readValue(written, Case[].class))).isEqualTo(CASES);
+            assertThat(Arrays.asList(binary.readValue(binary.writeValueAsBytes(SUMMARIES), CaseSummary[].class)))
+                .isEqualTo(SUMMARIES);
+        }
+    }
+}
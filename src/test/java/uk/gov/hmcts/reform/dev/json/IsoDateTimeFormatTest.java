@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IsoDateTimeFormatTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    void formatsAsIsoLocalDateTime() throws IOException {
+        List<LocalDateTime> values = List.of(
+            LocalDateTime.of(2026, 10, 17, 0, 0),
+            LocalDateTime.of(2026, 10, 17, 9, 30, 5),
+            LocalDateTime.of(2026, 12, 31, 23, 59, 59, 999_999_999),
+            LocalDateTime.of(2026, 1, 1, 1, 1, 1, 100_000_000),
+            LocalDateTime.of(2026, 1, 1, 1, 1, 1, 120_000),
+            LocalDateTime.of(2026, 1, 1, 1, 1, 1, 1),
+            LocalDateTime.of(1, 2, 3, 4, 5, 6),
+            LocalDateTime.of(9999, 12, 31, 23, 59),
+            LocalDateTime.of(10_000, 1, 1, 0, 0),
+            LocalDateTime.of(-1, 1, 1, 0, 0, 0, 500)
+        );
+
+        for (LocalDateTime value : values) {
+            assertThat(write(value)).isEqualTo(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+    }
+
+    @Test
+    void formatsDaysThatShareACacheSlot() throws IOException {
+        LocalDateTime value = LocalDateTime.of(2026, 10, 17, 9, 30);
+
+        // 1024 days apart, so each evicts the other's cached date
+        for (int i = 0; i < 3; i++) {
+            assertThat(write(value)).isEqualTo("2026-10-17T09:30:00");
+            assertThat(write(value.plusDays(1024))).isEqualTo("2029-08-06T09:30:00");
+        }
+    }
+
+    @Test
+    void formatsRandomDateTimes() throws IOException {
+        Random random = new Random(17);
+        LocalDateTime start = LocalDateTime.of(1990, 1, 1, 0, 0);
+
+        for (int i = 0; i < 10_000; i++) {
+            LocalDateTime value = start.plusSeconds(random.nextInt(Integer.MAX_VALUE))
+                .withNano(random.nextBoolean() ? 0 : random.nextInt(1_000_000_000) / 1000 * 1000);
+            assertThat(write(value)).isEqualTo(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+    }
+
+    private String write(LocalDateTime value) throws IOException {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(json)) {
+            IsoDateTimeFormat.write(value, generator);
+        }
+        return json.toString().substring(1, json.toString().length() - 1);
+    }
+}
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.dev.metrics;
+
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.dev.metrics.CaseSearchObservationConvention.NO_SEARCH;
+import static uk.gov.hmcts.reform.dev.metrics.CaseSearchObservationConvention.SEARCH_TAG;
+
+class CaseSearchObservationConventionTest {
+
+    private final CaseSearchObservationConvention convention = new CaseSearchObservationConvention();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/case/searchCases");
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void tagsRecordedSearch() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        CaseSearchObservationConvention.recordSearch("title");
+
+        assertThat(searchTag()).isEqualTo(KeyValue.of(SEARCH_TAG, "title"));
+    }
+
+    @Test
+    void tagsNoSearchWhenNoneRecorded() {
+        assertThat(searchTag()).isEqualTo(KeyValue.of(SEARCH_TAG, NO_SEARCH));
+    }
+
+    @Test
+    void recordSearchOutsideRequestDoesNothing() {
+        CaseSearchObservationConvention.recordSearch("title");
+
+        assertThat(searchTag()).isEqualTo(KeyValue.of(SEARCH_TAG, NO_SEARCH));
+    }
+
+    private KeyValue searchTag() {
+        ServerRequestObservationContext context =
+            new ServerRequestObservationContext(request, new MockHttpServletResponse());
+        return convention.getLowCardinalityKeyValues(context).stream()
+            .filter(keyValue -> SEARCH_TAG.equals(keyValue.getKey()))
+            .findFirst()
+            .orElseThrow();
+    }
+}
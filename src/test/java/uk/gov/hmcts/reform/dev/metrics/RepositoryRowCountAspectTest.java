@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.dev.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseSummary;
+import uk.gov.hmcts.reform.dev.repository.CaseFilter;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.dev.metrics.RepositoryRowCountAspect.METRIC_NAME;
+
+class RepositoryRowCountAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CaseRepository target;
+    private CaseRepository caseRepository;
+
+    @BeforeEach
+    void setUp() {
+        target = mock(CaseRepository.class);
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new RepositoryRowCountAspect(meterRegistry));
+        caseRepository = proxyFactory.getProxy();
+    }
+
+    @Test
+    void recordsRowsReturnedAsList() {
+        when(target.findByIdGreaterThanOrderByIdAsc(0, Limit.of(10)))
+            .thenReturn(List.of(new CaseSummary(1, 1, "Case1", null), new CaseSummary(2, 1, "Case2", null)));
+
+        caseRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(10));
+
+        DistributionSummary rows = rows("findByIdGreaterThanOrderByIdAsc");
+        assertThat(rows.count()).isEqualTo(1);
+        assertThat(rows.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void recordsMissingCaseAsNoRows() {
+        caseRepository.findCaseById(1);
+
+        DistributionSummary rows = rows("findCaseById");
+        assertThat(rows.count()).isEqualTo(1);
+        assertThat(rows.totalAmount()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordsRowsStreamedToConsumer() {
+        doAnswer(invocation -> {
+            Consumer<Case> action = invocation.getArgument(1);
+            action.accept(Case.builder().id(1).build());
+            action.accept(Case.builder().id(2).build());
+            action.accept(Case.builder().id(3).build());
+            return null;
+        }).when(target).forEachCase(eq(CaseFilter.afterId(0)), any(Consumer.class));
+        List<Case> received = new ArrayList<>();
+
+        caseRepository.forEachCase(CaseFilter.afterId(0), received::add);
+
+        assertThat(received).hasSize(3);
+        assertThat(rows("forEachCase").totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void ignoresMethodsThatDoNotReturnRows() {
+        caseRepository.deleteById(1);
+        caseRepository.count();
+
+        assertThat(meterRegistry.find(METRIC_NAME).meters()).isEmpty();
+    }
+
+    @Test
+    void tagsSummaryByMethod() {
+        when(target.findCasesByCaseNumberOrderByIdAsc(1, PageRequest.of(0, 10))).thenReturn(List.of());
+
+        caseRepository.findCasesByCaseNumberOrderByIdAsc(1, PageRequest.of(0, 10));
+
+        assertThat(rows("findCasesByCaseNumberOrderByIdAsc").getId().getTag("repository"))
+            .isEqualTo("CaseRepository");
+    }
+
+    private DistributionSummary rows(String method) {
+        return meterRegistry.get(METRIC_NAME).tag("method", method).summary();
+    }
+}
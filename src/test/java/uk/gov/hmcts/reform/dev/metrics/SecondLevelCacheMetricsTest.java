@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.dev.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SecondLevelCacheMetricsTest {
+
+    @Test
+    void countsEachRegion_andUnusedQueryRegionsAsZero() {
+        Statistics statistics = mock(Statistics.class);
+        CacheRegionStatistics caseRegion = mock(CacheRegionStatistics.class);
+        when(caseRegion.getHitCount()).thenReturn(5L);
+        when(caseRegion.getMissCount()).thenReturn(2L);
+        when(caseRegion.getPutCount()).thenReturn(3L);
+        when(statistics.getCacheRegionStatistics(Case.CACHE_REGION)).thenReturn(caseRegion);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new SecondLevelCacheMetrics(entityManagerFactory).bindTo(registry);
+
+        assertThat(registry.get(SecondLevelCacheMetrics.REQUESTS).tags("region", Case.CACHE_REGION, "result", "hit")
+                       .functionCounter().count()).isEqualTo(5);
+        assertThat(registry.get(SecondLevelCacheMetrics.REQUESTS).tags("region", Case.CACHE_REGION, "result", "miss")
+                       .functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get(SecondLevelCacheMetrics.PUTS).tag("region", Case.CACHE_REGION)
+                       .functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get(SecondLevelCacheMetrics.REQUESTS)
+                       .tags("region", CaseRepository.SEARCHES_CACHE_REGION, "result", "hit")
+                       .functionCounter().count()).isZero();
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.model.Case;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CaseSecondLevelCacheTest {
+
+    private Cache cache;
+    private CaseSecondLevelCache secondLevelCache;
+
+    @BeforeEach
+    void setUp() {
+        cache = mock(Cache.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        secondLevelCache = new CaseSecondLevelCache(entityManagerFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evict_outsideTransaction_evictsCasesAndSearchesOnce() {
+        secondLevelCache.evict(List.of(1, 2));
+
+        verify(cache).evictEntityData(Case.class, 1);
+        verify(cache).evictEntityData(Case.class, 2);
+        verify(cache).evictQueryRegion(CaseRepository.SEARCHES_CACHE_REGION);
+    }
+
+    @Test
+    void evictAll_inTransaction_evictsAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        secondLevelCache.evictAll();
+        verify(cache).evictEntityData(Case.class);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(cache, times(2)).evictEntityData(Case.class);
+        verify(cache, times(2)).evictQueryRegion(CaseRepository.SEARCHES_CACHE_REGION);
+    }
+
+    @Test
+    void evictSearches_leavesCasesCached() {
+        secondLevelCache.evictSearches();
+
+        verify(cache).evictQueryRegion(CaseRepository.SEARCHES_CACHE_REGION);
+        verify(cache, times(0)).evictEntityData(Case.class);
+    }
+}
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+import uk.gov.hmcts.reform.dev.storage.CaseDescriptionCodec;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CaseDescriptionBackfillServiceTest {
+
+    private static final Duration PAUSE = Duration.ofMillis(100);
+    private static final Duration RETRY_INTERVAL = Duration.ofMinutes(1);
+
+    private CaseRepository caseRepository;
+    private CaseDescriptionCodec descriptionCodec;
+    private ScheduledExecutorService scheduler;
+    private CaseDescriptionBackfillService service;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository = mock(CaseRepository.class);
+        descriptionCodec = mock(CaseDescriptionCodec.class);
+        scheduler = mock(ScheduledExecutorService.class);
+        service = new CaseDescriptionBackfillService(
+            caseRepository, descriptionCodec, 500, PAUSE, RETRY_INTERVAL, scheduler
+        );
+    }
+
+    @Test
+    void compressNextBatch_carriesOnAfterLastCaseLookedAt() {
+        when(caseRepository.compressDescriptions(0, 500)).thenReturn(1000);
+        when(caseRepository.compressDescriptions(1000, 500)).thenReturn(1000);
+
+        service.compressNextBatch();
+        service.compressNextBatch();
+
+        verify(caseRepository).compressDescriptions(1000, 500);
+        verify(scheduler).schedule(any(Runnable.class), eq(PAUSE.toMillis()), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void compressNextBatch_stopsOnceNoCasesAreLeft() {
+        when(caseRepository.compressDescriptions(0, 500)).thenReturn(0);
+
+        service.compressNextBatch();
+
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    void compressNextBatch_retriesFailedBatchLater() {
+        when(caseRepository.compressDescriptions(0, 500)).thenReturn(1000);
+        service.compressNextBatch();
+        when(caseRepository.compressDescriptions(1000, 500)).thenThrow(new IllegalStateException("Lost connection"));
+
+        service.compressNextBatch();
+
+        verify(scheduler).schedule(
+            any(Runnable.class), eq(RETRY_INTERVAL.toMillis()), eq(TimeUnit.MILLISECONDS)
+        );
+    }
+
+    @Test
+    void start_doesNothingWhileCompressionIsOff() {
+        when(descriptionCodec.isCompressing()).thenReturn(false);
+
+        service.start();
+
+        verify(scheduler, never()).execute(any());
+        verify(caseRepository, never()).compressDescriptions(anyInt(), anyInt());
+    }
+}
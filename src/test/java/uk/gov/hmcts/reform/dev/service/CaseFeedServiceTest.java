@@ -0,0 +1,127 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import uk.gov.hmcts.reform.dev.model.CaseEvent;
+import uk.gov.hmcts.reform.dev.model.CaseFeedEvent;
+import uk.gov.hmcts.reform.dev.model.CaseFeedPage;
+import uk.gov.hmcts.reform.dev.repository.CaseEventRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CaseFeedServiceTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService streamExecutor = Executors.newSingleThreadExecutor();
+
+    private CaseEventRepository caseEventRepository;
+    private CaseFeedService service;
+
+    @BeforeEach
+    void setUp() {
+        caseEventRepository = mock(CaseEventRepository.class);
+        service = new CaseFeedService(caseEventRepository, Duration.ofMillis(50), Duration.ofSeconds(5),
+            Duration.ofHours(1), Duration.ofDays(7), Duration.ofMinutes(5), scheduler, streamExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        streamExecutor.shutdownNow();
+    }
+
+    @Test
+    void read_returnsSettledEventsWithCursor() {
+        CaseFeedEvent first = event(11, 1);
+        CaseFeedEvent second = event(12, 2);
+        when(caseEventRepository.findAfter(10, 100)).thenReturn(List.of(first, second));
+
+        CaseFeedPage page = service.read(10, 100);
+
+        assertThat(page.events()).containsExactly(first, second);
+        assertThat(page.nextCursor()).isEqualTo(12);
+    }
+
+    @Test
+    void read_noEvents_keepsCursor() {
+        CaseFeedPage page = service.read(10, 100);
+
+        assertThat(page.events()).isEmpty();
+        assertThat(page.nextCursor()).isEqualTo(10);
+    }
+
+    @Test
+    void poll_returnsAvailableEventsAtOnce() {
+        CaseFeedEvent settled = event(11, 1);
+        when(caseEventRepository.findAfter(10, 100)).thenReturn(List.of(settled));
+
+        CompletableFuture<CaseFeedPage> result = service.poll(10, 100, Duration.ofSeconds(5));
+
+        assertThat(result.getNow(null).events()).containsExactly(settled);
+    }
+
+    @Test
+    void poll_completesWhenEventsArrive() throws Exception {
+        CompletableFuture<CaseFeedPage> result = service.poll(10, 100, Duration.ofSeconds(5));
+        assertThat(result).isNotDone();
+
+        CaseFeedEvent settled = event(11, 1);
+        when(caseEventRepository.findLatestId()).thenReturn(11L);
+        when(caseEventRepository.findAfter(10, 100)).thenReturn(List.of(settled));
+        service.notifyConsumers();
+
+        assertThat(result.get(1, TimeUnit.SECONDS).events()).containsExactly(settled);
+    }
+
+    @Test
+    void poll_completesEmptyWhenWaitIsOver() throws Exception {
+        CompletableFuture<CaseFeedPage> result = service.poll(10, 100, Duration.ofMillis(50));
+
+        CaseFeedPage page = result.get(1, TimeUnit.SECONDS);
+        assertThat(page.events()).isEmpty();
+        assertThat(page.nextCursor()).isEqualTo(10);
+    }
+
+    @Test
+    void maintain_compactsAndExpiresTombstones() {
+        ArgumentCaptor<LocalDateTime> compactBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> expireBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+
+        service.maintain();
+
+        verify(caseEventRepository).compact(compactBefore.capture());
+        verify(caseEventRepository).deleteTombstones(expireBefore.capture());
+        assertThat(compactBefore.getValue())
+            .isCloseTo(LocalDateTime.now().minusHours(1), within(1, ChronoUnit.MINUTES));
+        assertThat(expireBefore.getValue())
+            .isCloseTo(LocalDateTime.now().minusDays(7), within(1, ChronoUnit.MINUTES));
+    }
+
+    @Test
+    void maintain_failureDoesNotEscape() {
+        when(caseEventRepository.compact(any(LocalDateTime.class))).thenThrow(new IllegalStateException("Down"));
+
+        service.maintain();
+    }
+
+    private static CaseFeedEvent event(long sequence, int caseId) {
+        return new CaseFeedEvent(sequence, caseId, CaseEvent.Type.CREATED, LocalDateTime.now(), null);
+    }
+}
@@ -0,0 +1,127 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseIngestResult;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.dev.model.CaseIngestResult.Status.CREATED;
+import static uk.gov.hmcts.reform.dev.model.CaseIngestResult.Status.FAILED;
+import static uk.gov.hmcts.reform.dev.model.CaseIngestResult.Status.REJECTED;
+
+class CaseIngestServiceTest {
+
+    private CaseRepository caseRepository;
+    private CaseIngestService service;
+    private List<Integer> batchSizes;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository = mock(CaseRepository.class);
+        service = new CaseIngestService(caseRepository, JsonMapper.builder().findAndAddModules().build(), 2);
+        batchSizes = new ArrayList<>();
+        AtomicInteger ids = new AtomicInteger();
+        doAnswer(invocation -> {
+            List<Case> cases = invocation.getArgument(0);
+            batchSizes.add(cases.size());
+            cases.forEach(newCase -> newCase.setId(ids.incrementAndGet()));
+            return null;
+        }).when(caseRepository).insertAll(anyList());
+    }
+
+    @Test
+    void ingest_jsonArray_insertsInBatches() throws Exception {
+        List<CaseIngestResult> results = service.ingest(json(
+            "[{\"caseNumber\":1,\"title\":\"One\"},{\"caseNumber\":2,\"title\":\"Two\"},"
+                + "{\"caseNumber\":3,\"title\":\"Three\"}]"
+        ));
+
+        assertThat(batchSizes).containsExactly(2, 1);
+        assertThat(results).containsExactly(
+            CaseIngestResult.created(0, 1),
+            CaseIngestResult.created(1, 2),
+            CaseIngestResult.created(2, 3)
+        );
+    }
+
+    @Test
+    void ingest_ndjson_rejectsInvalidItemsInPlace() throws Exception {
+        List<CaseIngestResult> results = service.ingest(json(
+            "{\"caseNumber\":1,\"title\":\"One\"}\n{\"caseNumber\":2}\n{\"caseNumber\":3,\"title\":\"Three\"}\n"
+        ));
+
+        assertThat(results).extracting(CaseIngestResult::index).containsExactly(0, 1, 2);
+        assertThat(results).extracting(CaseIngestResult::status).containsExactly(CREATED, REJECTED, CREATED);
+        assertThat(results.get(1).error()).isEqualTo(CaseIngestService.INVALID_CASE);
+    }
+
+    @Test
+    void ingest_defaultsCreatedDateAndIgnoresIds() throws Exception {
+        List<Case> inserted = new ArrayList<>();
+        doAnswer(invocation -> inserted.addAll(invocation.getArgument(0)))
+            .when(caseRepository).insertAll(anyList());
+
+        service.ingest(json("[{\"id\":42,\"caseNumber\":1,\"title\":\"One\"}]"));
+
+        assertThat(inserted).singleElement().satisfies(newCase -> {
+            assertThat(newCase.getCreatedDate()).isNotNull();
+            assertThat(newCase.getId()).isZero();
+        });
+    }
+
+    @Test
+    void ingest_malformedItem_stopsReadingAndKeepsEarlierItems() throws Exception {
+        List<CaseIngestResult> results = service.ingest(json(
+            "{\"caseNumber\":1,\"title\":\"One\"}\n{\"caseNumber\":\"not a number\",\"title\":\"Two\"}\n"
+        ));
+
+        assertThat(results).extracting(CaseIngestResult::status).containsExactly(CREATED, REJECTED);
+        assertThat(results.get(1).error()).startsWith("Malformed case");
+    }
+
+    @Test
+    void ingest_failedBatch_isRetriedOneAtATime() throws Exception {
+        doAnswer(invocation -> {
+            List<Case> cases = invocation.getArgument(0);
+            if (cases.stream().anyMatch(newCase -> "Bad".equals(newCase.getTitle()))) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+            cases.forEach(newCase -> newCase.setId(7));
+            return null;
+        }).when(caseRepository).insertAll(anyList());
+
+        List<CaseIngestResult> results = service.ingest(json(
+            "[{\"caseNumber\":1,\"title\":\"Good\"},{\"caseNumber\":2,\"title\":\"Bad\"}]"
+        ));
+
+        assertThat(results).extracting(CaseIngestResult::status).containsExactly(CREATED, FAILED);
+        assertThat(results.get(1).error()).isEqualTo("bad row");
+    }
+
+    @Test
+    void ingest_emptyInput_insertsNothing() throws Exception {
+        assertThat(service.ingest(json(""))).isEmpty();
+        verify(caseRepository, never()).insertAll(any());
+    }
+
+    private InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseLookup;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.dev.repository.CaseRepository.CASES_CACHE;
+
+class CaseLookupServiceTest {
+
+    private CaseRepository caseRepository;
+    private CacheManager cacheManager;
+    private CaseLookupService service;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository = mock(CaseRepository.class);
+        cacheManager = new ConcurrentMapCacheManager(CASES_CACHE);
+        service = new CaseLookupService(caseRepository, cacheManager);
+    }
+
+    @Test
+    void lookUp_readsOnlyUncachedIdsOnceEach() {
+        Case cached = Case.builder().id(1).title("Cached").build();
+        Case stored = Case.builder().id(3).title("Stored").build();
+        cacheManager.getCache(CASES_CACHE).put(1, cached);
+        when(caseRepository.findCasesById(List.of(3, 4))).thenReturn(Arrays.asList(stored, null));
+
+        List<CaseLookup> results = service.lookUp(List.of(3, 1, 4, 3));
+
+        assertThat(results).containsExactly(
+            CaseLookup.found(stored), CaseLookup.found(cached), CaseLookup.notFound(4), CaseLookup.found(stored)
+        );
+        assertThat(cacheManager.getCache(CASES_CACHE).get(3)).isNull();
+    }
+
+    @Test
+    void lookUp_allCached_readsNothing() {
+        Case cached = Case.builder().id(1).title("Cached").build();
+        cacheManager.getCache(CASES_CACHE).put(1, cached);
+
+        assertThat(service.lookUp(List.of(1))).containsExactly(CaseLookup.found(cached));
+        assertThat(service.lookUp(List.of())).isEmpty();
+        verify(caseRepository, never()).findCasesById(any());
+    }
+}
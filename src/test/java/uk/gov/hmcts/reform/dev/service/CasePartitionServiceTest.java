@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CasePartitionServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(5);
+
+    private CaseRepository caseRepository;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository = mock(CaseRepository.class);
+        when(caseRepository.isPartitioned()).thenReturn(true);
+    }
+
+    @Test
+    void maintain_createsMissingPartitionsAhead() {
+        when(caseRepository.findPartitionMonths()).thenReturn(List.of(YearMonth.of(2026, 10), YearMonth.of(2026, 11)));
+
+        service(Period.ZERO).maintain(TODAY);
+
+        verify(caseRepository).createPartition(YearMonth.of(2026, 12), LOCK_TIMEOUT);
+        verify(caseRepository).createPartition(YearMonth.of(2027, 1), LOCK_TIMEOUT);
+        verify(caseRepository, never()).createPartition(YearMonth.of(2026, 10), LOCK_TIMEOUT);
+        verify(caseRepository, never()).createPartition(YearMonth.of(2027, 2), LOCK_TIMEOUT);
+    }
+
+    @Test
+    void maintain_archivesMonthsEndedBeforeRetention() {
+        when(caseRepository.findPartitionMonths()).thenReturn(List.of(
+            YearMonth.of(2024, 9), YearMonth.of(2024, 10), YearMonth.of(2025, 9), YearMonth.of(2026, 10)
+        ));
+
+        service(Period.ofYears(2)).maintain(TODAY);
+
+        verify(caseRepository).archivePartition(YearMonth.of(2024, 9), LOCK_TIMEOUT);
+        // Not over until the end of October
+        verify(caseRepository, never()).archivePartition(YearMonth.of(2024, 10), LOCK_TIMEOUT);
+        verify(caseRepository, never()).archivePartition(YearMonth.of(2025, 9), LOCK_TIMEOUT);
+    }
+
+    @Test
+    void maintain_keepsEverythingWithoutRetention() {
+        when(caseRepository.findPartitionMonths()).thenReturn(List.of(YearMonth.of(2000, 1)));
+
+        service(Period.ZERO).maintain(TODAY);
+
+        verify(caseRepository, never()).archivePartition(any(), any());
+    }
+
+    @Test
+    void maintain_doesNothingUntilTableIsPartitioned() {
+        when(caseRepository.isPartitioned()).thenReturn(false);
+
+        service(Period.ofYears(2)).maintain(TODAY);
+
+        verify(caseRepository, never()).findPartitionMonths();
+        verify(caseRepository, never()).createPartition(any(), any());
+    }
+
+    @Test
+    void maintain_survivesLockTimeout() {
+        doThrow(new IllegalStateException("canceling statement due to lock timeout"))
+            .when(caseRepository).createPartition(any(), any());
+
+        service(Period.ZERO).maintain(TODAY);
+
+        verify(caseRepository).createPartition(YearMonth.of(2026, 10), LOCK_TIMEOUT);
+    }
+
+    @Test
+    void maintain_failedMonthHoldsUpNoOther() {
+        when(caseRepository.findPartitionMonths()).thenReturn(List.of(YearMonth.of(2024, 9)));
+        doThrow(new IllegalStateException("updated partition constraint for default partition would be violated"))
+            .when(caseRepository).createPartition(YearMonth.of(2026, 11), LOCK_TIMEOUT);
+
+        service(Period.ofYears(2)).maintain(TODAY);
+
+        verify(caseRepository).createPartition(YearMonth.of(2026, 12), LOCK_TIMEOUT);
+        verify(caseRepository).createPartition(YearMonth.of(2027, 1), LOCK_TIMEOUT);
+        verify(caseRepository).archivePartition(YearMonth.of(2024, 9), LOCK_TIMEOUT);
+    }
+
+    private CasePartitionService service(Period retention) {
+        return new CasePartitionService(caseRepository, 3, retention, LOCK_TIMEOUT, Duration.ofHours(1),
+            mock(ScheduledExecutorService.class));
+    }
+}
@@ -0,0 +1,139 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CasePurgeJob;
+import uk.gov.hmcts.reform.dev.repository.CasePurgeCriteria;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.dev.repository.CaseRepository.CASES_CACHE;
+
+class CasePurgeServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CASES_CACHE);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private CaseRepository caseRepository;
+    private CasePurgeService service;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository = mock(CaseRepository.class);
+        service = new CasePurgeService(caseRepository, cacheManager, BATCH_SIZE, 0, Duration.ofHours(1), executor);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void purgeByCriteria_deletesBatchesUntilOneIsShort() throws Exception {
+        CasePurgeCriteria criteria = new CasePurgeCriteria(null, 1234, null);
+        when(caseRepository.deleteBatch(criteria, BATCH_SIZE))
+            .thenReturn(List.of(1, 2), List.of(3, 4), List.of(5));
+
+        CasePurgeJob queued = service.submit(criteria);
+        awaitJobs();
+
+        verify(caseRepository, times(3)).deleteBatch(criteria, BATCH_SIZE);
+        CasePurgeJob job = service.getJob(queued.id()).orElseThrow();
+        assertThat(job.state()).isEqualTo(CasePurgeJob.State.COMPLETED);
+        assertThat(job.deleted()).isEqualTo(5);
+        assertThat(job.finished()).isNotNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void purgeByIds_deletesIdsInChunks() throws Exception {
+        LocalDateTime cutoff = LocalDateTime.of(2026, 1, 1, 0, 0);
+        CasePurgeCriteria criteria = new CasePurgeCriteria(List.of(1, 2, 3), null, cutoff);
+        when(caseRepository.deleteBatch(any(), eq(BATCH_SIZE))).thenReturn(List.of(1, 2), List.of());
+
+        service.submit(criteria);
+        awaitJobs();
+
+        verify(caseRepository).deleteBatch(new CasePurgeCriteria(List.of(1, 2), null, cutoff), BATCH_SIZE);
+        verify(caseRepository).deleteBatch(new CasePurgeCriteria(List.of(3), null, cutoff), BATCH_SIZE);
+        assertThat(service.getJobs()).singleElement()
+            .extracting(CasePurgeJob::deleted)
+            .isEqualTo(2L);
+    }
+
+    @Test
+    void purge_evictsDeletedCasesFromCache() throws Exception {
+        Cache cache = cacheManager.getCache(CASES_CACHE);
+        cache.put(1, Case.builder().id(1).build());
+        cache.put(2, Case.builder().id(2).build());
+        when(caseRepository.deleteBatch(any(), eq(BATCH_SIZE))).thenReturn(List.of(1));
+
+        service.submit(new CasePurgeCriteria(List.of(1), null, null));
+        awaitJobs();
+
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(2)).isNotNull();
+    }
+
+    @Test
+    void purge_reportsFailure() throws Exception {
+        when(caseRepository.deleteBatch(any(), eq(BATCH_SIZE)))
+            .thenReturn(List.of(1, 2))
+            .thenThrow(new IllegalStateException("Connection lost"));
+
+        CasePurgeJob queued = service.submit(new CasePurgeCriteria(null, 1234, null));
+        awaitJobs();
+
+        CasePurgeJob job = service.getJob(queued.id()).orElseThrow();
+        assertThat(job.state()).isEqualTo(CasePurgeJob.State.FAILED);
+        assertThat(job.deleted()).isEqualTo(2);
+        assertThat(job.error()).isEqualTo("Connection lost");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void purge_isPacedToRateLimit() throws Exception {
+        service = new CasePurgeService(caseRepository, cacheManager, BATCH_SIZE, 20, Duration.ofHours(1), executor);
+        when(caseRepository.deleteBatch(any(), eq(BATCH_SIZE))).thenReturn(List.of(1, 2), List.of(3, 4), List.of());
+
+        long start = System.nanoTime();
+        service.submit(new CasePurgeCriteria(null, 1234, null));
+        awaitJobs();
+
+        // Four rows at twenty a second take at least 200ms
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    void submit_removesJobsFinishedBeforeRetention() throws Exception {
+        service = new CasePurgeService(caseRepository, cacheManager, BATCH_SIZE, 0, Duration.ZERO, executor);
+        when(caseRepository.deleteBatch(any(), eq(BATCH_SIZE))).thenReturn(List.of());
+        CasePurgeJob first = service.submit(new CasePurgeCriteria(null, 1, null));
+        Thread.sleep(50);
+
+        CasePurgeJob second = service.submit(new CasePurgeCriteria(null, 2, null));
+        awaitJobs();
+
+        assertThat(service.getJob(first.id())).isEmpty();
+        assertThat(service.getJob(second.id())).isPresent();
+    }
+
+    private void awaitJobs() throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+}
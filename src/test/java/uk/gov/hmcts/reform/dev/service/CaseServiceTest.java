@@ -0,0 +1,95 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseEvent;
+import uk.gov.hmcts.reform.dev.model.CaseNumberCount;
+import uk.gov.hmcts.reform.dev.model.CaseStats;
+import uk.gov.hmcts.reform.dev.repository.CaseEventRepository;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+import uk.gov.hmcts.reform.dev.stats.CaseCounts;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CaseServiceTest {
+
+    private CaseRepository caseRepository;
+    private CaseEventRepository caseEventRepository;
+    private CaseCounts caseCounts;
+    private CaseService caseService;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository = mock(CaseRepository.class);
+        caseEventRepository = mock(CaseEventRepository.class);
+        caseCounts = new CaseCounts();
+        caseService = new CaseService(caseRepository, caseEventRepository, caseCounts);
+    }
+
+    @Test
+    void save_newCase_recordsCreated() {
+        Case newCase = Case.builder().caseNumber(1).title("New").build();
+        when(caseRepository.save(newCase)).thenReturn(Case.builder().id(7).caseNumber(1).title("New").build());
+
+        Case saved = caseService.save(newCase);
+
+        assertThat(saved.getId()).isEqualTo(7);
+        assertThat(caseCounts.snapshot().byCaseNumber()).containsExactlyEntriesOf(Map.of(1, 1L));
+        verify(caseEventRepository).append(CaseEvent.Type.CREATED, List.of(7));
+    }
+
+    @Test
+    void save_existingCase_recordsUpdated() {
+        caseCounts.reset(List.of(new CaseNumberCount(3, 1)));
+        Case existingCase = Case.builder().id(7).caseNumber(1).title("Existing").build();
+        when(caseRepository.findCaseNumberById(7)).thenReturn(3);
+        when(caseRepository.save(any(Case.class))).thenReturn(existingCase);
+
+        caseService.save(existingCase);
+
+        assertThat(caseCounts.snapshot()).isEqualTo(new CaseStats(1, new TreeMap<>(Map.of(1, 1L))));
+        verify(caseEventRepository).append(CaseEvent.Type.UPDATED, List.of(7));
+    }
+
+    @Test
+    void update_recordsUpdatedOnlyWhenUpdated() {
+        caseCounts.reset(List.of(new CaseNumberCount(5, 1)));
+        when(caseRepository.findCaseNumberById(7)).thenReturn(5);
+        when(caseRepository.updateCase(7, 2, 1, "Changed", null)).thenReturn(1);
+        Case changes = Case.builder().caseNumber(1).title("Changed").build();
+
+        assertThat(caseService.update(7, 2, changes)).isTrue();
+        assertThat(caseService.update(8, 2, changes)).isFalse();
+
+        assertThat(caseCounts.snapshot().byCaseNumber()).containsExactlyEntriesOf(Map.of(1, 1L));
+        verify(caseEventRepository).append(CaseEvent.Type.UPDATED, List.of(7));
+    }
+
+    @Test
+    void delete_recordsDeletedOnlyWhenDeleted() {
+        caseCounts.reset(List.of(new CaseNumberCount(5, 2)));
+        when(caseRepository.findCaseNumberById(7)).thenReturn(5);
+        when(caseRepository.deleteCaseById(7)).thenReturn(1);
+
+        assertThat(caseService.delete(7)).isTrue();
+        assertThat(caseCounts.snapshot().total()).isEqualTo(1);
+        verify(caseEventRepository).append(CaseEvent.Type.DELETED, List.of(7));
+    }
+
+    @Test
+    void delete_missingCase_recordsNothing() {
+        assertThat(caseService.delete(8)).isFalse();
+        assertThat(caseCounts.snapshot().total()).isZero();
+        verifyNoInteractions(caseEventRepository);
+    }
+}
@@ -0,0 +1,132 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.model.CaseCreatedStats;
+import uk.gov.hmcts.reform.dev.model.CaseNumberCount;
+import uk.gov.hmcts.reform.dev.model.CasePeriod;
+import uk.gov.hmcts.reform.dev.model.CasePeriodCount;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+import uk.gov.hmcts.reform.dev.stats.CaseCounts;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CaseStatsServiceTest {
+
+    private CaseRepository caseRepository;
+    private CaseCounts caseCounts;
+    private CaseStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository = mock(CaseRepository.class);
+        caseCounts = new CaseCounts();
+        service = new CaseStatsService(
+            caseRepository, caseCounts, Duration.ofMinutes(10), Duration.ofMinutes(1), 2,
+            mock(ScheduledExecutorService.class)
+        );
+    }
+
+    @Test
+    void stats_loadsCountsOnlyOnce() {
+        when(caseRepository.findCaseNumberCounts()).thenReturn(List.of(new CaseNumberCount(1, 2)));
+
+        service.stats();
+        caseCounts.added(List.of(1));
+
+        assertThat(service.stats().total()).isEqualTo(3);
+        verify(caseRepository, times(1)).findCaseNumberCounts();
+    }
+
+    @Test
+    void resync_replacesDriftedCounts() {
+        caseCounts.reset(List.of(new CaseNumberCount(1, 7)));
+        when(caseRepository.findCaseNumberCounts()).thenReturn(List.of(new CaseNumberCount(1, 5)));
+
+        service.resync();
+
+        assertThat(service.stats().total()).isEqualTo(5);
+    }
+
+    @Test
+    void resync_failureKeepsCounts() {
+        caseCounts.reset(List.of(new CaseNumberCount(1, 7)));
+        when(caseRepository.findCaseNumberCounts()).thenThrow(new IllegalStateException("Database down"));
+
+        service.resync();
+
+        assertThat(service.stats().total()).isEqualTo(7);
+    }
+
+    @Test
+    void reload_readsSummariesOnceThereAreAny() {
+        when(caseRepository.hasCountSummaries()).thenReturn(true);
+        when(caseRepository.findCaseNumberCountSummaries()).thenReturn(List.of(new CaseNumberCount(1, 4)));
+
+        service.reload();
+
+        assertThat(service.stats().total()).isEqualTo(4);
+        verify(caseRepository, never()).findCaseNumberCounts();
+    }
+
+    @Test
+    void created_countsFromTableUntilThereAreSummaries() {
+        LocalDate day = LocalDate.of(2026, 10, 14);
+        List<CasePeriodCount> counts = List.of(new CasePeriodCount(day, 3), new CasePeriodCount(day.plusDays(1), 2));
+        when(caseRepository.findCreatedCounts(CasePeriod.DAY, day, day.plusDays(2))).thenReturn(counts);
+        when(caseRepository.findCreatedCountSummaries(CasePeriod.DAY, day, day.plusDays(2))).thenReturn(counts);
+
+        CaseCreatedStats fromTable = service.created(CasePeriod.DAY, day, day.plusDays(2));
+        assertThat(fromTable.total()).isEqualTo(5);
+        assertThat(fromTable.counts()).isEqualTo(counts);
+
+        when(caseRepository.hasCountSummaries()).thenReturn(true);
+        service.refresh();
+        service.created(CasePeriod.DAY, day, day.plusDays(2));
+
+        verify(caseRepository, times(1)).findCreatedCounts(CasePeriod.DAY, day, day.plusDays(2));
+        verify(caseRepository, times(1)).findCreatedCountSummaries(CasePeriod.DAY, day, day.plusDays(2));
+    }
+
+    @Test
+    void created_widensRangeToWholeWeeks() {
+        // A Wednesday to a Monday
+        LocalDate from = LocalDate.of(2026, 10, 14);
+        LocalDate to = LocalDate.of(2026, 10, 26);
+
+        CaseCreatedStats stats = service.created(CasePeriod.WEEK, from, to);
+        CaseCreatedStats toMidWeek = service.created(CasePeriod.WEEK, from, to.plusDays(1));
+
+        assertThat(stats.from()).isEqualTo(LocalDate.of(2026, 10, 12));
+        assertThat(stats.to()).isEqualTo(to);
+        assertThat(toMidWeek.to()).isEqualTo(LocalDate.of(2026, 11, 2));
+        verify(caseRepository).findCreatedCounts(CasePeriod.WEEK, LocalDate.of(2026, 10, 12), to);
+    }
+
+    @Test
+    void refresh_foldsDeltasInBatchesUntilNoneAreLeft() {
+        when(caseRepository.hasCountSummaries()).thenReturn(true);
+        when(caseRepository.foldCountDeltas(2)).thenReturn(2, 2, 1);
+
+        service.refresh();
+
+        verify(caseRepository, times(3)).foldCountDeltas(2);
+    }
+
+    @Test
+    void refresh_skipsWithoutSummaries() {
+        service.refresh();
+
+        verify(caseRepository, never()).foldCountDeltas(2);
+    }
+}
@@ -0,0 +1,170 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.model.CaseEvent;
+import uk.gov.hmcts.reform.dev.model.CaseIngestResult;
+import uk.gov.hmcts.reform.dev.model.CaseNumberCount;
+import uk.gov.hmcts.reform.dev.repository.CaseSecondLevelCache;
+import uk.gov.hmcts.reform.dev.repository.ReactiveCaseRepository;
+import uk.gov.hmcts.reform.dev.stats.CaseCounts;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.dev.repository.CaseRepository.CASES_CACHE;
+
+class ReactiveCaseServiceTest {
+
+    private ReactiveCaseRepository caseRepository;
+    private CaseCounts caseCounts;
+    private CacheManager cacheManager;
+    private CaseSecondLevelCache secondLevelCache;
+    private ReactiveCaseService caseService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        caseRepository = mock(ReactiveCaseRepository.class);
+        TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(call -> call.getArgument(0));
+        when(transactionalOperator.transactional(any(Flux.class))).thenAnswer(call -> call.getArgument(0));
+        caseCounts = new CaseCounts();
+        cacheManager = new ConcurrentMapCacheManager(CASES_CACHE);
+        secondLevelCache = mock(CaseSecondLevelCache.class);
+        caseService = new ReactiveCaseService(
+            caseRepository, transactionalOperator, caseCounts, cacheManager, secondLevelCache, 2
+        );
+        when(caseRepository.appendEvents(any(), anyList())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void save_newCase_recordsCreatedWithAssignedId() {
+        Case newCase = Case.builder().caseNumber(1).title("New").build();
+        when(caseRepository.insertAll(List.of(newCase))).thenReturn(Mono.fromRunnable(() -> newCase.setId(7)));
+        Case inserted = Case.builder().id(7).caseNumber(1).title("New").build();
+        when(caseRepository.findById(7)).thenReturn(Mono.just(inserted));
+
+        StepVerifier.create(caseService.save(newCase))
+            .assertNext(saved -> assertThat(saved.getId()).isEqualTo(7))
+            .verifyComplete();
+
+        assertThat(caseCounts.snapshot().byCaseNumber()).containsExactlyEntriesOf(Map.of(1, 1L));
+        verify(caseRepository).appendEvents(CaseEvent.Type.CREATED, List.of(7));
+        verify(secondLevelCache).evictSearches();
+    }
+
+    @Test
+    void save_staleCase_failsWithoutRecordingAnything() {
+        Case staleCase = Case.builder().id(7).caseNumber(1).title("Stale").build();
+        when(caseRepository.findCaseNumberById(7)).thenReturn(Mono.just(1));
+        when(caseRepository.replace(staleCase)).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(caseService.save(staleCase))
+            .expectError(OptimisticLockingFailureException.class)
+            .verify();
+
+        verify(caseRepository, never()).appendEvents(any(), anyList());
+    }
+
+    @Test
+    void update_recordsUpdatedAndEvictsOnlyWhenUpdated() {
+        Case changes = Case.builder().caseNumber(1).title("Changed").build();
+        caseCounts.reset(List.of(new CaseNumberCount(5, 1)));
+        cacheManager.getCache(CASES_CACHE).put(7, changes);
+        when(caseRepository.findCaseNumberById(7)).thenReturn(Mono.just(5));
+        when(caseRepository.update(7, 2, changes)).thenReturn(Mono.just(1L));
+        when(caseRepository.update(7, 1, changes)).thenReturn(Mono.just(0L));
+        when(caseRepository.findCaseNumberById(8)).thenReturn(Mono.empty());
+
+        StepVerifier.create(caseService.update(7, 1, changes)).expectNext(false).verifyComplete();
+        StepVerifier.create(caseService.update(8, 2, changes)).expectNext(false).verifyComplete();
+        assertThat(cacheManager.getCache(CASES_CACHE).get(7)).isNotNull();
+        verify(secondLevelCache, never()).evict(anyList());
+        StepVerifier.create(caseService.update(7, 2, changes)).expectNext(true).verifyComplete();
+
+        assertThat(cacheManager.getCache(CASES_CACHE).get(7)).isNull();
+        verify(secondLevelCache).evict(List.of(7));
+        assertThat(caseCounts.snapshot().byCaseNumber()).containsExactlyEntriesOf(Map.of(1, 1L));
+        verify(caseRepository).appendEvents(CaseEvent.Type.UPDATED, List.of(7));
+    }
+
+    @Test
+    void delete_recordsDeletedOnlyWhenDeleted() {
+        caseCounts.reset(List.of(new CaseNumberCount(5, 2)));
+        when(caseRepository.findCaseNumberById(7)).thenReturn(Mono.just(5));
+        when(caseRepository.deleteById(7)).thenReturn(Mono.just(1L)).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(caseService.delete(7)).expectNext(true).verifyComplete();
+        StepVerifier.create(caseService.delete(7)).expectNext(false).verifyComplete();
+
+        assertThat(caseCounts.snapshot().total()).isEqualTo(1);
+        verify(caseRepository).appendEvents(CaseEvent.Type.DELETED, List.of(7));
+    }
+
+    @Test
+    void ingest_reportsEachItemInOrderAndStopsAtMalformedInput() {
+        when(caseRepository.insertAll(anyList())).thenReturn(Mono.empty());
+        Flux<Case> cases = Flux.concat(
+            Flux.just(
+                Case.builder().caseNumber(1).title("One").build(),
+                Case.builder().caseNumber(2).build(),
+                Case.builder().caseNumber(3).title("Three").build()
+            ),
+            Flux.error(new DecodingException("JSON decoding error"))
+        );
+
+        StepVerifier.create(caseService.ingest(cases))
+            .assertNext(results -> assertThat(results).extracting(CaseIngestResult::index, CaseIngestResult::status)
+                .containsExactly(
+                    tuple(0, CaseIngestResult.Status.CREATED),
+                    tuple(1, CaseIngestResult.Status.REJECTED),
+                    tuple(2, CaseIngestResult.Status.CREATED),
+                    tuple(3, CaseIngestResult.Status.REJECTED)
+                ))
+            .verifyComplete();
+
+        assertThat(caseCounts.snapshot().total()).isEqualTo(2);
+    }
+
+    @Test
+    void ingest_retriesFailedBatchOneByOne() {
+        when(caseRepository.insertAll(anyList())).thenAnswer(call -> {
+            List<Case> batch = call.getArgument(0);
+            if (batch.stream().anyMatch(newCase -> newCase.getCaseNumber() == 2)) {
+                return Mono.error(new DataIntegrityViolationException("duplicate"));
+            }
+            return Mono.empty();
+        });
+
+        StepVerifier.create(caseService.ingest(Flux.just(
+                Case.builder().caseNumber(1).title("One").build(),
+                Case.builder().caseNumber(2).title("Two").build()
+            )))
+            .assertNext(results -> assertThat(results).extracting(CaseIngestResult::status)
+                .containsExactly(CaseIngestResult.Status.CREATED, CaseIngestResult.Status.FAILED))
+            .verifyComplete();
+
+        verify(caseRepository).appendEvents(eq(CaseEvent.Type.CREATED), anyList());
+        assertThat(caseCounts.snapshot().byCaseNumber()).containsExactlyEntriesOf(Map.of(1, 1L));
+    }
+}
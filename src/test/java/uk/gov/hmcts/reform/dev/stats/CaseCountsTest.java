@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.dev.stats;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.model.CaseNumberCount;
+import uk.gov.hmcts.reform.dev.model.CaseStats;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaseCountsTest {
+
+    private final CaseCounts caseCounts = new CaseCounts();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void adjustmentsApplyOnTopOfLoadedCounts() {
+        caseCounts.reset(List.of(new CaseNumberCount(1, 3), new CaseNumberCount(2, 1)));
+
+        caseCounts.added(List.of(1, 3, 3));
+        caseCounts.removed(List.of(2));
+        caseCounts.moved(1, 3);
+        caseCounts.moved(3, 3);
+
+        assertThat(caseCounts.isLoaded()).isTrue();
+        assertThat(caseCounts.snapshot()).isEqualTo(new CaseStats(6, new TreeMap<>(Map.of(1, 3L, 3, 3L))));
+    }
+
+    @Test
+    void resetReplacesCounts() {
+        caseCounts.added(List.of(1, 2));
+
+        caseCounts.reset(List.of(new CaseNumberCount(5, 4)));
+
+        assertThat(caseCounts.snapshot()).isEqualTo(new CaseStats(4, new TreeMap<>(Map.of(5, 4L))));
+    }
+
+    @Test
+    void adjustmentsInTransactionApplyOnlyOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        caseCounts.added(List.of(1, 1));
+        caseCounts.removed(List.of(2));
+
+        assertThat(caseCounts.snapshot().total()).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(caseCounts.snapshot()).isEqualTo(new CaseStats(1, new TreeMap<>(Map.of(1, 2L))));
+    }
+
+    @Test
+    void notLoadedUntilReset() {
+        caseCounts.added(List.of(1));
+
+        assertThat(caseCounts.isLoaded()).isFalse();
+    }
+}
@@ -0,0 +1,101 @@
+package uk.gov.hmcts.reform.dev.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.dev.storage.CaseDescriptionCodec.BYTES_METRIC;
+
+class CaseDescriptionCodecTest {
+
+    private static final String LONG_DESCRIPTION =
+        "Appeal against a decision of the Secretary of State. The appellant says the decision was wrong. ".repeat(20);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CaseDescriptionCodec codec = codec(CaseDescriptionCodec.Compression.LZ4);
+
+    @Test
+    void encode_compressesLongDescriptions() {
+        byte[] stored = codec.encode(LONG_DESCRIPTION);
+
+        assertThat(stored[0]).isEqualTo(CaseDescriptionCodec.LZ4);
+        assertThat(stored.length).isLessThan(LONG_DESCRIPTION.length() / 4);
+        assertThat(codec.decode(stored)).isEqualTo(LONG_DESCRIPTION);
+    }
+
+    @Test
+    void encode_storesShortDescriptionsAsText() {
+        byte[] stored = codec.encode("Café closure");
+
+        assertThat(stored[0]).isEqualTo(CaseDescriptionCodec.RAW);
+        assertThat(codec.decode(stored)).isEqualTo("Café closure");
+    }
+
+    @Test
+    void encode_storesIncompressibleDescriptionsAsText() {
+        StringBuilder random = new StringBuilder();
+        ThreadLocalRandom.current().ints(1000, 0x4E00, 0x9FFF).forEach(random::appendCodePoint);
+
+        byte[] stored = codec.encode(random.toString());
+
+        assertThat(stored[0]).isEqualTo(CaseDescriptionCodec.RAW);
+        assertThat(codec.decode(stored)).isEqualTo(random.toString());
+    }
+
+    @Test
+    void encode_leavesEverythingUncompressedWhenSwitchedOff() {
+        CaseDescriptionCodec uncompressed = codec(CaseDescriptionCodec.Compression.NONE);
+
+        byte[] stored = uncompressed.encode(LONG_DESCRIPTION);
+
+        assertThat(stored[0]).isEqualTo(CaseDescriptionCodec.RAW);
+        assertThat(uncompressed.isCompressing()).isFalse();
+        // Descriptions compressed while it was on stay readable
+        assertThat(uncompressed.decode(codec.encode(LONG_DESCRIPTION))).isEqualTo(LONG_DESCRIPTION);
+    }
+
+    @Test
+    void nullAndEmptyDescriptionsRoundTrip() {
+        assertThat(codec.encode(null)).isNull();
+        assertThat(codec.decode(null)).isNull();
+        assertThat(codec.decode(codec.encode(""))).isEmpty();
+    }
+
+    @Test
+    void decode_rejectsCorruptDescriptions() {
+        byte[] stored = codec.encode(LONG_DESCRIPTION);
+
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(stored, stored.length - 10)))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> codec.decode(new byte[] {CaseDescriptionCodec.LZ4, 0}))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> codec.decode(new byte[0]))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> codec.decode(new byte[] {7, 'a'}))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("encoding 7");
+    }
+
+    @Test
+    void encode_countsOriginalAndStoredBytes() {
+        byte[] stored = codec.encode(LONG_DESCRIPTION);
+        codec.encode("Short");
+
+        assertThat(bytes("original", "lz4")).isEqualTo(LONG_DESCRIPTION.length());
+        assertThat(bytes("stored", "lz4")).isEqualTo(stored.length);
+        assertThat(bytes("original", "none")).isEqualTo(5);
+        assertThat(bytes("stored", "none")).isEqualTo(6);
+    }
+
+    private CaseDescriptionCodec codec(CaseDescriptionCodec.Compression compression) {
+        return new CaseDescriptionCodec(meterRegistry, compression, 256);
+    }
+
+    private double bytes(String form, String compression) {
+        return meterRegistry.get(BYTES_METRIC).tag("form", form).tag("compression", compression).counter().count();
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.dev.warmup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.env.MockEnvironment;
+import uk.gov.hmcts.reform.dev.model.Case;
+import uk.gov.hmcts.reform.dev.repository.CaseRepository;
+import uk.gov.hmcts.reform.dev.service.CaseStatsService;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.dev.repository.CaseRepository.CASES_CACHE;
+
+class CaseWarmUpTest {
+
+    private DataSource dataSource;
+    private Connection connection;
+    private CaseRepository caseRepository;
+    private CaseStatsService caseStatsService;
+    private CacheManager cacheManager;
+    private CaseWarmUp warmUp;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        caseRepository = mock(CaseRepository.class);
+        caseStatsService = mock(CaseStatsService.class);
+        cacheManager = new ConcurrentMapCacheManager(CASES_CACHE);
+        // No local.server.port, so no endpoints are called
+        warmUp = new CaseWarmUp(
+            dataSource, caseRepository, caseStatsService, cacheManager, new MockEnvironment(),
+            3, 2, 1, Duration.ofSeconds(1)
+        );
+    }
+
+    @Test
+    void run_opensConnectionsLoadsCountsAndCachesHotCases() throws SQLException {
+        Case hot = Case.builder().id(9).caseNumber(1).title("Hot").build();
+        when(caseRepository.findRecentlyUpdatedIds(PageRequest.of(0, 2))).thenReturn(List.of(9));
+        when(caseRepository.findAllById(List.of(9))).thenReturn(List.of(hot));
+
+        warmUp.run(new DefaultApplicationArguments());
+
+        verify(dataSource, times(3)).getConnection();
+        verify(connection, times(3)).close();
+        verify(caseStatsService).reload();
+        assertThat(cacheManager.getCache(CASES_CACHE).get(9, Case.class)).isSameAs(hot);
+    }
+
+    @Test
+    void run_carriesOnPastFailedSteps() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("Pool exhausted"));
+        doThrow(new IllegalStateException("Database down")).when(caseStatsService).reload();
+
+        warmUp.run(new DefaultApplicationArguments());
+
+        verify(caseRepository).findRecentlyUpdatedIds(PageRequest.of(0, 2));
+    }
+}